@@ -0,0 +1,193 @@
+package org.openapi4j.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openapi4j.core.util.TreeUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Access to the shared fixtures and generator of large specifications/payloads.
+ * <p/>
+ * Generated specifications expose {@code /resources{i}/{id}} paths with a path parameter,
+ * a query parameter and a JSON body referencing one of the component schemas.
+ */
+final class Fixtures {
+  static final String API = "api";
+  static final String GENERATED_PREFIX = "generated-";
+
+  static final String API_FILE = "operation/api.yaml";
+  static final String SCHEMA_FILE = "schema/schema-draft4.json";
+  static final String DATA_FILE = "schema/data.json";
+
+  private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+  private static final int NB_SCHEMAS = 50;
+
+  private Fixtures() {
+  }
+
+  static URL resource(String path) {
+    URL url = Fixtures.class.getClassLoader().getResource(path);
+    if (url == null) {
+      throw new IllegalStateException("Missing fixture '" + path + "'");
+    }
+    return url;
+  }
+
+  static JsonNode readJson(String path) throws IOException {
+    return TreeUtil.json.readTree(resource(path));
+  }
+
+  /**
+   * Get the URL of the specification from its benchmark parameter value.
+   *
+   * @param spec {@code api} for the shared fixture or {@code generated-<nb paths>}.
+   * @return The URL of the specification.
+   */
+  static URL specUrl(String spec) throws IOException {
+    if (API.equals(spec)) {
+      return resource(API_FILE);
+    } else if (spec.startsWith(GENERATED_PREFIX)) {
+      return writeSpec(Integer.parseInt(spec.substring(GENERATED_PREFIX.length())));
+    }
+
+    throw new IllegalArgumentException("Unknown specification '" + spec + "'");
+  }
+
+  /**
+   * Write a generated specification to a temporary file.
+   *
+   * @param nbPaths The number of paths to generate.
+   * @return The URL of the generated file.
+   */
+  static URL writeSpec(int nbPaths) throws IOException {
+    File file = File.createTempFile("openapi4j-bench-" + nbPaths + "-", ".json");
+    file.deleteOnExit();
+    TreeUtil.json.writeValue(file, generateSpec(nbPaths));
+
+    return file.toURI().toURL();
+  }
+
+  static JsonNode generateSpec(int nbPaths) {
+    ObjectNode spec = FACTORY.objectNode();
+    spec.put("openapi", "3.0.0");
+    spec.set("info", FACTORY.objectNode().put("title", "Generated API").put("version", "1.0.0"));
+
+    ObjectNode paths = spec.putObject("paths");
+    for (int i = 0; i < nbPaths; i++) {
+      paths.set("/resources" + i + "/{id}", generatePath(i));
+    }
+
+    ObjectNode schemas = spec.putObject("components").putObject("schemas");
+    schemas.set("Address", generateAddressSchema());
+    for (int i = 0; i < NB_SCHEMAS; i++) {
+      schemas.set("Resource" + i, generateResourceSchema(i));
+    }
+
+    return spec;
+  }
+
+  /**
+   * Generate an array schema of resources, inlined without references.
+   */
+  static JsonNode generateArraySchema() {
+    ObjectNode resourceSchema = generateResourceSchema(0);
+    resourceSchema.with("properties").set("address", generateAddressSchema());
+
+    ObjectNode schema = FACTORY.objectNode();
+    schema.put("type", "array");
+    schema.set("items", resourceSchema);
+    return schema;
+  }
+
+  static ArrayNode generateArrayData(int nbItems) {
+    ArrayNode data = FACTORY.arrayNode();
+    for (int i = 0; i < nbItems; i++) {
+      data.add(generateResource(i));
+    }
+    return data;
+  }
+
+  static ObjectNode generateResource(int index) {
+    ObjectNode resource = FACTORY.objectNode();
+    resource.put("id", index);
+    resource.put("name", "resource-" + index);
+    resource.put("kind", (index % 2 == 0) ? "primary" : "secondary");
+    resource.put("createdAt", "2020-12-30T10:15:30Z");
+    resource.putArray("tags").add("a").add("b").add("c");
+    resource.putObject("address")
+      .put("street", index + " Main Street")
+      .put("city", "Springfield")
+      .put("zip", "12345");
+    return resource;
+  }
+
+  private static ObjectNode generatePath(int index) {
+    ObjectNode path = FACTORY.objectNode();
+
+    ObjectNode idParam = path.putArray("parameters").addObject();
+    idParam.put("name", "id").put("in", "path").put("required", true);
+    idParam.putObject("schema").put("type", "integer").put("format", "int64");
+
+    ObjectNode get = path.putObject("get");
+    get.put("operationId", "get" + index);
+    ObjectNode limitParam = get.putArray("parameters").addObject();
+    limitParam.put("name", "limit").put("in", "query");
+    limitParam.putObject("schema").put("type", "integer").put("minimum", 1).put("maximum", 100);
+    get.set("responses", generateResponses());
+
+    ObjectNode post = path.putObject("post");
+    post.put("operationId", "post" + index);
+    post.putObject("requestBody")
+      .put("required", true)
+      .putObject("content")
+      .putObject("application/json")
+      .putObject("schema")
+      .put("$ref", "#/components/schemas/Resource" + (index % NB_SCHEMAS));
+    post.set("responses", generateResponses());
+
+    return path;
+  }
+
+  private static ObjectNode generateResponses() {
+    ObjectNode responses = FACTORY.objectNode();
+    responses.putObject("200").put("description", "OK");
+    return responses;
+  }
+
+  private static ObjectNode generateResourceSchema(int index) {
+    ObjectNode schema = FACTORY.objectNode();
+    schema.put("type", "object");
+    schema.put("description", "Resource " + index);
+    schema.putArray("required").add("id").add("name").add("kind");
+
+    ObjectNode properties = schema.putObject("properties");
+    properties.putObject("id").put("type", "integer").put("format", "int64").put("minimum", 0);
+    properties.putObject("name").put("type", "string").put("maxLength", 64).put("pattern", "^[a-z0-9-]+$");
+    properties.putObject("kind").put("type", "string").putArray("enum").add("primary").add("secondary");
+    properties.putObject("createdAt").put("type", "string").put("format", "date-time");
+    ObjectNode tags = properties.putObject("tags");
+    tags.put("type", "array").put("maxItems", 10);
+    tags.putObject("items").put("type", "string");
+    properties.putObject("address").put("$ref", "#/components/schemas/Address");
+
+    return schema;
+  }
+
+  private static ObjectNode generateAddressSchema() {
+    ObjectNode schema = FACTORY.objectNode();
+    schema.put("type", "object");
+    schema.putArray("required").add("city");
+
+    ObjectNode properties = schema.putObject("properties");
+    properties.putObject("street").put("type", "string");
+    properties.putObject("city").put("type", "string").put("minLength", 1);
+    properties.putObject("zip").put("type", "string").put("pattern", "^\\d{5}$");
+
+    return schema;
+  }
+}
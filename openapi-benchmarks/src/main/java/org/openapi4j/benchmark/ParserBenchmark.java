@@ -0,0 +1,40 @@
+package org.openapi4j.benchmark;
+
+import org.openapi4j.core.exception.ResolutionException;
+import org.openapi4j.core.validation.ValidationException;
+import org.openapi4j.parser.OpenApi3Parser;
+import org.openapi4j.parser.model.v3.OpenApi3;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OpenApi3Parser#parse(URL, boolean)} benchmark.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+  @Param({Fixtures.API, "generated-100", "generated-1000"})
+  public String spec;
+
+  @Param({"false", "true"})
+  public boolean validate;
+
+  private URL specUrl;
+
+  @Setup
+  public void setup() throws IOException {
+    specUrl = Fixtures.specUrl(spec);
+  }
+
+  @Benchmark
+  public OpenApi3 parse() throws ResolutionException, ValidationException {
+    return new OpenApi3Parser().parse(specUrl, validate);
+  }
+}
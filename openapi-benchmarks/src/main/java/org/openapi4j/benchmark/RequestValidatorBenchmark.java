@@ -0,0 +1,181 @@
+package org.openapi4j.benchmark;
+
+import org.openapi4j.core.exception.ResolutionException;
+import org.openapi4j.core.validation.ValidationException;
+import org.openapi4j.operation.validator.model.Request;
+import org.openapi4j.operation.validator.model.impl.Body;
+import org.openapi4j.operation.validator.model.impl.DefaultRequest;
+import org.openapi4j.operation.validator.model.impl.RequestParameters;
+import org.openapi4j.operation.validator.validation.RequestValidator;
+import org.openapi4j.parser.OpenApi3Parser;
+import org.openapi4j.parser.model.v3.OpenApi3;
+import org.openapi4j.parser.model.v3.Operation;
+import org.openapi4j.parser.model.v3.Path;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RequestValidator} benchmarks.
+ * <p/>
+ * {@code body} validates the request body of the given content type against a known path/operation.<br/>
+ * {@code routing} validates a request from its URL only, so path lookup is part of the measure.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class RequestValidatorBenchmark {
+  private static final String OPERATION_ID = "test";
+  private static final String CONTENT_TYPE = "Content-Type";
+
+  @State(Scope.Benchmark)
+  public static class BodyState {
+    @Param({"json", "form-urlencoded", "form-data", "multipart-mixed", "xml"})
+    public String body;
+
+    RequestValidator validator;
+    Path path;
+    Operation operation;
+    Request request;
+
+    @Setup
+    public void setup() throws ResolutionException, ValidationException {
+      OpenApi3 api = new OpenApi3Parser().parse(Fixtures.resource(Fixtures.API_FILE), false);
+      validator = new RequestValidator(api);
+      path = api.getPathItemByOperationId(OPERATION_ID);
+      operation = api.getOperationById(OPERATION_ID);
+
+      request = new DefaultRequest.Builder("/", Request.Method.POST)
+        .header(CONTENT_TYPE, contentType(body))
+        .body(Body.from(content(body)))
+        .build();
+
+      // Fixtures must be valid, we measure the success path
+      validator.validate(request, path, operation);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class RoutingState {
+    @Param({"100", "1000"})
+    public int nbPaths;
+
+    RequestValidator validator;
+    Request request;
+
+    @Setup
+    public void setup() throws IOException, ResolutionException, ValidationException {
+      OpenApi3 api = new OpenApi3Parser().parse(Fixtures.writeSpec(nbPaths), false);
+      validator = new RequestValidator(api);
+
+      // Last declared path is the worst case for a linear lookup
+      request = new DefaultRequest.Builder("/resources" + (nbPaths - 1) + "/42", Request.Method.GET)
+        .query("limit=10")
+        .build();
+
+      // Fixtures must be valid, we measure the success path
+      validator.validate(request);
+    }
+  }
+
+  @Benchmark
+  public RequestParameters body(BodyState state) throws ValidationException {
+    return state.validator.validate(state.request, state.path, state.operation);
+  }
+
+  @Benchmark
+  public RequestParameters routing(RoutingState state) throws ValidationException {
+    return state.validator.validate(state.request);
+  }
+
+  private static String contentType(String body) {
+    switch (body) {
+      case "json":
+        return "application/json";
+      case "form-urlencoded":
+        return "application/x-www-form-urlencoded; charset=utf-8";
+      case "form-data":
+        return "multipart/form-data;boundary=\"1234\"";
+      case "multipart-mixed":
+        return "multipart/mixed;boundary=\"1234\"";
+      case "xml":
+        return "application/xml";
+      default:
+        throw new IllegalArgumentException("Unknown body '" + body + "'");
+    }
+  }
+
+  private static String content(String body) {
+    switch (body) {
+      case "json":
+        return "{\n" +
+          "  \"fieldInt\": 1,\n" +
+          "  \"fieldString\": \"pokfpokdf\",\n" +
+          "  \"fieldBool\": false,\n" +
+          "  \"fieldFloat\": 1.2,\n" +
+          "  \"fieldArray\": [1, 2, 3],\n" +
+          "  \"fieldObject\": {\"id\":\"myId\"}\n" +
+          "}";
+      case "form-urlencoded":
+        return "fieldInt=1&fieldString=value%202&fieldBool= true &fieldFloat=1.2&fieldArray=1&fieldArray=2";
+      case "form-data":
+      case "multipart-mixed":
+        return "--1234\r\n" +
+          "Content-Disposition: form-data; name=\"file\"; filename=\"foo.file\"\r\n" +
+          "Content-Type: text/whatever\r\n" +
+          "\r\n" +
+          "This is the content of the file\n" +
+          "\r\n" +
+          "--1234\r\n" +
+          "Content-Disposition: form-data; name=\"fieldInt\"\r\n" +
+          "\r\n" +
+          "1\r\n" +
+          "--1234\r\n" +
+          "Content-Disposition: form-data; name=\"fieldString\"\r\n" +
+          "\r\n" +
+          "value 2\r\n" +
+          "--1234\r\n" +
+          "Content-Disposition: form-data; name=\"fieldArray\"\r\n" +
+          "\r\n" +
+          "1\r\n" +
+          "--1234\r\n" +
+          "Content-Disposition: form-data; name=\"fieldBool\"\r\n" +
+          "\r\n" +
+          "true  \r\n" +
+          "--1234\r\n" +
+          "Content-Disposition: form-data; name=\"fieldFloat\"\r\n" +
+          "\r\n" +
+          "1.2\r\n" +
+          "--1234\r\n" +
+          "Content-Disposition: form-data; name=\"fieldArray\"\r\n" +
+          "\r\n" +
+          "2\r\n" +
+          "--1234\r\n" +
+          "Content-Disposition: form-data; name=\"fieldObject\"\r\n" +
+          "\r\n" +
+          "{\"id\":\"myId\"}\r\n" +
+          "--1234\r\n" +
+          "Content-Disposition: form-data; name=\"fieldArray\"\r\n" +
+          "\r\n" +
+          "3\r\n" +
+          "--1234--\r\n";
+      case "xml":
+        return "<FooModel id=\"123\">\n" +
+          "  <fieldInt>1</fieldInt>\n" +
+          "  <sample:fieldString xmlns:sample=\"http://example.com/schema/sample\">a value</sample:fieldString>\n" +
+          "  <fieldBool>true</fieldBool>\n" +
+          "  <books><book>1</book><book>2</book></books>\n" +
+          "  <fieldFloat>1</fieldFloat>\n" +
+          "  <fieldArray>1</fieldArray>\n" +
+          "  <fieldArray>2</fieldArray>\n" +
+          "  <fieldArray>3</fieldArray>\n" +
+          "  <fieldObject><id>myId</id></fieldObject>\n" +
+          "</FooModel>";
+      default:
+        throw new IllegalArgumentException("Unknown body '" + body + "'");
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package org.openapi4j.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openapi4j.core.exception.ResolutionException;
+import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.core.model.v3.OAI3Context;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.v3.SchemaValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SchemaValidator#validate(JsonNode, ValidationData)} benchmark.
+ * <p/>
+ * {@code draft4} validates each entry of the shared data fixture against the JSON schema draft 4 meta-schema.<br/>
+ * {@code generated} validates a large array of objects mixing formats, patterns, enums and references.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SchemaValidatorBenchmark {
+  private static final String DATA_SCHEMAS = "schemas";
+  private static final int NB_ITEMS = 1_000;
+
+  @Param({"draft4", "generated"})
+  public String fixture;
+
+  @Param({"false", "true"})
+  public boolean fastFail;
+
+  private SchemaValidator validator;
+  private List<JsonNode> data;
+
+  @Setup
+  public void setup() throws IOException, ResolutionException {
+    final JsonNode schema;
+    data = new ArrayList<>();
+
+    if ("draft4".equals(fixture)) {
+      schema = Fixtures.readJson(Fixtures.SCHEMA_FILE);
+      JsonNode schemas = Fixtures.readJson(Fixtures.DATA_FILE).get(DATA_SCHEMAS);
+      Iterator<String> names = schemas.fieldNames();
+      while (names.hasNext()) {
+        data.add(schemas.get(names.next()));
+      }
+    } else {
+      schema = Fixtures.generateArraySchema();
+      data.add(Fixtures.generateArrayData(NB_ITEMS));
+    }
+
+    ValidationContext<OAI3> context = new ValidationContext<>(new OAI3Context(new URL("file:/"), schema));
+    context.setFastFail(fastFail);
+    validator = new SchemaValidator(context, DATA_SCHEMAS, schema);
+
+    // Fixtures must be valid, we measure the success path
+    for (JsonNode node : data) {
+      ValidationData<Void> validation = new ValidationData<>();
+      validator.validate(node, validation);
+      if (!validation.isValid()) {
+        throw new IllegalStateException(validation.results().toString());
+      }
+    }
+  }
+
+  @Benchmark
+  public void validate(Blackhole blackhole) {
+    for (JsonNode node : data) {
+      ValidationData<Void> validation = new ValidationData<>();
+      validator.validate(node, validation);
+      blackhole.consume(validation.isValid());
+    }
+  }
+}
@@ -8,18 +8,51 @@ import org.openapi4j.core.util.TreeUtil;
 
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import static org.openapi4j.core.model.reference.Reference.ABS_REF_FIELD;
 
 /**
  * Base class for JSON reference resolution implementation.
  * See <a href="https://tools.ietf.org/html/draft-pbryan-zyp-json-ref-03">JSON reference specification</a>.
+ * <p/>
+ * Each document is walked once to find all kinds of references given by {@link #getReferenceKind(ObjectNode, String)}.
+ * External documents are loaded once and registered in a single document registry.
+ * Documents discovered at the same level are loaded concurrently on a bounded pool.
  */
 public abstract class AbstractReferenceResolver {
   private static final String LOAD_DOC_ERR_MSG = "Failed to load document from '%s'";
   private static final String CYCLING_REF_ERR_MSG = "Cycling reference with the following chain :\n%s";
   private static final String MISSING_REF_ERR_MSG = "Reference '%s' is unreachable in '%s.";
   private static final String HASH = "#";
+  private static final int MAX_CONCURRENT_LOADS = 8;
+  private static final ThreadFactory LOADER_THREAD_FACTORY = runnable -> {
+    Thread thread = new Thread(runnable, "openapi4j-document-loader");
+    thread.setDaemon(true);
+    return thread;
+  };
+
+  /**
+   * Kind of the value of an object field.
+   */
+  protected enum ReferenceKind {
+    /**
+     * Not a reference.
+     */
+    NONE,
+    /**
+     * The text value is a reference, the canonical value is injected in the object holding the field.
+     */
+    REFERENCE,
+    /**
+     * The text values of the object value are references (i.e. discriminator mapping).
+     */
+    REFERENCE_MAP
+  }
 
   private final URL baseUrl;
   private final List<AuthOption> authOptions;
@@ -44,7 +77,7 @@ public abstract class AbstractReferenceResolver {
       : registerDocument(baseUrl);
 
     // Find all external documents from references
-    findReferences(baseUrl, baseDocument);
+    findReferences();
 
     // Resolves all references
     resolveReferences();
@@ -54,54 +87,167 @@ public abstract class AbstractReferenceResolver {
     return baseDocument;
   }
 
-  protected abstract Collection<JsonNode> getReferencePaths(JsonNode document);
+  /**
+   * Get the kind of the value of the given field.
+   *
+   * @param parent    The object node holding the field.
+   * @param fieldName The field name.
+   * @return The kind of the field value.
+   */
+  protected abstract ReferenceKind getReferenceKind(ObjectNode parent, String fieldName);
+
+  private void findReferences() throws ResolutionException {
+    // Documents are walked level by level in order of discovery,
+    // the documents of the next level are loaded concurrently.
+    Collection<URL> level = Collections.singletonList(baseUrl);
+    ExecutorService executor = null;
 
-  private void findReferences(URL url, JsonNode document) throws ResolutionException {
-    Collection<JsonNode> referencePaths = getReferencePaths(document);
-    List<JsonNode> refParents = document.findParents(refKeyword);
+    try {
+      while (!level.isEmpty()) {
+        Set<URL> nextLevel = new LinkedHashSet<>();
+
+        for (URL url : level) {
+          for (ReferenceSite site : findReferenceSites(documentRegistry.get(url))) {
+            URL subUrl = addRef(url, site);
 
-    for (JsonNode refNode : referencePaths) {
-      String refValue = refNode.textValue();
-      if (refValue == null) {
-        continue;
+            if (subUrl != null && !documentRegistry.containsKey(subUrl)) {
+              nextLevel.add(subUrl);
+            }
+          }
+        }
+
+        if (nextLevel.size() > 1 && executor == null) {
+          executor = Executors.newFixedThreadPool(MAX_CONCURRENT_LOADS, LOADER_THREAD_FACTORY);
+        }
+        registerDocuments(nextLevel, executor);
+
+        level = nextLevel;
       }
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * Load the given documents concurrently.
+   * Documents are registered in the given order and the first failing one, in this order, is reported.
+   */
+  private void registerDocuments(Collection<URL> urls, ExecutorService executor) throws ResolutionException {
+    if (urls.size() < 2) {
+      for (URL url : urls) {
+        registerDocument(url);
+      }
+      return;
+    }
+
+    Map<URL, Future<JsonNode>> loads = new LinkedHashMap<>();
+    for (URL url : urls) {
+      loads.put(url, executor.submit(() -> TreeUtil.load(url, authOptions)));
+    }
+
+    for (Map.Entry<URL, Future<JsonNode>> load : loads.entrySet()) {
+      try {
+        registerDocument(load.getKey(), load.getValue().get());
+      } catch (ExecutionException e) {
+        throw new ResolutionException(String.format(LOAD_DOC_ERR_MSG, load.getKey()), e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ResolutionException(String.format(LOAD_DOC_ERR_MSG, load.getKey()), e);
+      }
+    }
+  }
 
-      final int hashIndex = refValue.indexOf(HASH);
-      if (hashIndex == 0) {
-        // internal content of current resource (i.e. #/pointer)
-        addRef(url, refParents, refValue);
+  /**
+   * Walk the document once to collect the reference sites in document order.
+   * The document is not modified while walking.
+   */
+  private List<ReferenceSite> findReferenceSites(JsonNode document) {
+    List<ReferenceSite> sites = new ArrayList<>();
+    Deque<JsonNode> nodes = new ArrayDeque<>();
+    List<JsonNode> children = new ArrayList<>();
+    nodes.push(document);
+
+    while (!nodes.isEmpty()) {
+      JsonNode node = nodes.pop();
+
+      if (node.isObject()) {
+        ObjectNode objectNode = (ObjectNode) node;
+        Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields();
+        while (fields.hasNext()) {
+          Map.Entry<String, JsonNode> field = fields.next();
+          addReferenceSites(objectNode, field.getKey(), field.getValue(), sites);
+          children.add(field.getValue());
+        }
       } else {
-        final URL subUrl;
-
-        if (hashIndex == -1) {
-          // direct content from external resource (i.e. external.yaml)
-          subUrl = ReferenceUrl.resolve(url, refValue);
-        } else {
-          // or relative content from external resource (i.e. external.yaml#/pointer or /base/external.yaml#/pointer)
-          subUrl = ReferenceUrl.resolve(url, refValue.substring(0, hashIndex));
+        for (JsonNode item : node) {
+          children.add(item);
         }
+      }
 
-        addRef(subUrl, refParents, refValue);
-
-        if (!documentRegistry.containsKey(subUrl)) {
-          JsonNode subDocument = registerDocument(subUrl);
-          findReferences(subUrl, subDocument);
+      // Push in reverse order to walk the children in document order
+      for (int i = children.size() - 1; i >= 0; i--) {
+        if (children.get(i).isContainerNode()) {
+          nodes.push(children.get(i));
         }
       }
+      children.clear();
+    }
+
+    return sites;
+  }
+
+  private void addReferenceSites(ObjectNode parent, String fieldName, JsonNode value, List<ReferenceSite> sites) {
+    switch (getReferenceKind(parent, fieldName)) {
+      case REFERENCE:
+        if (value.isTextual()) {
+          sites.add(new ReferenceSite(parent, value.textValue()));
+        }
+        break;
+      case REFERENCE_MAP:
+        for (JsonNode mapValue : value) {
+          if (mapValue.isTextual()) {
+            sites.add(new ReferenceSite(null, mapValue.textValue()));
+          }
+        }
+        break;
+      default:
+        break;
     }
   }
 
-  private void addRef(URL url, List<JsonNode> refParents, String refValue) {
+  /**
+   * Register the reference and inject its canonical value to the holder.
+   *
+   * @return The URL of the external document, {@code null} if the reference is internal.
+   */
+  private URL addRef(URL url, ReferenceSite site) {
+    String refValue = site.refValue;
+
+    final URL subUrl;
+    final int hashIndex = refValue.indexOf(HASH);
+    if (hashIndex == 0) {
+      // internal content of current resource (i.e. #/pointer)
+      subUrl = null;
+    } else if (hashIndex == -1) {
+      // direct content from external resource (i.e. external.yaml)
+      subUrl = ReferenceUrl.resolve(url, refValue);
+    } else {
+      // or relative content from external resource (i.e. external.yaml#/pointer or /base/external.yaml#/pointer)
+      subUrl = ReferenceUrl.resolve(url, refValue.substring(0, hashIndex));
+    }
+
     // Add the reference to the registry
-    Reference reference = referenceRegistry.addRef(url, refValue);
+    Reference reference = referenceRegistry.addRef(subUrl != null ? subUrl : url, refValue);
 
     // Inject the canonical value to the document
     // to auto-setup the value when mapping from parser.
-    for (JsonNode refParent : refParents) {
-      if (refValue.equals(refParent.get(refKeyword).textValue())) {
-        ((ObjectNode) refParent).set(ABS_REF_FIELD, TreeUtil.json.getNodeFactory().textNode(reference.getCanonicalRef()));
-      }
+    if (site.holder != null) {
+      site.holder.set(ABS_REF_FIELD, TreeUtil.json.getNodeFactory().textNode(reference.getCanonicalRef()));
     }
+
+    return subUrl;
   }
 
   private JsonNode registerDocument(URL url) throws ResolutionException {
@@ -164,4 +310,17 @@ public abstract class AbstractReferenceResolver {
     final int index = ref.indexOf(HASH);
     return (index == -1) ? "/" : ref.substring(index + 1);
   }
+
+  /**
+   * A reference expression and the object node holding it, if any.
+   */
+  private static final class ReferenceSite {
+    private final ObjectNode holder;
+    private final String refValue;
+
+    private ReferenceSite(ObjectNode holder, String refValue) {
+      this.holder = holder;
+      this.refValue = refValue;
+    }
+  }
 }
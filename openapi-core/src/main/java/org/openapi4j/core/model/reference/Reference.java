@@ -36,7 +36,7 @@ public class Reference {
   /**
    * Get the base URL for external reference document.
    */
-  URL getBaseUrl() {
+  public URL getBaseUrl() {
     return baseUrl;
   }
 
@@ -73,7 +73,7 @@ public class Reference {
    * @throws DecodeException If the given class is not matching the content to map.
    */
   @SuppressWarnings("unchecked")
-  public <T> T getMappedContent(Class<T> tClass) throws DecodeException {
+  public synchronized <T> T getMappedContent(Class<T> tClass) throws DecodeException {
     if (mappedContent == null || !mappedContent.getClass().equals(tClass)) {
       try {
         mappedContent = TreeUtil.json.treeToValue(content, tClass);
@@ -1,5 +1,7 @@
 package org.openapi4j.core.model.reference;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import java.net.URI;
 import java.net.URL;
 import java.util.Collection;
@@ -66,11 +68,29 @@ public class ReferenceRegistry {
     return references.get(canonicalRefValue);
   }
 
+  /**
+   * Add/replace a reference with its resolved content.
+   *
+   * @param url      The base URL.
+   * @param refValue The reference expression.
+   * @param content  The resolved content.
+   * @return The reference created or replaced.
+   */
+  public Reference addRef(URL url, String refValue, JsonNode content) {
+    Reference reference = addRef(url, refValue);
+    reference.setContent(content);
+
+    return reference;
+  }
+
   public void mergeRefs(ReferenceRegistry registry) {
     this.references.putAll(registry.references);
   }
 
-  Collection<Reference> getReferences() {
+  /**
+   * @return All the references of the registry.
+   */
+  public Collection<Reference> getReferences() {
     return references.values();
   }
 
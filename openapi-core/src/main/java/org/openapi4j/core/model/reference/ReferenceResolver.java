@@ -1,10 +1,10 @@
 package org.openapi4j.core.model.reference;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.openapi4j.core.model.AuthOption;
 
 import java.net.URL;
-import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,7 +16,7 @@ public class ReferenceResolver extends AbstractReferenceResolver {
   }
 
   @Override
-  protected Collection<JsonNode> getReferencePaths(JsonNode document) {
-    return document.findValues(refKeyword);
+  protected ReferenceKind getReferenceKind(ObjectNode parent, String fieldName) {
+    return refKeyword.equals(fieldName) ? ReferenceKind.REFERENCE : ReferenceKind.NONE;
   }
 }
@@ -5,21 +5,16 @@ import org.openapi4j.core.exception.ResolutionException;
 import org.openapi4j.core.model.AuthOption;
 import org.openapi4j.core.model.OAIContext;
 import org.openapi4j.core.model.reference.ReferenceRegistry;
-import org.openapi4j.core.model.reference.ReferenceResolver;
 
 import java.net.URL;
 import java.util.List;
 
-import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.$REF;
-
 /**
  * Open API v3 context.
  * <p/>
  * This class handles references and base URL.
  */
 public class OAI3Context implements OAIContext {
-  private static final String OPERATION_REF = "operationRef";
-
   private final ReferenceRegistry referenceRegistry;
   private final URL baseUrl;
   private final List<AuthOption> authOptions;
@@ -72,6 +67,26 @@ public class OAI3Context implements OAIContext {
     this.baseDocument = resolveReferences(baseDocument);
   }
 
+  private OAI3Context(ReferenceRegistry referenceRegistry, URL baseUrl, JsonNode baseDocument) {
+    this.baseUrl = baseUrl;
+    this.referenceRegistry = referenceRegistry;
+    this.authOptions = null;
+    this.baseDocument = baseDocument;
+  }
+
+  /**
+   * Creates a context from already resolved content (i.e. restored from a snapshot).
+   * No document is loaded and no reference is resolved.
+   *
+   * @param baseUrl           The given url.
+   * @param baseDocument      The resolved tree node representing the Open API schema.
+   * @param referenceRegistry The registry with the resolved references.
+   * @return The context.
+   */
+  public static OAI3Context fromResolved(URL baseUrl, JsonNode baseDocument, ReferenceRegistry referenceRegistry) {
+    return new OAI3Context(referenceRegistry, baseUrl, baseDocument);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -97,22 +112,10 @@ public class OAI3Context implements OAIContext {
   }
 
   private JsonNode resolveReferences(JsonNode baseDocument) throws ResolutionException {
-    // Standard JSON references
-    ReferenceResolver resolver = new ReferenceResolver(baseUrl, authOptions, baseDocument, $REF, referenceRegistry);
+    // Standard, mapping and links JSON references
+    OAI3ReferenceResolver resolver = new OAI3ReferenceResolver(baseUrl, authOptions, baseDocument, referenceRegistry);
     resolver.resolve();
 
-    // Mapping JSON references
-    ReferenceRegistry mappingRefsRegistry = new ReferenceRegistry(baseUrl);
-    MappingReferenceResolver mappingResolver = new MappingReferenceResolver(baseUrl, authOptions, baseDocument, mappingRefsRegistry);
-    mappingResolver.resolve();
-    referenceRegistry.mergeRefs(mappingRefsRegistry);
-
-    // Links JSON references
-    ReferenceRegistry operationRefsRegistry = new ReferenceRegistry(baseUrl);
-    ReferenceResolver operationResolver = new ReferenceResolver(baseUrl, authOptions, baseDocument, OPERATION_REF, operationRefsRegistry);
-    operationResolver.resolve();
-    referenceRegistry.mergeRefs(operationRefsRegistry);
-
     return resolver.getBaseDocument();
   }
 }
@@ -0,0 +1,42 @@
+package org.openapi4j.core.model.v3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openapi4j.core.model.AuthOption;
+import org.openapi4j.core.model.reference.AbstractReferenceResolver;
+import org.openapi4j.core.model.reference.ReferenceRegistry;
+
+import java.net.URL;
+import java.util.List;
+
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.$REF;
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.MAPPING;
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.PROPERTYNAME;
+
+/**
+ * The JSON reference resolver for Open API v3.
+ * <p/>
+ * Standard JSON references, discriminator mappings and link operation references
+ * are collected in a single walk of each document.
+ */
+class OAI3ReferenceResolver extends AbstractReferenceResolver {
+  static final String OPERATION_REF = "operationRef";
+
+  OAI3ReferenceResolver(URL baseUrl, List<AuthOption> authOptions, JsonNode apiNode, ReferenceRegistry referenceRegistry) {
+    super(baseUrl, authOptions, apiNode, $REF, referenceRegistry);
+  }
+
+  @Override
+  protected ReferenceKind getReferenceKind(ObjectNode parent, String fieldName) {
+    switch (fieldName) {
+      case $REF:
+      case OPERATION_REF:
+        return ReferenceKind.REFERENCE;
+      case MAPPING:
+        // Only discriminator objects, not a property named 'mapping'
+        return parent.has(PROPERTYNAME) ? ReferenceKind.REFERENCE_MAP : ReferenceKind.NONE;
+      default:
+        return ReferenceKind.NONE;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.openapi4j.core.util;
+
+import java.net.URL;
+
+/**
+ * Cache of remote documents consulted by {@link UrlContentRetriever} before fetching.
+ * <p/>
+ * Cached documents are revalidated with their validators (ETag, Last-Modified).
+ * Implementations must be thread safe.
+ *
+ * @see LruDocumentCache
+ */
+public interface DocumentCache {
+  /**
+   * Get the cached document of the given URL.
+   *
+   * @param url The document URL.
+   * @return The cached document, {@code null} if none.
+   */
+  Entry get(final URL url);
+
+  /**
+   * Cache the document of the given URL.
+   *
+   * @param url   The document URL.
+   * @param entry The document.
+   */
+  void put(final URL url, final Entry entry);
+
+  /**
+   * A cached document with its validators.
+   */
+  final class Entry {
+    private final byte[] content;
+    private final String etag;
+    private final String lastModified;
+
+    /**
+     * @param content      The raw (decoded) content.
+     * @param etag         The ETag header value, if any.
+     * @param lastModified The Last-Modified header value, if any.
+     */
+    public Entry(byte[] content, String etag, String lastModified) {
+      this.content = content;
+      this.etag = etag;
+      this.lastModified = lastModified;
+    }
+
+    public byte[] getContent() {
+      return content;
+    }
+
+    public String getEtag() {
+      return etag;
+    }
+
+    public String getLastModified() {
+      return lastModified;
+    }
+  }
+}
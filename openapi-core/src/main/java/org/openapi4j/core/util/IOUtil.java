@@ -3,6 +3,9 @@ package org.openapi4j.core.util;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
 
 /**
  * Utility class related to IO.
@@ -15,6 +18,14 @@ public final class IOUtil {
   }
 
   public static String toString(final InputStream input, final String charset) throws IOException {
+    return read(input).toString(charset);
+  }
+
+  public static byte[] toBytes(final InputStream input) throws IOException {
+    return read(input).toByteArray();
+  }
+
+  private static ByteArrayOutputStream read(final InputStream input) throws IOException {
     ByteArrayOutputStream result = new ByteArrayOutputStream();
     byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
     int length;
@@ -23,6 +34,93 @@ public final class IOUtil {
       result.write(buffer, 0, length);
     }
 
-    return result.toString(charset);
+    return result;
+  }
+
+  /**
+   * Get a reader over the given characters without copying them.
+   *
+   * @param chars The characters to read.
+   * @return The reader.
+   */
+  public static Reader toReader(final CharSequence chars) {
+    if (chars instanceof String) {
+      return new StringReader((String) chars);
+    }
+
+    return new CharSequenceReader(chars);
+  }
+
+  /**
+   * Get a stream over the remaining bytes of the given buffer without copying them.
+   * The buffer position is moved while reading.
+   *
+   * @param buffer The bytes to read.
+   * @return The stream.
+   */
+  public static InputStream toInputStream(final ByteBuffer buffer) {
+    return new ByteBufferInputStream(buffer);
+  }
+
+  private static final class CharSequenceReader extends Reader {
+    private final CharSequence chars;
+    private int index;
+
+    private CharSequenceReader(final CharSequence chars) {
+      this.chars = chars;
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) {
+      if (index >= chars.length()) {
+        return EOF;
+      }
+
+      final int count = Math.min(len, chars.length() - index);
+      for (int i = 0; i < count; i++) {
+        cbuf[off + i] = chars.charAt(index++);
+      }
+
+      return count;
+    }
+
+    @Override
+    public void close() {
+      // Nothing to release
+    }
+  }
+
+  /**
+   * Stream over the remaining bytes of a buffer.
+   */
+  private static final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : EOF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+      if (len == 0) {
+        return 0;
+      } else if (!buffer.hasRemaining()) {
+        return EOF;
+      }
+
+      final int count = Math.min(len, buffer.remaining());
+      buffer.get(b, off, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
   }
 }
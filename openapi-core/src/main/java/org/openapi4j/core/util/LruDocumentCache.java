@@ -0,0 +1,184 @@
+package org.openapi4j.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Document cache keeping the most recently used documents in memory,
+ * and optionally all documents under a directory to survive restarts.
+ * <p/>
+ * The directory store is best effort, read or write failures are treated as cache misses.
+ */
+public class LruDocumentCache implements DocumentCache {
+  private static final String CONTENT_EXT = ".content";
+  private static final String META_EXT = ".properties";
+  private static final String URL_KEY = "url";
+  private static final String ETAG_KEY = "etag";
+  private static final String LAST_MODIFIED_KEY = "lastModified";
+
+  private final Map<String, DocumentCache.Entry> entries;
+  private final Path directory;
+
+  /**
+   * Creates an in-memory cache.
+   *
+   * @param maxEntries The maximum number of documents kept in memory.
+   */
+  public LruDocumentCache(int maxEntries) {
+    this(maxEntries, null);
+  }
+
+  /**
+   * Creates a cache backed by the given directory.
+   *
+   * @param maxEntries The maximum number of documents kept in memory.
+   * @param directory  The directory of the documents, {@code null} for memory only.
+   */
+  public LruDocumentCache(int maxEntries, Path directory) {
+    this.entries = new LruMap(maxEntries);
+    this.directory = directory;
+  }
+
+  @Override
+  public Entry get(URL url) {
+    String key = url.toExternalForm();
+
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+    }
+
+    if (entry == null && directory != null) {
+      entry = readEntry(key);
+      if (entry != null) {
+        synchronized (entries) {
+          entries.put(key, entry);
+        }
+      }
+    }
+
+    return entry;
+  }
+
+  @Override
+  public void put(URL url, Entry entry) {
+    String key = url.toExternalForm();
+
+    synchronized (entries) {
+      entries.put(key, entry);
+    }
+
+    if (directory != null) {
+      writeEntry(key, entry);
+    }
+  }
+
+  private Entry readEntry(String key) {
+    String fileName = getFileName(key);
+    Path metaFile = directory.resolve(fileName + META_EXT);
+    Path contentFile = directory.resolve(fileName + CONTENT_EXT);
+
+    if (!Files.isRegularFile(metaFile) || !Files.isRegularFile(contentFile)) {
+      return null;
+    }
+
+    try (InputStream in = Files.newInputStream(metaFile)) {
+      Properties meta = new Properties();
+      meta.load(in);
+      if (!key.equals(meta.getProperty(URL_KEY))) {
+        return null;
+      }
+
+      return new Entry(
+        Files.readAllBytes(contentFile),
+        meta.getProperty(ETAG_KEY),
+        meta.getProperty(LAST_MODIFIED_KEY));
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void writeEntry(String key, Entry entry) {
+    String fileName = getFileName(key);
+
+    Properties meta = new Properties();
+    meta.setProperty(URL_KEY, key);
+    if (entry.getEtag() != null) {
+      meta.setProperty(ETAG_KEY, entry.getEtag());
+    }
+    if (entry.getLastModified() != null) {
+      meta.setProperty(LAST_MODIFIED_KEY, entry.getLastModified());
+    }
+
+    try {
+      Files.createDirectories(directory);
+
+      // Content first, metadata validates the entry
+      Path contentTmp = Files.createTempFile(directory, fileName, CONTENT_EXT);
+      Files.write(contentTmp, entry.getContent());
+      move(contentTmp, directory.resolve(fileName + CONTENT_EXT));
+
+      Path metaTmp = Files.createTempFile(directory, fileName, META_EXT);
+      try (OutputStream out = Files.newOutputStream(metaTmp)) {
+        meta.store(out, null);
+      }
+      move(metaTmp, directory.resolve(fileName + META_EXT));
+    } catch (IOException e) {
+      // Memory entry is still available
+    }
+  }
+
+  private void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      Files.deleteIfExists(source);
+      throw e;
+    }
+  }
+
+  private String getFileName(String key) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(UTF_8));
+      StringBuilder fileName = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        fileName.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return fileName.toString();
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is required on all platforms
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Map in access order, removing the least recently used entry over the maximum size.
+   */
+  private static final class LruMap extends LinkedHashMap<String, DocumentCache.Entry> {
+    private static final long serialVersionUID = 1L;
+
+    private final int maxEntries;
+
+    private LruMap(int maxEntries) {
+      super(16, 0.75f, true);
+      this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, DocumentCache.Entry> eldest) {
+      return size() > maxEntries;
+    }
+  }
+}
@@ -7,12 +7,16 @@ import org.openapi4j.core.exception.DecodeException;
 import org.openapi4j.core.exception.EncodeException;
 import org.openapi4j.core.model.AuthOption;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static java.util.Objects.requireNonNull;
 
@@ -24,7 +28,8 @@ public final class TreeUtil {
   public static final String ENCODE_ERR_MSG = "Failed to encode: %s";
   private static final String DECODE_ERR_MSG = "Failed to decode: %s";
 
-  private static final Pattern JSON_CHAR_PATTERN = Pattern.compile("(?:^\\s*)[{\\[]");
+  private static final String FILE_PROTOCOL = "file";
+  private static final int FORMAT_PREFIX_SIZE = 1024;
 
   /**
    * The global JSON mapper.
@@ -107,9 +112,8 @@ public final class TreeUtil {
   public static <T> T load(final URL url, final List<AuthOption> authOptions, Class<T> clazz) throws DecodeException {
     requireNonNull(url, URL_REQUIRED_ERR_MSG);
 
-    try {
-      InputStream in = UrlContentRetriever.instance().get(url, authOptions);
-      String content = IOUtil.toString(in, StandardCharsets.UTF_8.name());
+    try (InputStream in = open(url, authOptions)) {
+      PushbackInputStream content = new PushbackInputStream(in, FORMAT_PREFIX_SIZE);
 
       if (isJsonContent(content)) {
         return TreeUtil.json.readValue(content, clazz);
@@ -143,9 +147,8 @@ public final class TreeUtil {
   public static JsonNode load(final URL url, final List<AuthOption> authOptions) throws DecodeException {
     requireNonNull(url, URL_REQUIRED_ERR_MSG);
 
-    try {
-      InputStream in = UrlContentRetriever.instance().get(url, authOptions);
-      String content = IOUtil.toString(in, StandardCharsets.UTF_8.name());
+    try (InputStream in = open(url, authOptions)) {
+      PushbackInputStream content = new PushbackInputStream(in, FORMAT_PREFIX_SIZE);
 
       if (isJsonContent(content)) {
         return TreeUtil.json.readTree(content);
@@ -157,8 +160,64 @@ public final class TreeUtil {
     }
   }
 
-  private static boolean isJsonContent(String content) {
-    Matcher matcher = JSON_CHAR_PATTERN.matcher(content);
-    return matcher.find();
+  /**
+   * Open the content of the URL. Local files are memory mapped.
+   */
+  private static InputStream open(final URL url, final List<AuthOption> authOptions) throws Exception {
+    if (FILE_PROTOCOL.equalsIgnoreCase(url.getProtocol())) {
+      Path path;
+      try {
+        path = Paths.get(url.toURI());
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        // Not a valid file URI, let the URL handler deal with it
+        path = null;
+      }
+
+      if (path != null) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+          // The mapping stays valid after closing the channel
+          return IOUtil.toInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+      }
+    }
+
+    return UrlContentRetriever.instance().get(url, authOptions);
+  }
+
+  /**
+   * Check if the content starts with a JSON object or array, after optional BOM and whitespaces.
+   * The peeked prefix is pushed back to the stream.
+   */
+  private static boolean isJsonContent(final PushbackInputStream in) throws IOException {
+    byte[] prefix = new byte[FORMAT_PREFIX_SIZE];
+    int length = 0;
+    int index = 0;
+    Boolean isJson = null;
+
+    while (isJson == null && length < prefix.length) {
+      int count = in.read(prefix, length, prefix.length - length);
+      if (count == -1) {
+        break;
+      }
+      length += count;
+
+      // Skip UTF-8 BOM
+      if (index == 0 && length >= 3 && prefix[0] == (byte) 0xEF && prefix[1] == (byte) 0xBB && prefix[2] == (byte) 0xBF) {
+        index = 3;
+      }
+
+      for (; isJson == null && index < length; index++) {
+        byte b = prefix[index];
+        if (b == '{' || b == '[') {
+          isJson = true;
+        } else if (b != ' ' && b != '\t' && b != '\n' && b != '\r' && b != '\f' && b != 0x0B) {
+          isJson = false;
+        }
+      }
+    }
+
+    in.unread(prefix, 0, length);
+
+    return isJson != null && isJson;
   }
 }
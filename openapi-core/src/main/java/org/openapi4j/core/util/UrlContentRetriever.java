@@ -3,12 +3,14 @@ package org.openapi4j.core.util;
 import org.openapi4j.core.exception.ResolutionException;
 import org.openapi4j.core.model.AuthOption;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.openapi4j.core.model.AuthOption.Type.QUERY;
@@ -19,10 +21,19 @@ import static org.openapi4j.core.model.AuthOption.Type.QUERY;
  */
 public final class UrlContentRetriever {
   private static final String ACCEPT_HEADER_VALUE = "application/json, application/yaml, */*";
+  private static final String GZIP = "gzip";
   private static final int MAX_REDIRECTIONS = 5;
+  // Applied when a document cache is set and no timeout is given
+  private static final int DEFAULT_CACHED_CONNECT_TIMEOUT = 10_000;
+  private static final int DEFAULT_CACHED_READ_TIMEOUT = 30_000;
+  private static final int UNSET = -1;
 
   private static final UrlContentRetriever INSTANCE = new UrlContentRetriever();
 
+  private volatile DocumentCache documentCache;
+  private volatile int connectTimeout = UNSET;
+  private volatile int readTimeout = UNSET;
+
   private UrlContentRetriever() {
   }
 
@@ -30,10 +41,43 @@ public final class UrlContentRetriever {
     return INSTANCE;
   }
 
+  /**
+   * Get the cache of HTTP documents.
+   *
+   * @return The cache, {@code null} if documents are not cached.
+   */
+  public DocumentCache getDocumentCache() {
+    return documentCache;
+  }
+
+  /**
+   * Set the cache of HTTP documents. Cached documents are revalidated on each request.
+   * When the host can't be reached or is too slow, the cached document is returned.
+   * <p/>
+   * Unless set with {@link #setTimeouts(int, int)}, timeouts of 10s to connect and 30s to read
+   * are applied while a cache is set.
+   *
+   * @param documentCache The cache, {@code null} to disable caching.
+   */
+  public void setDocumentCache(final DocumentCache documentCache) {
+    this.documentCache = documentCache;
+  }
+
+  /**
+   * Set the timeouts of connections.
+   *
+   * @param connectTimeout The connect timeout in milliseconds, 0 for infinite, -1 for default.
+   * @param readTimeout    The read timeout in milliseconds, 0 for infinite, -1 for default.
+   */
+  public void setTimeouts(final int connectTimeout, final int readTimeout) {
+    this.connectTimeout = connectTimeout;
+    this.readTimeout = readTimeout;
+  }
+
   /**
    * Get the content of the targeted URL with the given authentication values if any.
    * For HTTP requests, HTTP method GET is used
-   * Also, this method allows following up to 5 redirects.
+   * Also, this method allows following up to 5 redirects and accepts gzip encoded contents.
    * <p>
    * For other handlers, these options are ignored.
    *
@@ -47,6 +91,9 @@ public final class UrlContentRetriever {
     URL inUrl = url;
     int nbRedirects = 0;
 
+    DocumentCache cache = isHttp(url) ? documentCache : null;
+    DocumentCache.Entry cached = cache != null ? cache.get(url) : null;
+
     try {
       do {
         // fill auth options for the current URL
@@ -64,21 +111,100 @@ public final class UrlContentRetriever {
 
         // Setup header auth options if any
         handleAuthInHeaders(conn, headerParams);
+        handleTimeouts(conn, cache != null);
 
         conn.setRequestProperty("Accept", ACCEPT_HEADER_VALUE);
+        if (conn instanceof HttpURLConnection) {
+          conn.setRequestProperty("Accept-Encoding", GZIP);
+          handleConditionalHeaders(conn, cached);
+        }
         conn.connect();
 
         // Handle redirection for HTTP connection
         inUrl = handleRedirection(conn, nbRedirects);
       } while (inUrl != null);
 
-      return conn.getInputStream();
+      return getContent(url, conn, cache, cached);
 
+    } catch (IOException ex) {
+      // Error responses (i.e. removed or forbidden document) are not served from cache
+      if (cached != null && isUnreachable(ex)) {
+        return new ByteArrayInputStream(cached.getContent());
+      }
+      throw new ResolutionException(ex);
     } catch (Exception ex) {
       throw new ResolutionException(ex);
     }
   }
 
+  private void handleTimeouts(URLConnection conn, boolean cached) {
+    int connect = connectTimeout;
+    int read = readTimeout;
+
+    if (connect != UNSET) {
+      conn.setConnectTimeout(connect);
+    } else if (cached) {
+      conn.setConnectTimeout(DEFAULT_CACHED_CONNECT_TIMEOUT);
+    }
+    if (read != UNSET) {
+      conn.setReadTimeout(read);
+    } else if (cached) {
+      conn.setReadTimeout(DEFAULT_CACHED_READ_TIMEOUT);
+    }
+  }
+
+  private boolean isUnreachable(IOException ex) {
+    return ex instanceof ConnectException
+      || ex instanceof NoRouteToHostException
+      || ex instanceof SocketTimeoutException
+      || ex instanceof UnknownHostException;
+  }
+
+  private boolean isHttp(URL url) {
+    return "http".equalsIgnoreCase(url.getProtocol()) || "https".equalsIgnoreCase(url.getProtocol());
+  }
+
+  private void handleConditionalHeaders(URLConnection conn, DocumentCache.Entry cached) {
+    if (cached != null) {
+      if (cached.getEtag() != null) {
+        conn.setRequestProperty("If-None-Match", cached.getEtag());
+      }
+      if (cached.getLastModified() != null) {
+        conn.setRequestProperty("If-Modified-Since", cached.getLastModified());
+      }
+    }
+  }
+
+  private InputStream getContent(URL url,
+                                 URLConnection conn,
+                                 DocumentCache cache,
+                                 DocumentCache.Entry cached) throws IOException {
+
+    if (cached != null && ((HttpURLConnection) conn).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+      ((HttpURLConnection) conn).disconnect();
+      return new ByteArrayInputStream(cached.getContent());
+    }
+
+    InputStream in = conn.getInputStream();
+    if (GZIP.equalsIgnoreCase(conn.getContentEncoding())) {
+      in = new GZIPInputStream(in);
+    }
+
+    if (cache == null) {
+      return in;
+    }
+
+    byte[] content;
+    try {
+      content = IOUtil.toBytes(in);
+    } finally {
+      in.close();
+    }
+    cache.put(url, new DocumentCache.Entry(content, conn.getHeaderField("ETag"), conn.getHeaderField("Last-Modified")));
+
+    return new ByteArrayInputStream(content);
+  }
+
   private void fillAuthOptions(List<AuthOption> authOptions,
                                URL inUrl,
                                List<AuthOption> queryParams,
@@ -19,12 +19,20 @@ public class ValidationResults implements Serializable {
   private static final String WARNING_TITLE = "Validation warning(s) :" + LINE_SEPARATOR;
   private static final String INFO_TITLE = "Validation info(s) :" + LINE_SEPARATOR;
 
+  private static final int NO_INDEX = -1;
+  private static final int INITIAL_CRUMBS_CAPACITY = 16;
+
   // The validation items
   private final List<ValidationItem> items = new ArrayList<>();
-  // The schema breadcrumb
-  private final Deque<CrumbInfo> crumbs = new ArrayDeque<>();
+  // The schema breadcrumb, only materialized when an item is added.
+  // Array indexes are kept as int values and converted to crumbs on demand.
+  private CrumbInfo[] crumbs = new CrumbInfo[INITIAL_CRUMBS_CAPACITY];
+  private int[] crumbIndexes = new int[INITIAL_CRUMBS_CAPACITY];
+  private int crumbsSize;
   // The current validation severity
   private ValidationSeverity validationSeverity = ValidationSeverity.NONE;
+  // Errors are not recorded, only the severity is updated
+  private boolean speculative;
 
   /**
    * Add a result.
@@ -33,7 +41,11 @@ public class ValidationResults implements Serializable {
    * @param msgArgs message arguments to get formatted message.
    */
   public void add(ValidationResult result, Object... msgArgs) {
-    items.add(new ValidationItem(result, crumbs, msgArgs));
+    if (discard(result)) {
+      return;
+    }
+
+    items.add(new ValidationItem(result, buildCrumbs(0), msgArgs));
     if (result.severity().gt(validationSeverity)) {
       validationSeverity = result.severity();
     }
@@ -47,7 +59,11 @@ public class ValidationResults implements Serializable {
    * @param msgArgs   message arguments to get formatted message.
    */
   public void add(CrumbInfo crumbInfo, ValidationResult result, Object... msgArgs) {
-    items.add(new ValidationItem(result, crumbs, crumbInfo, msgArgs));
+    if (discard(result)) {
+      return;
+    }
+
+    items.add(new ValidationItem(result, buildCrumbs(1), crumbInfo, msgArgs));
     if (result.severity().gt(validationSeverity)) {
       validationSeverity = result.severity();
     }
@@ -59,7 +75,11 @@ public class ValidationResults implements Serializable {
    * @param results The stack to append. Must be non {@code null}.
    */
   public void add(ValidationResults results) {
-    items.addAll(results.items);
+    if (speculative) {
+      addItems(results.items);
+    } else {
+      items.addAll(results.items);
+    }
 
     if (results.severity().gt(validationSeverity)) {
       validationSeverity = results.severity();
@@ -97,7 +117,11 @@ public class ValidationResults implements Serializable {
       }
     }
 
-    items.addAll(resultItems);
+    if (speculative) {
+      addItems(resultItems);
+    } else {
+      items.addAll(resultItems);
+    }
   }
 
   /**
@@ -106,7 +130,7 @@ public class ValidationResults implements Serializable {
    * @return The current breadcrumb.
    */
   public Collection<CrumbInfo> crumbs() {
-    return Collections.unmodifiableCollection(crumbs);
+    return Collections.unmodifiableCollection(buildCrumbs(0));
   }
 
   /**
@@ -144,19 +168,84 @@ public class ValidationResults implements Serializable {
    * @param code      The code to run with the appended crumb.
    */
   public void withCrumb(CrumbInfo crumbInfo, Runnable code) {
-    if (crumbInfo != null) {
-      crumbs.addLast(crumbInfo);
-    }
+    pushCrumb(crumbInfo);
 
     try {
       code.run();
     } finally {
-      if (crumbInfo != null) {
-        crumbs.pollLast();
-      }
+      popCrumb();
     }
   }
 
+  /**
+   * Append a crumb to the current breadcrumb.
+   * This must be followed by a call to {@link #popCrumb()}.
+   * <p/>
+   * Prefer this over {@link #withCrumb(CrumbInfo, Runnable)} in hot paths, there's no allocation.
+   *
+   * @param crumbInfo The crumb to append. Can be {@code null}.
+   */
+  public void pushCrumb(CrumbInfo crumbInfo) {
+    ensureCrumbsCapacity();
+    crumbs[crumbsSize] = crumbInfo;
+    crumbIndexes[crumbsSize++] = NO_INDEX;
+  }
+
+  /**
+   * Append an array index crumb to the current breadcrumb.
+   * The crumb is built only if a result is added.
+   * This must be followed by a call to {@link #popCrumb()}.
+   *
+   * @param index The array index to append.
+   */
+  public void pushCrumb(int index) {
+    ensureCrumbsCapacity();
+    crumbs[crumbsSize] = null;
+    crumbIndexes[crumbsSize++] = index;
+  }
+
+  /**
+   * Remove the last crumb from the current breadcrumb.
+   */
+  public void popCrumb() {
+    crumbs[--crumbsSize] = null;
+  }
+
+  /**
+   * Enable or disable the speculative mode.
+   * <p/>
+   * In this mode, errors are not recorded, only the severity is updated.
+   * This is useful to check the validity without paying the building of error messages.
+   * Info and warning results are still recorded.
+   *
+   * @param speculative {@code true} to enable speculative mode.
+   * @return this instance.
+   */
+  public ValidationResults setSpeculative(boolean speculative) {
+    this.speculative = speculative;
+    return this;
+  }
+
+  /**
+   * Check if errors are recorded.
+   *
+   * @return {@code true} if errors are not recorded, only the severity is updated.
+   */
+  public boolean isSpeculative() {
+    return speculative;
+  }
+
+  /**
+   * Clear the results and breadcrumb to reuse this instance.
+   * Internal buffers and speculative mode are kept.
+   */
+  public void reset() {
+    items.clear();
+    Arrays.fill(crumbs, 0, crumbsSize, null);
+    crumbsSize = 0;
+    validationSeverity = ValidationSeverity.NONE;
+  }
+
   /**
    * Check if the results are below the {@code ValidationSeverity.ERROR}
    *
@@ -175,6 +264,50 @@ public class ValidationResults implements Serializable {
     return items.size();
   }
 
+  private boolean discard(ValidationResult result) {
+    if (speculative && result.severity() == ValidationSeverity.ERROR) {
+      validationSeverity = ValidationSeverity.ERROR;
+      return true;
+    }
+
+    return false;
+  }
+
+  private void addItems(Collection<ValidationItem> resultItems) {
+    for (ValidationItem item : resultItems) {
+      if (item.severity() != ValidationSeverity.ERROR) {
+        items.add(item);
+      }
+    }
+  }
+
+  private void ensureCrumbsCapacity() {
+    if (crumbsSize == crumbs.length) {
+      crumbs = Arrays.copyOf(crumbs, crumbsSize << 1);
+      crumbIndexes = Arrays.copyOf(crumbIndexes, crumbsSize << 1);
+    }
+  }
+
+  /**
+   * Build the current breadcrumb.
+   *
+   * @param extraCapacity The room to reserve for additional crumbs.
+   * @return The current breadcrumb as new list.
+   */
+  private List<CrumbInfo> buildCrumbs(int extraCapacity) {
+    List<CrumbInfo> crumbList = new ArrayList<>(crumbsSize + extraCapacity);
+
+    for (int i = 0; i < crumbsSize; i++) {
+      if (crumbIndexes[i] != NO_INDEX) {
+        crumbList.add(new CrumbInfo(Integer.toString(crumbIndexes[i]), false));
+      } else if (crumbs[i] != null) {
+        crumbList.add(crumbs[i]);
+      }
+    }
+
+    return crumbList;
+  }
+
   /**
    * Summarize all the results with errors, warnings and info sections.
    */
@@ -225,17 +358,18 @@ public class ValidationResults implements Serializable {
 
     private final List<CrumbInfo> crumbs;
 
-    ValidationItem(ValidationResult result, Collection<CrumbInfo> crumbs, Object... msgArgs) {
+    ValidationItem(ValidationResult result, List<CrumbInfo> crumbs, Object... msgArgs) {
       this(result, crumbs, null, msgArgs);
     }
 
-    ValidationItem(ValidationResult result, Collection<CrumbInfo> crumbs, CrumbInfo crumbInfo, Object... msgArgs) {
+    ValidationItem(ValidationResult result, List<CrumbInfo> crumbs, CrumbInfo crumbInfo, Object... msgArgs) {
       super(
         result.severity(),
         result.code(),
         (msgArgs.length != 0) ? String.format(result.message(), msgArgs) : result.message());
 
-      this.crumbs = new ArrayList<>(crumbs);
+      // Given crumbs are already a dedicated copy
+      this.crumbs = crumbs;
       if (crumbInfo != null) {
         this.crumbs.add(crumbInfo);
       }
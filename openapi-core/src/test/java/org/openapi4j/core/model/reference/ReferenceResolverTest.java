@@ -137,4 +137,47 @@ public class ReferenceResolverTest {
     Reference reference = apiContext.getReferenceRegistry().getRef("#/paths/~12.0~1repositories~1{username}~1{slug}~1pullrequests~1{pid}/get");
     assertNotNull(reference.getContent());
   }
+
+  @Test
+  public void allReferenceKinds() throws Exception {
+    URL specPath = getClass().getResource("/reference/valid/link.yaml");
+    OAI3Context apiContext = new OAI3Context(specPath);
+    String operationRef = "#/paths/~12.0~1repositories~1{username}~1{slug}~1pullrequests~1{pid}/get";
+    assertNotNull(apiContext.getReferenceRegistry().getRef(operationRef).getContent());
+    assertEquals(
+      ReferenceUrl.resolveAsString(specPath, operationRef),
+      apiContext.getBaseDocument().at("/components/links/PullRequestMerge").get(Reference.ABS_REF_FIELD).textValue());
+
+    specPath = getClass().getResource("/parsing/discriminator.yaml");
+    apiContext = new OAI3Context(specPath);
+    Reference mappingRef = apiContext.getReferenceRegistry().getRef("#/components/schemas/Cat");
+    assertNotNull(mappingRef.getContent());
+    assertNull(apiContext.getBaseDocument().at("/components/schemas/Pet/discriminator").get(Reference.ABS_REF_FIELD));
+  }
+
+  @Test
+  public void referenceLevels() throws Exception {
+    URL specPath = getClass().getResource("/reference/valid/levels/api.yaml");
+    OAI3Context apiContext = new OAI3Context(specPath);
+
+    assertEquals(4, apiContext.getReferenceRegistry().getReferences().size());
+    for (String ref : new String[]{"a.yaml#/A", "b.yaml#/B", "c.yaml#/C", "common.yaml#/Common"}) {
+      assertNotNull(apiContext.getReferenceRegistry().getRef(ref).getContent());
+    }
+  }
+
+  @Test
+  public void referenceLevelMissing() throws Exception {
+    URL specPath = getClass().getResource("/reference/invalid/reference-extern-missing-level.yaml");
+
+    // The first missing document in order of discovery is always reported
+    for (int i = 0; i < 5; i++) {
+      try {
+        new OAI3Context(specPath);
+        fail();
+      } catch (ResolutionException e) {
+        assertTrue(e.getMessage().endsWith("missing1.yaml'"));
+      }
+    }
+  }
 }
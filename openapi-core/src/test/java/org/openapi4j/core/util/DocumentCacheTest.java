@@ -0,0 +1,166 @@
+package org.openapi4j.core.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openapi4j.core.exception.DecodeException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.*;
+
+public class DocumentCacheTest {
+  private static final String ETAG = "\"v1\"";
+  private static final String CONTENT = "{\"openapi\": \"3.0.0\"}";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private HttpServer server;
+  private URL url;
+  private volatile boolean removed;
+  private volatile boolean stalled;
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final List<Integer> statuses = Collections.synchronizedList(new ArrayList<>());
+
+  @Before
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/api.json", exchange -> {
+      if (stalled) {
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      if (removed) {
+        statuses.add(404);
+        exchange.sendResponseHeaders(404, -1);
+        exchange.close();
+        return;
+      }
+      if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        statuses.add(304);
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+        return;
+      }
+
+      ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+      try (OutputStream out = new GZIPOutputStream(gzip)) {
+        out.write(CONTENT.getBytes(UTF_8));
+      }
+      exchange.getResponseHeaders().add("ETag", ETAG);
+      exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+      statuses.add(200);
+      exchange.sendResponseHeaders(200, gzip.size());
+      exchange.getResponseBody().write(gzip.toByteArray());
+      exchange.close();
+    });
+    server.start();
+
+    url = new URL("http://localhost:" + server.getAddress().getPort() + "/api.json");
+  }
+
+  @After
+  public void tearDown() {
+    UrlContentRetriever.instance().setDocumentCache(null);
+    UrlContentRetriever.instance().setTimeouts(-1, -1);
+    release.countDown();
+    server.stop(0);
+  }
+
+  @Test
+  public void noCache() throws DecodeException {
+    assertEquals("3.0.0", TreeUtil.load(url).get("openapi").textValue());
+    assertEquals("3.0.0", TreeUtil.load(url).get("openapi").textValue());
+    assertEquals(2, statuses.size());
+    assertEquals(Integer.valueOf(200), statuses.get(1));
+  }
+
+  @Test
+  public void revalidate() throws DecodeException {
+    UrlContentRetriever.instance().setDocumentCache(new LruDocumentCache(10));
+
+    JsonNode first = TreeUtil.load(url);
+    JsonNode second = TreeUtil.load(url);
+
+    assertEquals(first, second);
+    assertEquals(2, statuses.size());
+    assertEquals(Integer.valueOf(200), statuses.get(0));
+    assertEquals(Integer.valueOf(304), statuses.get(1));
+  }
+
+  @Test
+  public void diskStore() throws DecodeException, IOException {
+    Path directory = folder.newFolder().toPath();
+    UrlContentRetriever.instance().setDocumentCache(new LruDocumentCache(10, directory));
+    JsonNode first = TreeUtil.load(url);
+
+    // A new cache from the same directory revalidates the stored document
+    UrlContentRetriever.instance().setDocumentCache(new LruDocumentCache(10, directory));
+    assertEquals(first, TreeUtil.load(url));
+    assertEquals(Integer.valueOf(304), statuses.get(1));
+
+    // Host unreachable
+    server.stop(0);
+    UrlContentRetriever.instance().setDocumentCache(new LruDocumentCache(10, directory));
+    assertEquals(first, TreeUtil.load(url));
+  }
+
+  @Test
+  public void slowHostServedFromCache() throws DecodeException {
+    UrlContentRetriever.instance().setDocumentCache(new LruDocumentCache(10));
+    UrlContentRetriever.instance().setTimeouts(1000, 200);
+    JsonNode first = TreeUtil.load(url);
+
+    // The host accepts the connection but doesn't answer
+    stalled = true;
+    assertEquals(first, TreeUtil.load(url));
+  }
+
+  @Test(expected = DecodeException.class)
+  public void errorResponseNotServedFromCache() throws DecodeException {
+    UrlContentRetriever.instance().setDocumentCache(new LruDocumentCache(10));
+    TreeUtil.load(url);
+
+    // The document is removed from the reachable host
+    removed = true;
+    TreeUtil.load(url);
+  }
+
+  @Test
+  public void lruEviction() throws IOException {
+    LruDocumentCache cache = new LruDocumentCache(2);
+    URL url1 = new URL("http://localhost/1");
+    URL url2 = new URL("http://localhost/2");
+    URL url3 = new URL("http://localhost/3");
+
+    cache.put(url1, new DocumentCache.Entry(new byte[0], null, null));
+    cache.put(url2, new DocumentCache.Entry(new byte[0], null, null));
+    assertNotNull(cache.get(url1));
+    cache.put(url3, new DocumentCache.Entry(new byte[0], null, null));
+
+    assertNotNull(cache.get(url1));
+    assertNull(cache.get(url2));
+    assertNotNull(cache.get(url3));
+  }
+}
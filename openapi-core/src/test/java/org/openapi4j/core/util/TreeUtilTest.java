@@ -3,14 +3,20 @@ package org.openapi4j.core.util;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import org.json.JSONException;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.openapi4j.core.exception.DecodeException;
 import org.openapi4j.core.exception.EncodeException;
 import org.openapi4j.core.model.AuthOption;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,6 +24,9 @@ import java.util.Map;
 import static org.junit.Assert.*;
 
 public class TreeUtilTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   @Test(expected = EncodeException.class)
   public void toJson() throws EncodeException, JSONException {
     Map<String, Object> map = new HashMap<>();
@@ -86,4 +95,21 @@ public class TreeUtilTest {
   public void emptyDocumentValid() throws DecodeException {
     assertTrue(TreeUtil.load(getClass().getResource("/parsing/empty.yaml")) instanceof MissingNode);
   }
+
+  @Test
+  public void formatFromPrefix() throws DecodeException, IOException {
+    // JSON after BOM and whitespaces
+    File file = folder.newFile("content.json");
+    Files.write(file.toPath(), "\uFEFF \n\t[1, {\"a\": 2}]".getBytes(StandardCharsets.UTF_8));
+    JsonNode node = TreeUtil.load(file.toURI().toURL());
+    assertTrue(node.isArray());
+    assertEquals(2, node.get(1).get("a").intValue());
+
+    // Indented YAML is kept as is
+    file = folder.newFile("content.yaml");
+    Files.write(file.toPath(), "\n  a: 1\n  b:\n    - [2]\n".getBytes(StandardCharsets.UTF_8));
+    node = TreeUtil.load(file.toURI().toURL());
+    assertEquals(1, node.get("a").intValue());
+    assertEquals(2, node.get("b").get(0).get(0).intValue());
+  }
 }
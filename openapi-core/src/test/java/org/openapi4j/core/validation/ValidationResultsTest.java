@@ -52,6 +52,77 @@ public class ValidationResultsTest {
     latch2.await(2, TimeUnit.SECONDS);
   }
 
+  @Test
+  public void pushCrumb() {
+    ValidationResults results = new ValidationResults();
+
+    results.pushCrumb(new ValidationResults.CrumbInfo("array", false));
+    for (int i = 0; i < 20; i++) {
+      results.pushCrumb(i);
+      if (i == 19) {
+        results.add(new ValidationResults.CrumbInfo("type", true), new ValidationResult(ValidationSeverity.ERROR, 1, "msg"));
+      }
+      results.popCrumb();
+    }
+    results.popCrumb();
+
+    assertEquals(0, results.crumbs().size());
+    assertEquals(1, results.size());
+    assertEquals("array.19", results.items().get(0).dataCrumbs());
+    assertEquals("/array/19", results.items().get(0).dataJsonPointer());
+    assertEquals("array.19.<type>", results.items().get(0).schemaCrumbs());
+
+    // Nested crumbs beyond initial capacity
+    for (int i = 0; i < 40; i++) {
+      results.pushCrumb(i);
+    }
+    assertEquals(40, results.crumbs().size());
+    for (int i = 0; i < 40; i++) {
+      results.popCrumb();
+    }
+    assertEquals(0, results.crumbs().size());
+  }
+
+  @Test
+  public void reset() {
+    ValidationResults results = new ValidationResults();
+    results.pushCrumb(new ValidationResults.CrumbInfo("crumb", false));
+    results.add(new ValidationResult(ValidationSeverity.ERROR, 1, "error"));
+    assertFalse(results.isValid());
+
+    results.reset();
+    assertTrue(results.isValid());
+    assertEquals(ValidationSeverity.NONE, results.severity());
+    assertEquals(0, results.size());
+    assertEquals(0, results.crumbs().size());
+
+    results.add(new ValidationResult(ValidationSeverity.WARNING, 2, "warn"));
+    assertEquals("", results.items().get(0).dataCrumbs());
+  }
+
+  @Test
+  public void speculative() {
+    ValidationResults results = new ValidationResults().setSpeculative(true);
+    assertTrue(results.isSpeculative());
+
+    results.add(new ValidationResult(ValidationSeverity.INFO, 1, "info"));
+    results.add(new ValidationResults.CrumbInfo("crumb", false), new ValidationResult(ValidationSeverity.ERROR, 2, "error"));
+    assertFalse(results.isValid());
+    assertEquals(1, results.size());
+    assertEquals(ValidationSeverity.INFO, results.items().get(0).severity());
+
+    ValidationResults others = new ValidationResults();
+    others.add(new ValidationResult(ValidationSeverity.WARNING, 3, "warn"));
+    others.add(new ValidationResult(ValidationSeverity.ERROR, 4, "error"));
+    results.add(others);
+    assertEquals(2, results.size());
+    assertEquals(ValidationSeverity.WARNING, results.items().get(1).severity());
+
+    results.reset();
+    assertTrue(results.isSpeculative());
+    assertTrue(results.isValid());
+  }
+
   @Test
   public void provideString() {
     ValidationResults results = new ValidationResults();
@@ -38,8 +38,9 @@ public abstract class VertxRequest implements Request {
     // Query string or body
     if (HttpMethod.GET.equals(serverRq.method())) {
       builder.query(serverRq.query());
-    } else {
-      builder.body(Body.from(rc.getBodyAsString()));
+    } else if (rc.getBody() != null) {
+      // Read bytes from the underlying buffer, no string decoding
+      builder.body(Body.from(rc.getBody().getByteBuf().nioBuffer()));
     }
 
     // Cookies
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
@@ -68,7 +69,7 @@ public class VertxTest {
   public void postTest() throws IOException {
     Mockito.when(serverRq.rawMethod()).thenReturn("POST");
     Mockito.when(serverRq.method()).thenReturn(HttpMethod.POST);
-    Mockito.when(routingContext.getBodyAsString()).thenReturn("a body");
+    Mockito.when(routingContext.getBody()).thenReturn(Buffer.buffer("a body"));
 
     Request rq = VertxRequest.of(routingContext);
     checkCommons(rq);
@@ -1,51 +1,72 @@
 package org.openapi4j.operation.validator.model.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import org.openapi4j.core.model.OAIContext;
+import org.openapi4j.core.util.IOUtil;
 import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.operation.validator.util.convert.ContentConverter;
+import org.openapi4j.operation.validator.util.convert.MultipartOptions;
 import org.openapi4j.parser.model.v3.MediaType;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 
 import static java.util.Objects.requireNonNull;
 
 public class Body {
   private static final String BODY_REQUIRED_ERR_MSG = "Body content is required.";
+  private static final String CHARSET_REQUIRED_ERR_MSG = "Charset is required.";
+  private static final String BODY_BOUNDS_ERR_MSG = "Offset %d and length %d out of bounds for length %d.";
 
   private final Object bodyObject;
   private final JsonNode bodyNode;
   private final String bodyStr;
   private final InputStream bodyIs;
+  private final byte[] bodyBytes;
+  private final int bodyOffset;
+  private final int bodyLength;
+  private final CharSequence bodyChars;
+  private final Charset bodyCharset;
 
   private Body(Object body) {
-    this.bodyObject = body;
-    this.bodyNode = null;
-    this.bodyStr = null;
-    this.bodyIs = null;
+    this(body, null, null, null, null, 0, 0, null, null);
   }
 
   private Body(JsonNode bodyNode) {
-    this.bodyObject = null;
-    this.bodyNode = bodyNode;
-    this.bodyStr = null;
-    this.bodyIs = null;
+    this(null, bodyNode, null, null, null, 0, 0, null, null);
   }
 
   private Body(String body) {
-    this.bodyObject = null;
-    this.bodyNode = null;
-    this.bodyStr = body;
-    this.bodyIs = null;
+    this(null, null, body, null, null, 0, 0, null, null);
   }
 
   private Body(InputStream bodyIs) {
-    this.bodyObject = null;
-    this.bodyNode = null;
-    this.bodyStr = null;
+    this(null, null, null, bodyIs, null, 0, 0, null, null);
+  }
+
+  private Body(final Object bodyObject,
+               final JsonNode bodyNode,
+               final String bodyStr,
+               final InputStream bodyIs,
+               final byte[] bodyBytes,
+               final int bodyOffset,
+               final int bodyLength,
+               final CharSequence bodyChars,
+               final Charset bodyCharset) {
+
+    this.bodyObject = bodyObject;
+    this.bodyNode = bodyNode;
+    this.bodyStr = bodyStr;
     this.bodyIs = bodyIs;
+    this.bodyBytes = bodyBytes;
+    this.bodyOffset = bodyOffset;
+    this.bodyLength = bodyLength;
+    this.bodyChars = bodyChars;
+    this.bodyCharset = bodyCharset;
   }
 
   /**
@@ -100,15 +121,108 @@ public class Body {
     return new Body(body);
   }
 
+  /**
+   * Constructs a body from the given bytes.
+   * The bytes are read as is, without copy nor intermediate string.
+   * The charset is given by the content type.
+   *
+   * @param body   The given body bytes.
+   * @param offset The offset of the content in the array.
+   * @param length The length of the content.
+   * @return The constructed body.
+   */
+  public static Body from(byte[] body, int offset, int length) {
+    requireNonNull(body, BODY_REQUIRED_ERR_MSG);
+    if (offset < 0 || length < 0 || offset > body.length - length) {
+      throw new IndexOutOfBoundsException(String.format(BODY_BOUNDS_ERR_MSG, offset, length, body.length));
+    }
+    return new Body(null, null, null, null, body, offset, length, null, null);
+  }
+
+  /**
+   * Constructs a body from the remaining bytes of the given buffer.
+   * Heap buffers are read without copy, direct buffers are read as stream.
+   * The position of the given buffer is not changed.
+   * The charset is given by the content type.
+   *
+   * @param body The given body buffer.
+   * @return The constructed body.
+   */
+  public static Body from(ByteBuffer body) {
+    requireNonNull(body, BODY_REQUIRED_ERR_MSG);
+
+    if (body.hasArray()) {
+      return from(body.array(), body.arrayOffset() + body.position(), body.remaining());
+    }
+
+    return new Body(IOUtil.toInputStream(body.duplicate()));
+  }
+
+  /**
+   * Constructs a body from the given characters.
+   * The characters are read without intermediate string.
+   *
+   * @param body    The given body characters.
+   * @param charset The charset of the content, used to decode escaped or binary data (i.e. form or multipart contents).
+   * @return The constructed body.
+   */
+  public static Body from(CharSequence body, Charset charset) {
+    requireNonNull(body, BODY_REQUIRED_ERR_MSG);
+    requireNonNull(charset, CHARSET_REQUIRED_ERR_MSG);
+    return new Body(null, null, null, null, null, 0, 0, body, charset);
+  }
+
+  /**
+   * Get a JSON parser over the raw content of this body.
+   *
+   * @return The parser, {@code null} if the body is not built from raw content.
+   * @throws IOException If the parser can't be created.
+   */
+  public JsonParser getContentAsParser() throws IOException {
+    if (bodyIs != null) {
+      return TreeUtil.json.createParser(bodyIs);
+    } else if (bodyStr != null) {
+      return TreeUtil.json.createParser(bodyStr);
+    } else if (bodyBytes != null) {
+      return TreeUtil.json.createParser(bodyBytes, bodyOffset, bodyLength);
+    } else if (bodyChars != null) {
+      return TreeUtil.json.createParser(IOUtil.toReader(bodyChars));
+    }
+
+    return null;
+  }
+
   public JsonNode getContentAsNode(final OAIContext context,
                                    final MediaType mediaType,
                                    final String rawContentType) throws IOException {
+
+    return getContentAsNode(context, mediaType, rawContentType, MultipartOptions.DEFAULT);
+  }
+
+  /**
+   * Get the content of this body as abstract tree node.
+   *
+   * @param context          The context of the Document.
+   * @param mediaType        The media type of the content.
+   * @param rawContentType   The raw content type of the body.
+   * @param multipartOptions The options of multipart contents conversion.
+   * @return The content node.
+   * @throws IOException If the content can't be read or a multipart size limit is exceeded.
+   */
+  public JsonNode getContentAsNode(final OAIContext context,
+                                   final MediaType mediaType,
+                                   final String rawContentType,
+                                   final MultipartOptions multipartOptions) throws IOException {
     if (bodyNode != null) {
       return bodyNode;
     } else if (bodyObject != null) {
       return TreeUtil.json.convertValue(bodyObject, JsonNode.class);
+    } else if (bodyBytes != null) {
+      return ContentConverter.convert(context, mediaType, rawContentType, bodyBytes, bodyOffset, bodyLength, multipartOptions);
+    } else if (bodyChars != null) {
+      return ContentConverter.convert(context, mediaType, rawContentType, bodyChars, bodyCharset, multipartOptions);
     } else {
-      return ContentConverter.convert(context, mediaType, rawContentType, bodyIs, bodyStr);
+      return ContentConverter.convert(context, mediaType, rawContentType, bodyIs, bodyStr, multipartOptions);
     }
   }
 }
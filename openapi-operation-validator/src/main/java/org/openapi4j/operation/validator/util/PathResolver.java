@@ -133,16 +133,33 @@ public class PathResolver {
   public List<Pattern> buildPathPatterns(OAIContext context, List<Server> servers, String templatePath) {
     List<Pattern> patterns = new ArrayList<>();
 
+    for (String pathTemplate : buildPathTemplates(context, servers, templatePath)) {
+      patterns.add(buildPathPattern(pathTemplate));
+    }
+
+    return patterns;
+  }
+
+  /**
+   * Build the full path templates of the given operation path, one for each server.
+   *
+   * @param context      The context of the Document
+   * @param servers      The servers of the Document, can be {@code null}.
+   * @param templatePath The template path of the operation.
+   * @return The path templates prefixed by the base path of each server.
+   */
+  public List<String> buildPathTemplates(OAIContext context, List<Server> servers, String templatePath) {
+    List<String> templates = new ArrayList<>();
+
     if (servers == null) {
-      patterns.add(buildPathPattern("", templatePath));
+      templates.add("" + templatePath);
     } else {
       for (Server server : servers) {
-        Pattern pattern = buildPathPattern(getResolvedPath(context, server.getUrl()), templatePath);
-        patterns.add(pattern);
+        templates.add(getResolvedPath(context, server.getUrl()) + templatePath);
       }
     }
 
-    return patterns;
+    return templates;
   }
 
   public Pattern findPathPattern(Collection<Pattern> pathPatterns, String requestPath) {
@@ -173,9 +190,15 @@ public class PathResolver {
       Math.abs(paramName.hashCode());
   }
 
-  private Pattern buildPathPattern(String basePath, String templatePath) {
+  /**
+   * Build the anchored pattern of the given full path template.
+   *
+   * @param pathTemplate The path template prefixed by the base path of the server.
+   * @return The pattern.
+   */
+  public Pattern buildPathPattern(String pathTemplate) {
     return solve(
-      basePath + templatePath,
+      pathTemplate,
       EnumSet.of(START_STRING, END_STRING, RETURN_FIXED_PATTERN));
   }
 
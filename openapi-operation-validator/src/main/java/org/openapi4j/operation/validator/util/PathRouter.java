@@ -0,0 +1,414 @@
+package org.openapi4j.operation.validator.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Router of request paths to the values associated with path templates.
+ * <p/>
+ * Templates are split by segments into a tree. Literal segments are matched before templated ones,
+ * as required by the specification, and the parameter values are captured without regular expressions.
+ * Each parameter matches at least one character and never a '/'.
+ *
+ * @param <T> The type of the values associated with the templates.
+ */
+public class PathRouter<T> {
+  private static final Pattern OAS_PATH_PARAMETERS_PATTERN = Pattern.compile("\\{[.;?*+]*([^{}.;?*+]+)[^}]*}");
+  private static final char SEPARATOR = '/';
+
+  private final Node<T> root = new Node<>();
+  private int maxParameters;
+
+  /**
+   * Add a route for the given template.
+   * If the template is already routed, the first value is kept.
+   *
+   * @param template The path template (i.e. base path of server and path of the operation).
+   * @param value    The value to associate with the template.
+   * @return this.
+   */
+  public PathRouter<T> add(final String template, final T value) {
+    final List<String> paramNames = new ArrayList<>();
+    final List<List<Object>> segments = parseTemplate(template, paramNames);
+
+    Node<T> node = root;
+    for (List<Object> pieces : segments) {
+      node = (pieces.size() == 1 && pieces.get(0) instanceof String)
+        ? node.getOrCreateLiteral((String) pieces.get(0))
+        : node.getOrCreateTemplated(pieces);
+    }
+
+    if (node.route == null) {
+      node.route = new Route<>(template, paramNames.toArray(new String[0]), value);
+      maxParameters = Math.max(maxParameters, paramNames.size());
+    }
+
+    return this;
+  }
+
+  /**
+   * Find the route of the given path.
+   *
+   * @param path The path of the request.
+   * @return The match with captured parameters, {@code null} if no route has been found.
+   */
+  public Match<T> match(String path) {
+    if (path == null || path.isEmpty()) {
+      path = "/";
+    }
+
+    final int[] bounds = new int[maxParameters * 2];
+    final Route<T> route = root.match(path, 0, bounds, 0);
+
+    return route != null ? new Match<>(route, path, bounds) : null;
+  }
+
+  /**
+   * Split the template into segments of pieces.
+   * A piece is either a literal string or a parameter name wrapped in a {@code Parameter}.
+   */
+  private static List<List<Object>> parseTemplate(final String template, final List<String> paramNames) {
+    final List<List<Object>> segments = new ArrayList<>();
+    List<Object> segment = new ArrayList<>();
+    segments.add(segment);
+
+    int lastMatchEnd = 0;
+    final Matcher matcher = OAS_PATH_PARAMETERS_PATTERN.matcher(template);
+    while (true) {
+      final boolean found = matcher.find();
+      final int literalEnd = found ? matcher.start() : template.length();
+
+      // Literal fragment, may contain separators
+      int start = lastMatchEnd;
+      for (int i = lastMatchEnd; i < literalEnd; i++) {
+        if (template.charAt(i) == SEPARATOR) {
+          addLiteralPiece(segment, template.substring(start, i));
+          segment = new ArrayList<>();
+          segments.add(segment);
+          start = i + 1;
+        }
+      }
+      addLiteralPiece(segment, template.substring(start, literalEnd));
+
+      if (!found) {
+        break;
+      }
+
+      segment.add(new Parameter());
+      paramNames.add(matcher.group(1));
+      lastMatchEnd = matcher.end();
+    }
+
+    for (List<Object> pieces : segments) {
+      if (pieces.isEmpty()) {
+        pieces.add("");
+      }
+    }
+
+    return segments;
+  }
+
+  private static void addLiteralPiece(final List<Object> segment, final String literal) {
+    if (literal.isEmpty()) {
+      return;
+    }
+
+    // Merge with previous literal
+    final int last = segment.size() - 1;
+    if (last != -1 && segment.get(last) instanceof String) {
+      segment.set(last, segment.get(last) + literal);
+    } else {
+      segment.add(literal);
+    }
+  }
+
+  /**
+   * The result of a routing with the captured parameters.
+   *
+   * @param <T> The type of the value.
+   */
+  public static final class Match<T> {
+    private final Route<T> route;
+    private final String path;
+    private final int[] bounds;
+
+    private Match(final Route<T> route, final String path, final int[] bounds) {
+      this.route = route;
+      this.path = path;
+      this.bounds = bounds;
+    }
+
+    /**
+     * @return The value associated with the matched template.
+     */
+    public T getValue() {
+      return route.value;
+    }
+
+    /**
+     * @return The matched template.
+     */
+    public String getTemplate() {
+      return route.template;
+    }
+
+    /**
+     * @return The number of parameters of the matched template.
+     */
+    public int getParameterCount() {
+      return route.paramNames.length;
+    }
+
+    /**
+     * Get the name of the parameter at the given position in the template.
+     *
+     * @param index The position of the parameter.
+     * @return The name of the parameter.
+     */
+    public String getParameterName(final int index) {
+      return route.paramNames[index];
+    }
+
+    /**
+     * Get the raw value of the parameter at the given position in the template.
+     *
+     * @param index The position of the parameter.
+     * @return The raw value of the parameter.
+     */
+    public String getParameterValue(final int index) {
+      return path.substring(bounds[index * 2], bounds[index * 2 + 1]);
+    }
+
+    /**
+     * Get the raw value of the given parameter.
+     *
+     * @param name The name of the parameter.
+     * @return The raw value of the parameter, {@code null} if the template doesn't contain the parameter.
+     */
+    public String getParameterValue(final String name) {
+      final String[] paramNames = route.paramNames;
+      for (int i = 0; i < paramNames.length; i++) {
+        if (paramNames[i].equals(name)) {
+          return getParameterValue(i);
+        }
+      }
+
+      return null;
+    }
+  }
+
+  private static final class Route<T> {
+    private final String template;
+    private final String[] paramNames;
+    private final T value;
+
+    private Route(final String template, final String[] paramNames, final T value) {
+      this.template = template;
+      this.paramNames = paramNames;
+      this.value = value;
+    }
+  }
+
+  /**
+   * Marker of parameter piece in templated segments.
+   */
+  private static final class Parameter {
+  }
+
+  private static final class Node<T> {
+    // Open addressing table of literal children
+    private String[] literalKeys = new String[0];
+    private Node<T>[] literalNodes = newNodes(0);
+    private int literalCount;
+    // Templated children, more specific first
+    private final List<TemplatedSegment<T>> templated = new ArrayList<>();
+    private Route<T> route;
+
+    private Node<T> getOrCreateLiteral(final String literal) {
+      final Node<T> node = getLiteral(literal, 0, literal.length());
+      if (node != null) {
+        return node;
+      }
+
+      if ((literalCount + 1) * 2 > literalKeys.length) {
+        resizeLiterals(Math.max(4, literalKeys.length * 2));
+      }
+
+      final Node<T> child = new Node<>();
+      putLiteral(literal, child);
+      literalCount++;
+      return child;
+    }
+
+    private Node<T> getOrCreateTemplated(final List<Object> pieces) {
+      final TemplatedSegment<T> segment = new TemplatedSegment<>(pieces);
+
+      for (TemplatedSegment<T> existing : templated) {
+        if (Arrays.equals(existing.pieces, segment.pieces)) {
+          return existing.node;
+        }
+      }
+
+      templated.add(segment);
+      templated.sort(Comparator.comparingInt((TemplatedSegment<T> s) -> s.literalLength).reversed());
+      return segment.node;
+    }
+
+    private Route<T> match(final String path, final int start, final int[] bounds, final int paramIndex) {
+      int end = path.indexOf(SEPARATOR, start);
+      final boolean last = end == -1;
+      if (last) {
+        end = path.length();
+      }
+
+      // Literal segments first
+      final Node<T> literal = getLiteral(path, start, end);
+      if (literal != null) {
+        final Route<T> route = literal.next(path, end, last, bounds, paramIndex);
+        if (route != null) {
+          return route;
+        }
+      }
+
+      for (TemplatedSegment<T> segment : templated) {
+        if (segment.match(path, start, end, 0, bounds, paramIndex)) {
+          final Route<T> route = segment.node.next(path, end, last, bounds, paramIndex + segment.paramCount);
+          if (route != null) {
+            return route;
+          }
+        }
+      }
+
+      return null;
+    }
+
+    private Route<T> next(final String path, final int end, final boolean last, final int[] bounds, final int paramIndex) {
+      return last ? route : match(path, end + 1, bounds, paramIndex);
+    }
+
+    private Node<T> getLiteral(final String str, final int start, final int end) {
+      if (literalCount == 0) {
+        return null;
+      }
+
+      final int mask = literalKeys.length - 1;
+      final int len = end - start;
+      int index = spread(hashCode(str, start, end)) & mask;
+      String key;
+      while ((key = literalKeys[index]) != null) {
+        if (key.length() == len && key.regionMatches(0, str, start, len)) {
+          return literalNodes[index];
+        }
+        index = (index + 1) & mask;
+      }
+
+      return null;
+    }
+
+    private void putLiteral(final String literal, final Node<T> node) {
+      final int mask = literalKeys.length - 1;
+      int index = spread(literal.hashCode()) & mask;
+      while (literalKeys[index] != null) {
+        index = (index + 1) & mask;
+      }
+      literalKeys[index] = literal;
+      literalNodes[index] = node;
+    }
+
+    private void resizeLiterals(final int capacity) {
+      final String[] oldKeys = literalKeys;
+      final Node<T>[] oldNodes = literalNodes;
+
+      literalKeys = new String[capacity];
+      literalNodes = newNodes(capacity);
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != null) {
+          putLiteral(oldKeys[i], oldNodes[i]);
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newNodes(final int capacity) {
+      return (Node<T>[]) new Node<?>[capacity];
+    }
+
+    // Same as String#hashCode on the given region
+    private static int hashCode(final String str, final int start, final int end) {
+      int hash = 0;
+      for (int i = start; i < end; i++) {
+        hash = 31 * hash + str.charAt(i);
+      }
+      return hash;
+    }
+
+    private static int spread(final int hash) {
+      return hash ^ (hash >>> 16);
+    }
+  }
+
+  private static final class TemplatedSegment<T> {
+    // Literal strings or null for parameters
+    private final String[] pieces;
+    private final int paramCount;
+    private final int literalLength;
+    private final Node<T> node = new Node<>();
+
+    private TemplatedSegment(final List<Object> pieces) {
+      this.pieces = new String[pieces.size()];
+
+      int params = 0;
+      int length = 0;
+      for (int i = 0; i < pieces.size(); i++) {
+        final Object piece = pieces.get(i);
+        if (piece instanceof String) {
+          this.pieces[i] = (String) piece;
+          length += ((String) piece).length();
+        } else {
+          params++;
+        }
+      }
+      paramCount = params;
+      literalLength = length;
+    }
+
+    /**
+     * Match the pieces against the segment, parameters are greedy.
+     */
+    private boolean match(final String path,
+                          final int pos,
+                          final int end,
+                          final int pieceIndex,
+                          final int[] bounds,
+                          final int paramIndex) {
+
+      if (pieceIndex == pieces.length) {
+        return pos == end;
+      }
+
+      final String literal = pieces[pieceIndex];
+      if (literal != null) {
+        return end - pos >= literal.length()
+          && path.startsWith(literal, pos)
+          && match(path, pos + literal.length(), end, pieceIndex + 1, bounds, paramIndex);
+      }
+
+      // Parameter, at least one character
+      final int minEnd = pos + 1;
+      final int maxEnd = (pieceIndex == pieces.length - 1) ? end : end - 1;
+      for (int paramEnd = maxEnd; paramEnd >= minEnd; paramEnd--) {
+        if (match(path, paramEnd, end, pieceIndex + 1, bounds, paramIndex + 1)) {
+          bounds[paramIndex * 2] = pos;
+          bounds[paramIndex * 2 + 1] = paramEnd;
+          return true;
+        }
+      }
+
+      return false;
+    }
+  }
+}
@@ -11,6 +11,9 @@ import org.openapi4j.parser.model.v3.Schema;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -20,19 +23,48 @@ public final class ContentConverter {
   private ContentConverter() {
   }
 
+  /**
+   * @return The cache of the conversion plans of form URL encoded media types.
+   */
+  public static ConversionPlanCache getFormUrlEncodedCache() {
+    return FormUrlConverter.instance().getCache();
+  }
+
   public static JsonNode convert(final OAIContext context,
                                  final MediaType mediaType,
                                  final String rawContentType,
                                  final InputStream is,
                                  final String str) throws IOException {
 
+    return convert(context, mediaType, rawContentType, is, str, MultipartOptions.DEFAULT);
+  }
+
+  /**
+   * Convert the given content to an abstract tree node.
+   *
+   * @param context          The context of the Document.
+   * @param mediaType        The media type of the content.
+   * @param rawContentType   The raw content type (i.e. with charset or boundary).
+   * @param is               The content as stream, {@code null} if given as string.
+   * @param str              The content as string, used if no stream is given.
+   * @param multipartOptions The options of multipart contents conversion.
+   * @return The converted content.
+   * @throws IOException If the content can't be read or a multipart size limit is exceeded.
+   */
+  public static JsonNode convert(final OAIContext context,
+                                 final MediaType mediaType,
+                                 final String rawContentType,
+                                 final InputStream is,
+                                 final String str,
+                                 final MultipartOptions multipartOptions) throws IOException {
+
     String contentType = ContentType.getTypeOnly(rawContentType);
 
     if (ContentType.isJson(contentType)) {
       return is != null ? jsonToNode(is) : jsonToNode(str);
     } else if (ContentType.isXml(contentType)) {
       return is != null
-        ? xmlToNode(context, mediaType.getSchema(), is)
+        ? xmlToNode(context, mediaType.getSchema(), rawContentType, is)
         : xmlToNode(context, mediaType.getSchema(), str);
     } else if (ContentType.isFormUrlEncoded(contentType)) {
       return is != null
@@ -40,13 +72,89 @@ public final class ContentConverter {
         : formUrlEncodedToNode(context, mediaType, rawContentType, str);
     } else if (ContentType.isMultipartFormData(contentType)) {
       return is != null
-        ? multipartToNode(context, mediaType, rawContentType, is)
-        : multipartToNode(context, mediaType, rawContentType, str);
+        ? multipartToNode(context, mediaType, rawContentType, is, multipartOptions)
+        : multipartToNode(context, mediaType, rawContentType, str, multipartOptions);
     } else { // UNKNOWN
       return is != null ? textToNode(is) : textToNode(str);
     }
   }
 
+  /**
+   * Convert the given bytes to an abstract tree node.
+   * The bytes are read without intermediate string when the content type allows it.
+   *
+   * @param context          The context of the Document.
+   * @param mediaType        The media type of the content.
+   * @param rawContentType   The raw content type (i.e. with charset or boundary).
+   * @param bytes            The content bytes.
+   * @param offset           The offset of the content in the array.
+   * @param length           The length of the content.
+   * @param multipartOptions The options of multipart contents conversion.
+   * @return The converted content.
+   * @throws IOException If the content can't be read or a multipart size limit is exceeded.
+   */
+  public static JsonNode convert(final OAIContext context,
+                                 final MediaType mediaType,
+                                 final String rawContentType,
+                                 final byte[] bytes,
+                                 final int offset,
+                                 final int length,
+                                 final MultipartOptions multipartOptions) throws IOException {
+
+    String contentType = ContentType.getTypeOnly(rawContentType);
+    String encoding = ContentType.getCharSet(rawContentType);
+
+    if (ContentType.isJson(contentType)) {
+      return TreeUtil.json.readTree(bytes, offset, length);
+    } else if (ContentType.isXml(contentType)) {
+      return XmlConverter.instance().convert(context, mediaType.getSchema(), bytes, offset, length, encoding);
+    } else if (ContentType.isFormUrlEncoded(contentType)) {
+      return FormUrlConverter.instance().convert(context, mediaType, new String(bytes, offset, length, encoding), encoding);
+    } else if (ContentType.isMultipartFormData(contentType)) {
+      return MultipartConverter.instance().convert(context, mediaType, bytes, offset, length, rawContentType, encoding, multipartOptions);
+    } else { // UNKNOWN
+      return JsonNodeFactory.instance.textNode(new String(bytes, offset, length, StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * Convert the given characters to an abstract tree node.
+   * The characters are read without intermediate string when the content type allows it.
+   *
+   * @param context          The context of the Document.
+   * @param mediaType        The media type of the content.
+   * @param rawContentType   The raw content type (i.e. with boundary).
+   * @param chars            The content characters.
+   * @param charset          The charset of the content, used to decode escaped or binary data.
+   * @param multipartOptions The options of multipart contents conversion.
+   * @return The converted content.
+   * @throws IOException If the content can't be read or a multipart size limit is exceeded.
+   */
+  public static JsonNode convert(final OAIContext context,
+                                 final MediaType mediaType,
+                                 final String rawContentType,
+                                 final CharSequence chars,
+                                 final Charset charset,
+                                 final MultipartOptions multipartOptions) throws IOException {
+
+    String contentType = ContentType.getTypeOnly(rawContentType);
+
+    if (ContentType.isJson(contentType)) {
+      return TreeUtil.json.readTree(IOUtil.toReader(chars));
+    } else if (ContentType.isXml(contentType)) {
+      return XmlConverter.instance().convert(context, mediaType.getSchema(), IOUtil.toReader(chars));
+    } else if (ContentType.isFormUrlEncoded(contentType)) {
+      return FormUrlConverter.instance().convert(context, mediaType, chars, charset.name());
+    } else if (ContentType.isMultipartFormData(contentType)) {
+      ByteBuffer bytes = charset.encode(CharBuffer.wrap(chars));
+      return MultipartConverter.instance().convert(
+        context, mediaType, bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining(),
+        rawContentType, charset.name(), multipartOptions);
+    } else { // UNKNOWN
+      return JsonNodeFactory.instance.textNode(chars.toString());
+    }
+  }
+
   private static JsonNode formUrlEncodedToNode(final OAIContext context, final MediaType mediaType, final String rawContentType, final InputStream content) throws IOException {
     String encoding = ContentType.getCharSet(rawContentType);
     return FormUrlConverter.instance().convert(context, mediaType, content, encoding);
@@ -57,14 +165,14 @@ public final class ContentConverter {
     return FormUrlConverter.instance().convert(context, mediaType, content, encoding);
   }
 
-  private static JsonNode multipartToNode(final OAIContext context, final MediaType mediaType, final String rawContentType, InputStream content) throws IOException {
+  private static JsonNode multipartToNode(final OAIContext context, final MediaType mediaType, final String rawContentType, InputStream content, final MultipartOptions options) throws IOException {
     String encoding = ContentType.getCharSet(rawContentType);
-    return MultipartConverter.instance().convert(context, mediaType, content, rawContentType, encoding);
+    return MultipartConverter.instance().convert(context, mediaType, content, rawContentType, encoding, options);
   }
 
-  private static JsonNode multipartToNode(final OAIContext context, final MediaType mediaType, final String rawContentType, final String content) throws IOException {
+  private static JsonNode multipartToNode(final OAIContext context, final MediaType mediaType, final String rawContentType, final String content, final MultipartOptions options) throws IOException {
     String encoding = ContentType.getCharSet(rawContentType);
-    return MultipartConverter.instance().convert(context, mediaType, content, rawContentType, encoding);
+    return MultipartConverter.instance().convert(context, mediaType, content, rawContentType, encoding, options);
   }
 
   private static JsonNode jsonToNode(InputStream content) throws IOException {
@@ -75,11 +183,12 @@ public final class ContentConverter {
     return TreeUtil.json.readTree(content);
   }
 
-  private static JsonNode xmlToNode(final OAIContext context, final Schema schema, InputStream content) throws IOException {
-    return XmlConverter.instance().convert(context, schema, IOUtil.toString(content, StandardCharsets.UTF_8.name()));
+  private static JsonNode xmlToNode(final OAIContext context, final Schema schema, final String rawContentType, InputStream content) throws IOException {
+    String encoding = ContentType.getCharSet(rawContentType);
+    return XmlConverter.instance().convert(context, schema, content, encoding);
   }
 
-  private static JsonNode xmlToNode(final OAIContext context, final Schema schema, String content) {
+  private static JsonNode xmlToNode(final OAIContext context, final Schema schema, String content) throws IOException {
     return XmlConverter.instance().convert(context, schema, content);
   }
 
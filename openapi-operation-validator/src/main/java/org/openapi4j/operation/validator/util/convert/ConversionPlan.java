@@ -0,0 +1,203 @@
+package org.openapi4j.operation.validator.util.convert;
+
+import org.openapi4j.core.model.OAIContext;
+import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.parser.model.v3.MediaType;
+import org.openapi4j.parser.model.v3.Parameter;
+import org.openapi4j.parser.model.v3.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_OBJECT;
+
+/**
+ * Immutable conversion plan of a parameter.
+ * <p/>
+ * The schema is resolved and the style, explode and type are computed once,
+ * so the conversion of the request values doesn't look up nor modify the models.
+ */
+public final class ConversionPlan {
+  private static final String FORM = "form";
+  private static final String SIMPLE = "simple";
+  private static final String DEEP_OBJECT = "deepObject";
+  private static final String IN_QUERY = "query";
+  private static final String IN_COOKIE = "cookie";
+
+  private final String name;
+  private final Schema schema;
+  private final String type;
+  private final String style;
+  private final boolean explode;
+  private final String contentType;
+  private final MediaType contentMediaType;
+  private final List<String> pairNames;
+
+  private ConversionPlan(final OAIContext context, final String name, final AbsParameter<?> param) {
+    this.name = name;
+
+    style = param.getStyle() != null ? param.getStyle() : getDefaultStyle(param);
+    // https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#parameterExplode
+    explode = param.getExplode() != null ? param.getExplode() : FORM.equals(style);
+
+    schema = param.getSchema() != null ? getFlatSchema(context, param.getSchema()) : null;
+    type = schema != null ? schema.getSupposedType(context) : null;
+
+    Map.Entry<String, MediaType> content = null;
+    if (param.getContentMediaTypes() != null) {
+      for (Map.Entry<String, MediaType> entry : param.getContentMediaTypes().entrySet()) {
+        content = entry;
+        break;
+      }
+    }
+    contentType = content != null ? content.getKey() : null;
+    contentMediaType = content != null ? content.getValue() : null;
+
+    pairNames = Collections.unmodifiableList(buildPairNames());
+  }
+
+  /**
+   * Create the conversion plan of the given parameter.
+   *
+   * @param context The context of the Document.
+   * @param name    The name of the parameter.
+   * @param param   The parameter.
+   * @return The conversion plan.
+   */
+  public static ConversionPlan of(final OAIContext context, final String name, final AbsParameter<?> param) {
+    return new ConversionPlan(context, name, param);
+  }
+
+  /**
+   * Create the conversion plans of the given parameters.
+   *
+   * @param context    The context of the Document.
+   * @param parameters The parameters by name.
+   * @return The conversion plans.
+   */
+  public static <M extends AbsParameter<?>> List<ConversionPlan> of(final OAIContext context,
+                                                                    final Map<String, M> parameters) {
+    final List<ConversionPlan> plans = new ArrayList<>(parameters.size());
+
+    for (Map.Entry<String, M> paramEntry : parameters.entrySet()) {
+      plans.add(new ConversionPlan(context, paramEntry.getKey(), paramEntry.getValue()));
+    }
+
+    return plans;
+  }
+
+  /**
+   * @return The name of the parameter.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The flat schema of the parameter, {@code null} if the parameter is defined by content.
+   */
+  public Schema getSchema() {
+    return schema;
+  }
+
+  /**
+   * @return The supposed type of the schema, {@code null} if the parameter is defined by content.
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return The style of the parameter, with default value applied.
+   */
+  public String getStyle() {
+    return style;
+  }
+
+  /**
+   * @return The explode flag of the parameter, with default value applied.
+   */
+  public boolean isExplode() {
+    return explode;
+  }
+
+  /**
+   * @return The content type of the parameter if defined by content.
+   */
+  public String getContentType() {
+    return contentType;
+  }
+
+  /**
+   * @return The media type of the parameter if defined by content.
+   */
+  public MediaType getContentMediaType() {
+    return contentMediaType;
+  }
+
+  /**
+   * @return The names of the pairs holding the values of the parameter in query strings or form contents.
+   */
+  public List<String> getPairNames() {
+    return pairNames;
+  }
+
+  private List<String> buildPairNames() {
+    final List<String> names = new ArrayList<>();
+    names.add(name);
+
+    if (schema == null || schema.getProperties() == null || !TYPE_OBJECT.equals(type)) {
+      return names;
+    }
+
+    if (DEEP_OBJECT.equals(style)) {
+      for (String propName : schema.getProperties().keySet()) {
+        names.add(name + "[" + propName + "]");
+      }
+    } else if (FORM.equals(style) && explode) {
+      names.addAll(schema.getProperties().keySet());
+    }
+
+    return names;
+  }
+
+  private static String getDefaultStyle(final AbsParameter<?> param) {
+    if (param instanceof Parameter) {
+      final String in = ((Parameter) param).getIn();
+      // Form encoded body parameters don't have location
+      return (in == null || IN_QUERY.equals(in) || IN_COOKIE.equals(in)) ? FORM : SIMPLE;
+    }
+
+    return SIMPLE;
+  }
+
+  /**
+   * Resolve the schema and its direct properties and items.
+   * The original schema is left untouched.
+   */
+  private static Schema getFlatSchema(final OAIContext context, final Schema schema) {
+    final Schema flatSchema = schema.getFlatSchema(context);
+    if (flatSchema == null) {
+      return null;
+    }
+
+    final Schema result = flatSchema.copy();
+
+    if (flatSchema.getItemsSchema() != null) {
+      result.setItemsSchema(flatSchema.getItemsSchema().getFlatSchema(context));
+    }
+
+    if (flatSchema.getProperties() != null) {
+      final Map<String, Schema> properties = new LinkedHashMap<>();
+      for (Map.Entry<String, Schema> entry : flatSchema.getProperties().entrySet()) {
+        properties.put(entry.getKey(), entry.getValue().getFlatSchema(context));
+      }
+      result.setProperties(properties);
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,146 @@
+package org.openapi4j.operation.validator.util.convert;
+
+import org.openapi4j.parser.model.v3.MediaType;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe and bounded cache of the conversion plans of media type properties.
+ * <p/>
+ * Media types are weakly referenced by identity, so entries of unloaded Document Descriptions are purged
+ * once collected. When the maximum size is reached, an arbitrary entry is evicted.
+ */
+public final class ConversionPlanCache {
+  public static final int DEFAULT_MAX_SIZE = 1024;
+
+  private final ConcurrentMap<Key, List<ConversionPlan>> plans = new ConcurrentHashMap<>();
+  private final ReferenceQueue<MediaType> collectedKeys = new ReferenceQueue<>();
+  private final int maxSize;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  public ConversionPlanCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * @param maxSize The maximum number of media types kept in cache.
+   */
+  public ConversionPlanCache(final int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Maximum size must be positive.");
+    }
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Get the cached plans of the given media type.
+   *
+   * @param mediaType The media type.
+   * @return The conversion plans, {@code null} if not in cache.
+   */
+  public List<ConversionPlan> get(final MediaType mediaType) {
+    purge();
+
+    final List<ConversionPlan> cached = plans.get(new Key(mediaType, null));
+    if (cached != null) {
+      hitCount.increment();
+    } else {
+      missCount.increment();
+    }
+
+    return cached;
+  }
+
+  /**
+   * Put the plans of the given media type.
+   * If another thread already cached the plans of the media type, they are returned instead.
+   *
+   * @param mediaType The media type.
+   * @param mediaTypePlans The conversion plans of the media type properties.
+   * @return The cached conversion plans.
+   */
+  public List<ConversionPlan> put(final MediaType mediaType, final List<ConversionPlan> mediaTypePlans) {
+    purge();
+
+    final Iterator<Key> keys = plans.keySet().iterator();
+    while (plans.size() >= maxSize && keys.hasNext()) {
+      keys.next();
+      keys.remove();
+    }
+
+    final List<ConversionPlan> existing = plans.putIfAbsent(new Key(mediaType, collectedKeys), mediaTypePlans);
+    return existing != null ? existing : mediaTypePlans;
+  }
+
+  /**
+   * @return The number of cached media types.
+   */
+  public int size() {
+    purge();
+    return plans.size();
+  }
+
+  /**
+   * @return The number of lookups which found cached plans.
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return The number of lookups which did not find cached plans.
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Remove all entries and reset counters.
+   */
+  public void clear() {
+    plans.clear();
+    hitCount.reset();
+    missCount.reset();
+  }
+
+  private void purge() {
+    Reference<? extends MediaType> key;
+    while ((key = collectedKeys.poll()) != null) {
+      plans.remove(key);
+    }
+  }
+
+  /**
+   * Weak identity key. Lookup keys are not registered to the reference queue.
+   */
+  private static final class Key extends WeakReference<MediaType> {
+    private final int hash;
+
+    private Key(final MediaType mediaType, final ReferenceQueue<MediaType> queue) {
+      super(mediaType, queue);
+      hash = System.identityHashCode(mediaType);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Key)) return false;
+
+      final MediaType mediaType = get();
+      return mediaType != null && mediaType == ((Key) o).get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -3,8 +3,6 @@ package org.openapi4j.operation.validator.util.convert;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.OAIContext;
 import org.openapi4j.core.util.IOUtil;
-import org.openapi4j.core.util.MultiStringMap;
-import org.openapi4j.core.util.StringUtil;
 import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.operation.validator.util.convert.style.DeepObjectStyleConverter;
 import org.openapi4j.operation.validator.util.convert.style.FormStyleConverter;
@@ -14,9 +12,6 @@ import org.openapi4j.parser.model.v3.*;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_STRING;
@@ -35,20 +30,24 @@ class FormUrlConverter {
   private FormUrlConverter() {
   }
 
-  private final Map<MediaType, Map<String, AbsParameter<Parameter>>> mediaTypesCache = new HashMap<>();
+  private final ConversionPlanCache mediaTypesCache = new ConversionPlanCache();
+
+  ConversionPlanCache getCache() {
+    return mediaTypesCache;
+  }
 
   JsonNode convert(final OAIContext context, final MediaType mediaType, final InputStream body, String encoding) throws IOException {
     return convert(context, mediaType, IOUtil.toString(body, encoding), encoding);
   }
 
-  JsonNode convert(final OAIContext context, final MediaType mediaType, final String body, final String encoding) {
-    Map<String, JsonNode> params = convert(context, getParameters(mediaType), body, true, encoding);
+  JsonNode convert(final OAIContext context, final MediaType mediaType, final CharSequence body, final String encoding) {
+    Map<String, JsonNode> params = convert(context, getParameters(context, mediaType), body, true, encoding);
     return TreeUtil.json.valueToTree(params);
   }
 
   Map<String, JsonNode> convert(final OAIContext context,
-                                final Map<String, AbsParameter<Parameter>> specParameters,
-                                final String body,
+                                final Collection<ConversionPlan> plans,
+                                final CharSequence body,
                                 final boolean caseSensitive,
                                 final String encoding) {
 
@@ -58,35 +57,37 @@ class FormUrlConverter {
       return mappedValues;
     }
 
-    MultiStringMap<String> paramPairs = getParameterPairs(body, caseSensitive, encoding);
+    ParameterPairs paramPairs = new ParameterPairs(caseSensitive);
+    for (ConversionPlan plan : plans) {
+      for (String pairName : plan.getPairNames()) {
+        paramPairs.declare(pairName);
+      }
+    }
+    paramPairs.read(body, encoding);
+
     List<String> visitedParams = new ArrayList<>();
 
-    for (Map.Entry<String, AbsParameter<Parameter>> paramEntry : specParameters.entrySet()) {
-      final String specParamName = paramEntry.getKey();
-      final AbsParameter<Parameter> specParam = paramEntry.getValue();
+    for (ConversionPlan plan : plans) {
       final JsonNode convertedValue;
 
-      if (specParam.getSchema() != null) {
-        final String style = specParam.getStyle();
+      if (plan.getSchema() != null) {
+        final String style = plan.getStyle();
 
         if (SPACE_DELIMITED.equals(style)) {
-          convertedValue = SpaceDelimitedStyleConverter.instance().convert(context, specParam, specParamName, paramPairs, visitedParams);
+          convertedValue = SpaceDelimitedStyleConverter.instance().convert(context, plan, paramPairs, visitedParams);
         } else if (PIPE_DELIMITED.equals(style)) {
-          convertedValue = PipeDelimitedStyleConverter.instance().convert(context, specParam, specParamName, paramPairs, visitedParams);
+          convertedValue = PipeDelimitedStyleConverter.instance().convert(context, plan, paramPairs, visitedParams);
         } else if (DEEP_OBJECT.equals(style)) {
-          convertedValue = DeepObjectStyleConverter.instance().convert(context, specParam, specParamName, paramPairs, visitedParams);
+          convertedValue = DeepObjectStyleConverter.instance().convert(context, plan, paramPairs, visitedParams);
         } else { // form is the default
-          if (specParam.getExplode() == null) { // explode true is default
-            specParam.setExplode(true);
-          }
-          convertedValue = FormStyleConverter.instance().convert(context, specParam, specParamName, paramPairs, visitedParams);
+          convertedValue = FormStyleConverter.instance().convert(context, plan, paramPairs, visitedParams);
         }
       } else {
-        convertedValue = getValueFromContentType(context, specParam.getContentMediaTypes(), specParamName, paramPairs, visitedParams);
+        convertedValue = getValueFromContentType(context, plan, paramPairs, visitedParams);
       }
 
       if (convertedValue != null) {
-        mappedValues.put(specParamName, convertedValue);
+        mappedValues.put(plan.getName(), convertedValue);
       }
     }
 
@@ -97,79 +98,40 @@ class FormUrlConverter {
 
     // add remaining & unknown properties as string to the result
     Schema defaultSchema = new Schema().setType(TYPE_STRING);
-    for (Map.Entry<String, Collection<String>> valueEntry : paramPairs.entrySet()) {
-      Collection<String> values = valueEntry.getValue();
-
+    paramPairs.forEach((name, values) -> {
       JsonNode value = TypeConverter.instance().convertPrimitive(
         context,
         defaultSchema,
-        values.iterator().next());
+        values.get(0));
 
-      mappedValues.put(valueEntry.getKey(), value);
-    }
+      mappedValues.put(name, value);
+    });
 
     return mappedValues;
   }
 
-  private MultiStringMap<String> getParameterPairs(String value, boolean caseSensitive, String encoding) {
-    List<String> pairs = StringUtil.tokenize(value, "&", true, true);
-    MultiStringMap<String> result = new MultiStringMap<>(caseSensitive);
-
-    for (String pair : pairs) {
-      int idx = pair.indexOf('=');
-      if (idx == -1) {
-        result.put(decode(pair, encoding), null);
-      } else {
-        result.put(
-          decode(pair.substring(0, idx), encoding),
-          decode(pair.substring(idx + 1), encoding));
-      }
-    }
-
-    return result;
-  }
-
-  private String decode(String value, String encoding) {
-    try {
-      return URLDecoder.decode(value, encoding);
-    } catch (UnsupportedEncodingException e) {
-      try {
-        return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
-      } catch (UnsupportedEncodingException ignored) {
-        return value; // Will never happen - value is coming from JDK
-      }
-    }
-  }
-
   private JsonNode getValueFromContentType(final OAIContext context,
-                                           final Map<String, MediaType> mediaTypes,
-                                           final String paramName,
-                                           final MultiStringMap<String> paramPairs,
+                                           final ConversionPlan plan,
+                                           final ParameterPairs paramPairs,
                                            final List<String> visitedParams) {
 
-    Collection<String> propValues = paramPairs.get(paramName);
+    List<String> propValues = paramPairs.get(plan.getName());
     if (propValues == null) {
       return null;
     }
 
-    visitedParams.add(paramName);
+    visitedParams.add(plan.getName());
 
-    if (mediaTypes != null) {
-      Optional<Map.Entry<String, MediaType>> entry = mediaTypes.entrySet().stream().findFirst();
-
-      if (entry.isPresent()) {
-        Map.Entry<String, MediaType> mediaType = entry.get();
-
-        try {
-          return ContentConverter.convert(
-            context,
-            mediaType.getValue(),
-            mediaType.getKey(),
-            null,
-            propValues.stream().findFirst().orElse(null));
-        } catch (IOException e) {
-          return null;
-        }
+    if (plan.getContentMediaType() != null) {
+      try {
+        return ContentConverter.convert(
+          context,
+          plan.getContentMediaType(),
+          plan.getContentType(),
+          null,
+          propValues.get(0));
+      } catch (IOException e) {
+        return null;
       }
     }
 
@@ -177,19 +139,19 @@ class FormUrlConverter {
   }
 
   /**
-   * Transform media type to Map of Parameters to work with same structure for:
+   * Transform media type to conversion plans to work with same structure for:
    * - query
    * - form-data
    * - x-www-formurlencoded.
    *
    * @param mediaType The given meida type to transform.
-   * @return The Map of parameters.
+   * @return The conversion plans of the properties.
    */
-  private Map<String, AbsParameter<Parameter>> getParameters(final MediaType mediaType) {
+  private List<ConversionPlan> getParameters(final OAIContext context, final MediaType mediaType) {
     // check cache
-    Map<String, AbsParameter<Parameter>> specParameters = mediaTypesCache.get(mediaType);
-    if (specParameters != null) {
-      return specParameters;
+    List<ConversionPlan> plans = mediaTypesCache.get(mediaType);
+    if (plans != null) {
+      return plans;
     }
 
     // Cache missed
@@ -198,20 +160,19 @@ class FormUrlConverter {
       ? mediaType.getEncodings()
       : new HashMap<>();
 
-    specParameters = new HashMap<>();
+    plans = new ArrayList<>();
 
     for (Map.Entry<String, Schema> propEntry : mediaType.getSchema().getProperties().entrySet()) {
       String propName = propEntry.getKey();
 
-      specParameters.put(
+      plans.add(ConversionPlan.of(
+        context,
         propName,
-        createParameter(encodings, propName, propEntry.getValue()));
+        createParameter(encodings, propName, propEntry.getValue())));
     }
 
     // Add media type to cache
-    mediaTypesCache.put(mediaType, specParameters);
-
-    return specParameters;
+    return mediaTypesCache.put(mediaType, plans);
   }
 
   private AbsParameter<Parameter> createParameter(final Map<String, EncodingProperty> encodings,
@@ -9,6 +9,7 @@ import org.apache.commons.fileupload.*;
 import org.openapi4j.core.model.OAIContext;
 import org.openapi4j.core.util.IOUtil;
 import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.operation.validator.util.ContentType;
 import org.openapi4j.parser.model.v3.EncodingProperty;
 import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.Schema;
@@ -16,6 +17,7 @@ import org.openapi4j.parser.model.v3.Schema;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,6 +26,10 @@ import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
 class MultipartConverter {
   private static final MultipartConverter INSTANCE = new MultipartConverter();
 
+  private static final String CONTENT_TYPE_ERR_MSG = "Content type '%s' of part '%s' doesn't match '%s'.";
+  private static final int BUFFER_SIZE = 1024 * 8;
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
   private static final MapType MAP_TYPE = TreeUtil.json.getTypeFactory().constructMapType(
     HashMap.class,
     TreeUtil.json.getTypeFactory().constructType(String.class),
@@ -36,39 +42,180 @@ class MultipartConverter {
     return INSTANCE;
   }
 
-  JsonNode convert(final OAIContext context, final MediaType mediaType, final String body, final String rawContentType, final String encoding) throws IOException {
-    InputStream is = new ByteArrayInputStream(body.getBytes(encoding));
-    return convert(context, mediaType, is, rawContentType, encoding);
+  JsonNode convert(final OAIContext context,
+                   final MediaType mediaType,
+                   final String body,
+                   final String rawContentType,
+                   final String encoding,
+                   final MultipartOptions options) throws IOException {
+
+    byte[] content = body.getBytes(encoding);
+    return convert(context, mediaType, content, 0, content.length, rawContentType, encoding, options);
   }
 
-  JsonNode convert(final OAIContext context, final MediaType mediaType, final InputStream body, final String rawContentType, final String encoding) throws IOException {
-    UploadContext requestContext = UPLOAD_CONTEXT_INSTANCE.create(body, rawContentType, encoding);
+  JsonNode convert(final OAIContext context,
+                   final MediaType mediaType,
+                   final byte[] body,
+                   final int offset,
+                   final int length,
+                   final String rawContentType,
+                   final String encoding,
+                   final MultipartOptions options) throws IOException {
+
+    return convert(context, mediaType, new ByteArrayInputStream(body, offset, length), length, rawContentType, encoding, options);
+  }
+
+  JsonNode convert(final OAIContext context,
+                   final MediaType mediaType,
+                   final InputStream body,
+                   final String rawContentType,
+                   final String encoding,
+                   final MultipartOptions options) throws IOException {
+
+    return convert(context, mediaType, body, -1, rawContentType, encoding, options);
+  }
+
+  private JsonNode convert(final OAIContext context,
+                           final MediaType mediaType,
+                           final InputStream body,
+                           final long contentLength,
+                           final String rawContentType,
+                           final String encoding,
+                           final MultipartOptions options) throws IOException {
+
+    UploadContext requestContext = UPLOAD_CONTEXT_INSTANCE.create(body, contentLength, rawContentType, encoding);
+
+    FileUpload upload = new FileUpload();
+    // Limits are checked while streaming
+    upload.setSizeMax(options.getSizeMax());
+    upload.setFileSizeMax(options.getPartSizeMax());
 
     ObjectNode result = JsonNodeFactory.instance.objectNode();
+    byte[] buffer = null;
 
     try {
-      FileItemIterator iterator = new FileUpload().getItemIterator(requestContext);
+      FileItemIterator iterator = upload.getItemIterator(requestContext);
       while (iterator.hasNext()) {
         FileItemStream item = iterator.next();
         String name = item.getFieldName();
 
-        if (item.isFormField()) {
-          JsonNode convertedValue = mapValue(context, result, mediaType, item, name, encoding);
+        if (isBinary(context, mediaType, item, options)) {
+          if (buffer == null) {
+            buffer = new byte[BUFFER_SIZE];
+          }
+          addValue(result, name, readBinary(context, mediaType, item, options, buffer));
+        } else {
+          JsonNode convertedValue = mapValue(context, result, mediaType, item, name, encoding, options);
           if (convertedValue != null) {
             addValue(result, name, convertedValue);
           }
-        } else { // Add file name only
-          addValue(result, name, JsonNodeFactory.instance.textNode(item.getName()));
         }
       }
     } catch (FileUploadException ex) {
-      throw new IOException(ex);
+      throw new IOException(ex.getMessage(), ex);
     }
 
     return result;
   }
 
-  private JsonNode mapValue(OAIContext context, ObjectNode result, MediaType mediaType, FileItemStream item, String name, String encoding) throws IOException {
+  /**
+   * Check if the part is a file or, with binary streaming, a {@code format: binary} string.
+   */
+  private boolean isBinary(final OAIContext context,
+                           final MediaType mediaType,
+                           final FileItemStream item,
+                           final MultipartOptions options) {
+
+    if (!item.isFormField()) {
+      return true;
+    } else if (!options.isStreamBinary() || mediaType.getSchema() == null) {
+      return false;
+    }
+
+    Schema propSchema = mediaType.getSchema().getProperty(item.getFieldName());
+    if (propSchema == null) {
+      return false;
+    }
+
+    Schema flatSchema = propSchema.getFlatSchema(context);
+    if (TYPE_ARRAY.equals(flatSchema.getSupposedType(context)) && flatSchema.getItemsSchema() != null) {
+      flatSchema = flatSchema.getItemsSchema().getFlatSchema(context);
+    }
+
+    return TYPE_STRING.equals(flatSchema.getSupposedType(context)) && FORMAT_BINARY.equals(flatSchema.getFormat());
+  }
+
+  /**
+   * Read the content of a binary part without keeping it.
+   *
+   * @return The file name, or with binary streaming the digest or the size of the content.
+   */
+  private JsonNode readBinary(final OAIContext context,
+                              final MediaType mediaType,
+                              final FileItemStream item,
+                              final MultipartOptions options,
+                              final byte[] buffer) throws IOException {
+
+    if (options.isStreamBinary()) {
+      checkBinaryContentType(mediaType.getEncoding(item.getFieldName()), item);
+    }
+
+    MessageDigest digest = options.isStreamBinary() ? options.createDigest() : null;
+    long size = 0;
+
+    try (InputStream is = item.openStream()) {
+      int read;
+      while ((read = is.read(buffer)) != -1) {
+        size += read;
+        if (digest != null) {
+          digest.update(buffer, 0, read);
+        }
+      }
+    }
+
+    if (!options.isStreamBinary()) {
+      return JsonNodeFactory.instance.textNode(item.getName());
+    } else if (digest != null) {
+      return JsonNodeFactory.instance.textNode(toHex(digest.digest()));
+    } else {
+      return JsonNodeFactory.instance.textNode(String.valueOf(size));
+    }
+  }
+
+  private void checkBinaryContentType(final EncodingProperty encProperty, final FileItemStream item) throws IOException {
+    if (encProperty == null || encProperty.getContentType() == null) {
+      return;
+    }
+
+    String itemContentType = ContentType.getTypeOnly(item.getContentType());
+    if (itemContentType != null) {
+      for (String allowed : encProperty.getContentType().split(",")) {
+        allowed = allowed.trim();
+        if (allowed.equalsIgnoreCase(itemContentType)
+          || allowed.endsWith("/*") && itemContentType.regionMatches(true, 0, allowed, 0, allowed.length() - 1)
+          || allowed.equals("*/*")) {
+          return;
+        }
+      }
+    }
+
+    throw new IOException(String.format(
+      CONTENT_TYPE_ERR_MSG,
+      item.getContentType(),
+      item.getFieldName(),
+      encProperty.getContentType()));
+  }
+
+  private static String toHex(final byte[] bytes) {
+    char[] chars = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+      chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+    }
+    return new String(chars);
+  }
+
+  private JsonNode mapValue(OAIContext context, ObjectNode result, MediaType mediaType, FileItemStream item, String name, String encoding, MultipartOptions options) throws IOException {
     Schema propSchema = mediaType.getSchema().getProperty(name);
     String itemContentType = item.getContentType();
 
@@ -82,7 +229,7 @@ class MultipartConverter {
         // Process with the given content type
         String content = IOUtil.toString(item.openStream(), encoding);
         try {
-          return ContentConverter.convert(context, new MediaType().setSchema(propSchema), itemContentType, null, content);
+          return ContentConverter.convert(context, new MediaType().setSchema(propSchema), itemContentType, null, content, options);
         } catch (IOException ex) {
           // content type mismatch
           return JsonNodeFactory.instance.textNode(content);
@@ -187,11 +334,12 @@ class MultipartConverter {
   private interface UploadContextInstance {
     UploadContext create(
       final InputStream body,
+      final long contentLength,
       final String contentType,
       final String encoding);
   }
 
-  private static final UploadContextInstance UPLOAD_CONTEXT_INSTANCE = (body, contentType, encoding) -> new UploadContext() {
+  private static final UploadContextInstance UPLOAD_CONTEXT_INSTANCE = (body, contentLength, contentType, encoding) -> new UploadContext() {
     @Override
     public String getCharacterEncoding() {
       return encoding;
@@ -204,12 +352,12 @@ class MultipartConverter {
 
     @Override
     public int getContentLength() {
-      return 0;
+      return contentLength > Integer.MAX_VALUE ? -1 : (int) contentLength;
     }
 
     @Override
     public long contentLength() {
-      return 0;
+      return contentLength;
     }
 
     @Override
@@ -0,0 +1,144 @@
+package org.openapi4j.operation.validator.util.convert;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Immutable options of multipart contents conversion.
+ * <p/>
+ * Parts are always read as they stream. Size limits are checked while reading,
+ * a content over a limit fails the conversion without reading further.
+ * <p/>
+ * File parts are never kept in memory. By default, they are converted to their file name.
+ * With binary streaming, file parts and {@code format: binary} parts are converted to the digest
+ * of their content or to their size in bytes.
+ */
+public final class MultipartOptions {
+  /**
+   * No size limit, file parts converted to their file name.
+   */
+  public static final MultipartOptions DEFAULT = new Builder().build();
+
+  private final long partSizeMax;
+  private final long sizeMax;
+  private final boolean streamBinary;
+  private final String digestAlgorithm;
+
+  private MultipartOptions(final Builder builder) {
+    partSizeMax = builder.partSizeMax;
+    sizeMax = builder.sizeMax;
+    streamBinary = builder.streamBinary;
+    digestAlgorithm = builder.digestAlgorithm;
+  }
+
+  /**
+   * @return The maximum size in bytes of a single part, -1 for no limit.
+   */
+  public long getPartSizeMax() {
+    return partSizeMax;
+  }
+
+  /**
+   * @return The maximum size in bytes of the whole content, -1 for no limit.
+   */
+  public long getSizeMax() {
+    return sizeMax;
+  }
+
+  /**
+   * @return {@code true} if binary parts are converted to their digest or size.
+   */
+  public boolean isStreamBinary() {
+    return streamBinary;
+  }
+
+  /**
+   * @return The digest algorithm of binary parts, {@code null} to convert them to their size.
+   */
+  public String getDigestAlgorithm() {
+    return digestAlgorithm;
+  }
+
+  MessageDigest createDigest() {
+    if (digestAlgorithm == null) {
+      return null;
+    }
+
+    try {
+      return MessageDigest.getInstance(digestAlgorithm);
+    } catch (NoSuchAlgorithmException e) {
+      // Checked when building
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static class Builder {
+    private long partSizeMax = -1;
+    private long sizeMax = -1;
+    private boolean streamBinary;
+    private String digestAlgorithm;
+
+    /**
+     * Sets the maximum size in bytes of a single part.
+     *
+     * @param partSizeMax The maximum size, -1 for no limit.
+     * @return This builder
+     */
+    public Builder partSizeMax(final long partSizeMax) {
+      this.partSizeMax = partSizeMax;
+      return this;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the whole content.
+     *
+     * @param sizeMax The maximum size, -1 for no limit.
+     * @return This builder
+     */
+    public Builder sizeMax(final long sizeMax) {
+      this.sizeMax = sizeMax;
+      return this;
+    }
+
+    /**
+     * Enables the conversion of file and {@code format: binary} parts to their digest or size.
+     * <p/>
+     * The content type of those parts is checked against the encoding of the media type, if any.
+     *
+     * @param streamBinary {@code true} to convert binary parts to their digest or size.
+     * @return This builder
+     */
+    public Builder streamBinary(final boolean streamBinary) {
+      this.streamBinary = streamBinary;
+      return this;
+    }
+
+    /**
+     * Sets the digest algorithm of binary parts (i.e. SHA-256).
+     * The digest is given as lower case hexadecimal string.
+     *
+     * @param digestAlgorithm The algorithm name, {@code null} to convert binary parts to their size.
+     * @return This builder
+     */
+    public Builder digestAlgorithm(final String digestAlgorithm) {
+      this.digestAlgorithm = digestAlgorithm;
+      return this;
+    }
+
+    /**
+     * @return The built {@link MultipartOptions}
+     * @throws IllegalArgumentException if the digest algorithm is not available.
+     */
+    public MultipartOptions build() {
+      if (digestAlgorithm != null) {
+        try {
+          MessageDigest.getInstance(digestAlgorithm);
+        } catch (NoSuchAlgorithmException e) {
+          throw new IllegalArgumentException("Unknown digest algorithm '" + digestAlgorithm + "'.", e);
+        }
+      }
+
+      return new MultipartOptions(this);
+    }
+  }
+}
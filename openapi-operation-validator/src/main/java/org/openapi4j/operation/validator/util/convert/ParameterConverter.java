@@ -5,19 +5,18 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.openapi4j.core.model.OAIContext;
 import org.openapi4j.operation.validator.util.PathResolver;
+import org.openapi4j.operation.validator.util.PathRouter;
 import org.openapi4j.operation.validator.util.convert.style.LabelStyleConverter;
 import org.openapi4j.operation.validator.util.convert.style.MatrixStyleConverter;
 import org.openapi4j.operation.validator.util.convert.style.SimpleStyleConverter;
 import org.openapi4j.parser.model.OpenApiSchema;
 import org.openapi4j.parser.model.v3.AbsParameter;
-import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.Parameter;
 
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -107,32 +106,58 @@ public final class ParameterConverter {
       return mappedValues;
     }
 
-    for (Map.Entry<String, AbsParameter<Parameter>> paramEntry : specParameters.entrySet()) {
-      final String paramName = paramEntry.getKey();
-      final AbsParameter<Parameter> param = paramEntry.getValue();
-      String paramGroupName = PathResolver.instance().getParamGroupName(paramName);
-      final JsonNode convertedValue;
+    for (ConversionPlan plan : ConversionPlan.of(context, specParameters)) {
+      final String paramGroupName = PathResolver.instance().getParamGroupName(plan.getName());
 
-      if (param.getSchema() != null) {
-        final String style = param.getStyle();
+      mappedValues.put(plan.getName(), pathValueToNode(context, plan, matcher.group(paramGroupName)));
+    }
 
-        if (LABEL.equals(style)) {
-          convertedValue = LabelStyleConverter.instance().convert(context, param, paramName, matcher.group(paramGroupName));
-        } else if (MATRIX.equals(style)) {
-          convertedValue = MatrixStyleConverter.instance().convert(context, param, paramName, matcher.group(paramGroupName));
-        } else { // simple is the default
-          convertedValue = SimpleStyleConverter.instance().convert(context, param, paramName, matcher.group(paramGroupName));
-        }
-      } else {
-        convertedValue = getValueFromContentType(context, param.getContentMediaTypes(), matcher.group(paramGroupName));
-      }
+    return mappedValues;
+  }
+
+  /**
+   * Convert path parameters to nodes from the values captured by the path router.
+   *
+   * @param plans The conversion plans of the path parameters.
+   * @param match The routing result of the request path.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> pathToNode(final OAIContext context,
+                                                 final Collection<ConversionPlan> plans,
+                                                 final PathRouter.Match<?> match) {
+
+    final Map<String, JsonNode> mappedValues = new HashMap<>();
 
-      mappedValues.put(paramName, convertedValue);
+    if (match == null) {
+      return mappedValues;
+    }
+
+    for (ConversionPlan plan : plans) {
+      mappedValues.put(plan.getName(), pathValueToNode(context, plan, match.getParameterValue(plan.getName())));
     }
 
     return mappedValues;
   }
 
+  private static JsonNode pathValueToNode(final OAIContext context,
+                                          final ConversionPlan plan,
+                                          final String value) {
+
+    if (plan.getSchema() != null) {
+      final String style = plan.getStyle();
+
+      if (LABEL.equals(style)) {
+        return LabelStyleConverter.instance().convert(context, plan, value);
+      } else if (MATRIX.equals(style)) {
+        return MatrixStyleConverter.instance().convert(context, plan, value);
+      } else { // simple is the default
+        return SimpleStyleConverter.instance().convert(context, plan, value);
+      }
+    }
+
+    return getValueFromContentType(context, plan, value);
+  }
+
   /**
    * Convert form data parameters to nodes.
    * The query string MUST BE in the appropriate form corresponding to the associated style.
@@ -146,7 +171,23 @@ public final class ParameterConverter {
                                                   final String rawValue,
                                                   final String encoding) {
 
-    return FormUrlConverter.instance().convert(context, specParameters, rawValue, false, encoding);
+    return queryToNode(context, ConversionPlan.of(context, specParameters), rawValue, encoding);
+  }
+
+  /**
+   * Convert form data parameters to nodes.
+   * The query string MUST BE in the appropriate form corresponding to the associated style.
+   *
+   * @param plans    The conversion plans of the query parameters.
+   * @param rawValue The raw query string.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> queryToNode(final OAIContext context,
+                                                  final Collection<ConversionPlan> plans,
+                                                  final String rawValue,
+                                                  final String encoding) {
+
+    return FormUrlConverter.instance().convert(context, plans, rawValue, false, encoding);
   }
 
   /**
@@ -160,15 +201,28 @@ public final class ParameterConverter {
                                                                                  final Map<String, AbsParameter<M>> specParameters,
                                                                                  final Map<String, Collection<String>> headers) {
 
+    return headersToNode(context, ConversionPlan.of(context, specParameters), headers);
+  }
+
+  /**
+   * Convert header parameters to nodes.
+   *
+   * @param headers The headers.
+   * @param plans   The conversion plans of the header parameters.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> headersToNode(final OAIContext context,
+                                                    final Collection<ConversionPlan> plans,
+                                                    final Map<String, Collection<String>> headers) {
+
     final Map<String, JsonNode> mappedValues = new HashMap<>();
 
     if (headers == null) {
       return mappedValues;
     }
 
-    for (Map.Entry<String, AbsParameter<M>> paramEntry : specParameters.entrySet()) {
-      final String paramName = paramEntry.getKey();
-      final AbsParameter<M> param = paramEntry.getValue();
+    for (ConversionPlan plan : plans) {
+      final String paramName = plan.getName();
       final JsonNode convertedValue;
 
       if (!headers.containsKey(paramName)) {
@@ -176,12 +230,12 @@ public final class ParameterConverter {
       } else {
         Collection<String> headerValues = headers.get(paramName);
         if (headerValues != null) {
-          if (param.getSchema() != null) {
-            convertedValue = SimpleStyleConverter.instance().convert(context, param, paramName, String.join(",", headerValues));
+          if (plan.getSchema() != null) {
+            convertedValue = SimpleStyleConverter.instance().convert(context, plan, String.join(",", headerValues));
           } else {
             convertedValue = getValueFromContentType(
               context,
-              param.getContentMediaTypes(),
+              plan,
               headerValues.stream().findFirst().orElse(null));
           }
         } else {
@@ -208,30 +262,39 @@ public final class ParameterConverter {
                                                     final Map<String, AbsParameter<Parameter>> specParameters,
                                                     final Map<String, String> cookies) {
 
+    return cookiesToNode(context, ConversionPlan.of(context, specParameters), cookies);
+  }
+
+  /**
+   * Convert cookie parameters to nodes.
+   *
+   * @param cookies The cookies.
+   * @param plans   The conversion plans of the cookie parameters.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> cookiesToNode(final OAIContext context,
+                                                    final Collection<ConversionPlan> plans,
+                                                    final Map<String, String> cookies) {
+
     final Map<String, JsonNode> mappedValues = new HashMap<>();
 
     if (cookies == null) {
       return mappedValues;
     }
 
-    for (Map.Entry<String, AbsParameter<Parameter>> paramEntry : specParameters.entrySet()) {
-      final String paramName = paramEntry.getKey();
-      final AbsParameter<Parameter> param = paramEntry.getValue();
+    for (ConversionPlan plan : plans) {
+      final String paramName = plan.getName();
       final JsonNode convertedValue;
 
-      if (param.getExplode() == null) { // explode true is default
-        param.setExplode(true);
-      }
-
       if (!cookies.containsKey(paramName)) {
         convertedValue = null;
       } else {
         String value = cookies.get(paramName);
         if (value != null) {
-          if (param.getSchema() != null) {
-            convertedValue = SimpleStyleConverter.instance().convert(context, param, paramName, value);
+          if (plan.getSchema() != null) {
+            convertedValue = SimpleStyleConverter.instance().convert(context, plan, value);
           } else {
-            convertedValue = getValueFromContentType(context, param.getContentMediaTypes(), value);
+            convertedValue = getValueFromContentType(context, plan, value);
           }
         } else {
           convertedValue = JsonNodeFactory.instance.nullNode();
@@ -247,20 +310,14 @@ public final class ParameterConverter {
   }
 
   private static JsonNode getValueFromContentType(final OAIContext context,
-                                                  final Map<String, MediaType> mediaTypes,
+                                                  final ConversionPlan plan,
                                                   final String value) {
 
-    if (mediaTypes != null && value != null) {
-      Optional<Map.Entry<String, MediaType>> entry = mediaTypes.entrySet().stream().findFirst();
-
-      if (entry.isPresent()) {
-        Map.Entry<String, MediaType> mediaType = entry.get();
-
-        try {
-          return ContentConverter.convert(context, mediaType.getValue(), mediaType.getKey(), null, value);
-        } catch (IOException e) {
-          return null;
-        }
+    if (plan.getContentMediaType() != null && value != null) {
+      try {
+        return ContentConverter.convert(context, plan.getContentMediaType(), plan.getContentType(), null, value);
+      } catch (IOException e) {
+        return null;
       }
     }
 
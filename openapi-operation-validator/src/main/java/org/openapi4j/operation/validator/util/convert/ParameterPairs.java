@@ -0,0 +1,278 @@
+package org.openapi4j.operation.validator.util.convert;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Multi-valued name/value pairs of query strings and form URL encoded contents.
+ * <p/>
+ * Pairs are read in a single pass without regular expressions. Names and values are only decoded
+ * when they contain '%' or '+'. The names known from the specification can be declared beforehand,
+ * their raw occurrences are then matched in place without allocating new strings.
+ * <p/>
+ * Values are kept in order of appearance, including duplicates.
+ */
+public final class ParameterPairs {
+  private static final int MIN_CAPACITY = 8;
+
+  private final boolean caseSensitive;
+  // Open addressing table
+  private String[] keys;
+  private List<String>[] values;
+  // Slots by insertion order
+  private int[] order;
+  private int count;
+
+  /**
+   * @param caseSensitive {@code true} if names are compared with case sensitivity.
+   */
+  public ParameterPairs(final boolean caseSensitive) {
+    this.caseSensitive = caseSensitive;
+    keys = new String[MIN_CAPACITY];
+    values = newValues(MIN_CAPACITY);
+    order = new int[MIN_CAPACITY / 2];
+  }
+
+  /**
+   * Declare a name expected from the specification.
+   * Raw occurrences of the name are then matched without allocation.
+   *
+   * @param name The name.
+   */
+  public void declare(final String name) {
+    slot(name, true);
+  }
+
+  /**
+   * Read the pairs of the given query string or form URL encoded content.
+   *
+   * @param value    The raw content. Pairs are separated by '&amp;'.
+   * @param encoding The encoding to use when decoding.
+   */
+  public void read(final CharSequence value, final String encoding) {
+    if (value == null) {
+      return;
+    }
+
+    final int length = value.length();
+    int start = 0;
+
+    while (start <= length) {
+      int end = start;
+      int equalsIdx = -1;
+      boolean nameEncoded = false;
+      boolean valueEncoded = false;
+
+      for (; end < length; end++) {
+        final char c = value.charAt(end);
+        if (c == '&') {
+          break;
+        } else if (c == '=' && equalsIdx == -1) {
+          equalsIdx = end;
+        } else if (c == '%' || c == '+') {
+          if (equalsIdx == -1) {
+            nameEncoded = true;
+          } else {
+            valueEncoded = true;
+          }
+        }
+      }
+
+      readPair(value, start, end, equalsIdx, nameEncoded, valueEncoded, encoding);
+      start = end + 1;
+    }
+  }
+
+  /**
+   * Add the given value to the given name.
+   *
+   * @param name  The name.
+   * @param value The value, may be {@code null}.
+   */
+  public void add(final String name, final String value) {
+    addValue(slot(name, true), value);
+  }
+
+  /**
+   * Get the values of the given name.
+   *
+   * @param name The name.
+   * @return The values in order of appearance, {@code null} if the name is absent. The list must not be modified.
+   */
+  public List<String> get(final String name) {
+    final int slot = slot(name, false);
+    return slot != -1 ? values[slot] : null;
+  }
+
+  /**
+   * Remove the values of the given name.
+   *
+   * @param name The name.
+   */
+  public void remove(final String name) {
+    final int slot = slot(name, false);
+    if (slot != -1) {
+      values[slot] = null;
+    }
+  }
+
+  /**
+   * Iterate over present names and their values in order of first appearance.
+   *
+   * @param action The action to perform for each name.
+   */
+  public void forEach(final BiConsumer<String, List<String>> action) {
+    for (int i = 0; i < count; i++) {
+      final int slot = order[i];
+      if (values[slot] != null) {
+        action.accept(keys[slot], values[slot]);
+      }
+    }
+  }
+
+  private void readPair(final CharSequence value,
+                        int start,
+                        int end,
+                        final int equalsIdx,
+                        final boolean nameEncoded,
+                        final boolean valueEncoded,
+                        final String encoding) {
+
+    // Trim
+    while (start < end && value.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && value.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (start == end) {
+      return;
+    }
+
+    final int nameEnd = equalsIdx != -1 ? equalsIdx : end;
+    final int slot = nameEncoded
+      ? slot(decode(value, start, nameEnd, encoding), true)
+      : slot(value, start, nameEnd, true);
+
+    if (equalsIdx == -1) {
+      addValue(slot, null);
+    } else if (valueEncoded) {
+      addValue(slot, decode(value, equalsIdx + 1, end, encoding));
+    } else {
+      addValue(slot, value.subSequence(equalsIdx + 1, end).toString());
+    }
+  }
+
+  private void addValue(final int slot, final String value) {
+    if (values[slot] == null) {
+      values[slot] = new ArrayList<>(1);
+    }
+    values[slot].add(value);
+  }
+
+  private int slot(final String name, final boolean create) {
+    return slot(name, 0, name.length(), create);
+  }
+
+  /**
+   * Find the slot of the given name region.
+   *
+   * @return The slot, -1 if absent and not created.
+   */
+  private int slot(final CharSequence str, final int start, final int end, final boolean create) {
+    final int mask = keys.length - 1;
+    int index = hash(str, start, end) & mask;
+
+    String key;
+    while ((key = keys[index]) != null) {
+      if (regionEquals(key, str, start, end)) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+
+    if (!create) {
+      return -1;
+    }
+
+    if ((count + 1) * 2 > keys.length) {
+      resize();
+      return slot(str, start, end, true);
+    }
+
+    keys[index] = str.subSequence(start, end).toString();
+    order[count++] = index;
+
+    return index;
+  }
+
+  private void resize() {
+    final String[] oldKeys = keys;
+    final List<String>[] oldValues = values;
+    final int[] oldOrder = order;
+    final int oldCount = count;
+
+    keys = new String[oldKeys.length * 2];
+    values = newValues(keys.length);
+    order = new int[keys.length / 2];
+    count = 0;
+
+    for (int i = 0; i < oldCount; i++) {
+      final int oldSlot = oldOrder[i];
+      final int slot = slot(oldKeys[oldSlot], true);
+      values[slot] = oldValues[oldSlot];
+    }
+  }
+
+  private int hash(final CharSequence str, final int start, final int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + (caseSensitive ? str.charAt(i) : fold(str.charAt(i)));
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  private boolean regionEquals(final String key, final CharSequence str, final int start, final int end) {
+    if (key.length() != end - start) {
+      return false;
+    }
+
+    for (int i = 0; i < key.length(); i++) {
+      final char c1 = key.charAt(i);
+      final char c2 = str.charAt(start + i);
+      if (c1 != c2 && (caseSensitive || fold(c1) != fold(c2))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  // Same folding as String.CASE_INSENSITIVE_ORDER
+  private static char fold(final char c) {
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+
+  private static String decode(final CharSequence value, final int start, final int end, final String encoding) {
+    final String raw = value.subSequence(start, end).toString();
+
+    try {
+      return URLDecoder.decode(raw, encoding);
+    } catch (UnsupportedEncodingException e) {
+      try {
+        return URLDecoder.decode(raw, StandardCharsets.UTF_8.name());
+      } catch (UnsupportedEncodingException ignored) {
+        return raw; // Will never happen - value is coming from JDK
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String>[] newValues(final int capacity) {
+    return (List<String>[]) new List<?>[capacity];
+  }
+}
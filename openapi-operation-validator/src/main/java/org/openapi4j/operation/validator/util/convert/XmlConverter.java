@@ -5,159 +5,447 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import org.json.JSONObject;
-import org.json.XML;
-import org.json.XMLParserConfiguration;
 import org.openapi4j.core.model.OAIContext;
-import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.parser.model.v3.Schema;
 import org.openapi4j.parser.model.v3.Xml;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_ARRAY;
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_OBJECT;
 
+/**
+ * Schema guided XML to tree node converter.
+ * <p/>
+ * The content is read in a single pass from a StAX reader and only the elements and attributes
+ * described by the schema are converted. Names are matched by local name, the namespace is only
+ * checked when defined in the schema.
+ * <p/>
+ * The content may have more than one top level element (i.e. unwrapped array as root).
+ */
 class XmlConverter {
   private static final XmlConverter INSTANCE = new XmlConverter();
 
-  // Pattern to remove all namespace information
-  private static final Pattern nsPattern
-    = Pattern.compile("<(/)*" // begin XML chapter & slash ?
-    + "\\w+:" // namespace prefix
-    + "(\\w+)" // XML chapter
-    + "((?:\\s+\\w+=\".+?\")*)" // XML attributes before namespace reference
-    + "(?:\\s+\\w+:\\w+=\".+?\")?" // namespace reference
-    + "((?:\\s+\\w+=\".+?\")*)" // XML attributes after namespace reference
-    + "(\\s*/?)>"); // trailing slash ? & end XML chapter
-
-  private static final String nsReplace = "<$1$2$3$4$5>";
+  private final XMLInputFactory factory;
 
   private XmlConverter() {
+    factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    // No DTD, no external entities
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
   }
 
   static XmlConverter instance() {
     return INSTANCE;
   }
 
-  JsonNode convert(OAIContext context, final Schema schema, String body) {
-    return convert(
-      context,
-      schema,
-      XML.toJSONObject(nsPattern.matcher(body).replaceAll(nsReplace), XMLParserConfiguration.KEEP_STRINGS));
+  JsonNode convert(final OAIContext context, final Schema schema, final String body) throws IOException {
+    return convert(context, schema, new StringReader(body));
   }
 
-  private JsonNode convert(OAIContext context, final Schema schema, final JSONObject xml) {
-    if (xml.isEmpty()) {
-      return JsonNodeFactory.instance.nullNode();
-    }
+  JsonNode convert(final OAIContext context,
+                   final Schema schema,
+                   final byte[] body,
+                   final int offset,
+                   final int length,
+                   final String encoding) throws IOException {
+
+    return convert(context, schema, new ByteArrayInputStream(body, offset, length), encoding);
+  }
+
+  JsonNode convert(final OAIContext context,
+                   final Schema schema,
+                   final InputStream body,
+                   final String encoding) throws IOException {
+
+    return convert(context, schema, new InputStreamReader(body, encoding));
+  }
+
+  JsonNode convert(final OAIContext context, final Schema schema, final Reader body) throws IOException {
+    XMLStreamReader reader = null;
 
-    JsonNode content;
     try {
-      content = TreeUtil.json.readTree(xml.toString());
-    } catch (IOException e) {
-      return JsonNodeFactory.instance.nullNode();
+      reader = factory.createXMLStreamReader(new FragmentReader(body));
+      // Move to synthetic root
+      reader.nextTag();
+
+      return new Conversion(context, reader).readRoot(schema.getFlatSchema(context));
+    } catch (XMLStreamException e) {
+      throw new IOException(e.getMessage(), e);
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException ignored) {
+          // Nothing to do
+        }
+      }
     }
+  }
 
-    // Specific case of xml2json mapping : Unwrap first key to match JSON content
-    Schema flatSchema = schema.getFlatSchema(context);
-    if (TYPE_OBJECT.equals(flatSchema.getSupposedType(context))) {
-      content = content.fields().next().getValue();
+  /**
+   * State of a single conversion.
+   */
+  private static final class Conversion {
+    private final OAIContext context;
+    private final XMLStreamReader reader;
+    // Bindings of the object schemas met during this conversion
+    private final Map<Schema, ObjectBinding> bindings = new IdentityHashMap<>();
+
+    private Conversion(final OAIContext context, final XMLStreamReader reader) {
+      this.context = context;
+      this.reader = reader;
     }
 
-    return processNode(context, flatSchema, content);
-  }
+    /**
+     * Read the top level elements from the synthetic root.
+     */
+    private JsonNode readRoot(final Schema schema) throws XMLStreamException {
+      final String type = schema.getSupposedType(context);
+
+      if (TYPE_ARRAY.equals(type)) {
+        final Xml xml = schema.getXml();
+        if (xml == null || !xml.isWrapped()) {
+          return readItems(schema);
+        }
+
+        // Wrapper is the named element or the first one
+        while (nextChild()) {
+          if (xml.getName() == null || matches(xml.getName(), xml.getNamespace())) {
+            return readItems(schema);
+          }
+          skipElement();
+        }
+      } else if (nextChild()) {
+        return readValue(schema);
+      }
 
-  private JsonNode processNode(OAIContext context, final Schema schema, final JsonNode node) {
-    JsonNode content = unwrap(context, schema, node, null);
-    if (content == null) {
-      return null;
+      return JsonNodeFactory.instance.nullNode();
     }
 
-    Schema flatSchema = schema.getFlatSchema(context);
-    if (TYPE_ARRAY.equals(flatSchema.getSupposedType(context))) {
-      return parseArray(context, flatSchema, content);
-    } else if (TYPE_OBJECT.equals(flatSchema.getSupposedType(context))) {
-      return parseObject(context, flatSchema, content);
-    } else {
-      return TypeConverter.instance().convertPrimitive(context, flatSchema, content.asText());
+    /**
+     * Read the value of the current element.
+     */
+    private JsonNode readValue(final Schema schema) throws XMLStreamException {
+      final Schema flatSchema = schema.getFlatSchema(context);
+      final String type = flatSchema.getSupposedType(context);
+
+      if (TYPE_OBJECT.equals(type)) {
+        return readObject(flatSchema);
+      } else if (TYPE_ARRAY.equals(type)) {
+        return readItems(flatSchema);
+      } else {
+        return TypeConverter.instance().convertPrimitive(context, flatSchema, readText());
+      }
     }
-  }
 
-  private JsonNode parseArray(OAIContext context, final Schema schema, final JsonNode node) {
-    if (!node.isArray()) {
-      return JsonNodeFactory.instance.nullNode();
+    /**
+     * Read the child elements of the current element as array items.
+     */
+    private ArrayNode readItems(final Schema schema) throws XMLStreamException {
+      final ArrayNode result = JsonNodeFactory.instance.arrayNode();
+      final Schema itemsSchema = schema.getItemsSchema() != null
+        ? schema.getItemsSchema().getFlatSchema(context)
+        : null;
+
+      if (itemsSchema == null) {
+        skipElement();
+        return result;
+      }
+
+      final Xml itemsXml = itemsSchema.getXml();
+      final String itemName = itemsXml != null ? itemsXml.getName() : null;
+      final String itemNamespace = itemsXml != null ? itemsXml.getNamespace() : null;
+
+      while (nextChild()) {
+        if (itemName == null || matches(itemName, itemNamespace)) {
+          result.add(readValue(itemsSchema));
+        } else {
+          skipElement();
+        }
+      }
+
+      return result;
     }
 
-    ArrayNode resultNode = JsonNodeFactory.instance.arrayNode();
-    for (JsonNode arrayItem : node) {
-      resultNode.add(processNode(context, schema.getItemsSchema(), arrayItem));
+    /**
+     * Read the attributes and child elements of the current element as object properties.
+     */
+    private ObjectNode readObject(final Schema schema) throws XMLStreamException {
+      final ObjectNode result = JsonNodeFactory.instance.objectNode();
+      final ObjectBinding binding = bindings.computeIfAbsent(schema, s -> new ObjectBinding(context, s));
+
+      for (int i = 0; i < reader.getAttributeCount(); i++) {
+        final PropertyBinding property = binding.attributes.get(reader.getAttributeLocalName(i));
+        if (property != null && property.matches(reader.getAttributeNamespace(i))) {
+          result.set(
+            property.key,
+            TypeConverter.instance().convertPrimitive(context, property.schema, reader.getAttributeValue(i)));
+        }
+      }
+
+      while (nextChild()) {
+        final PropertyBinding property = binding.elements.get(reader.getLocalName());
+        if (property == null || !property.matches(reader.getNamespaceURI())) {
+          skipElement();
+        } else if (property.itemsSchema != null) {
+          // Unwrapped array, each occurrence is an item
+          JsonNode items = result.get(property.key);
+          if (!(items instanceof ArrayNode)) {
+            items = result.putArray(property.key);
+          }
+          ((ArrayNode) items).add(readValue(property.itemsSchema));
+        } else {
+          result.set(property.key, readValue(property.schema));
+        }
+      }
+
+      return result;
     }
 
-    return resultNode;
-  }
+    /**
+     * Read the trimmed text of the current element, nested elements are ignored.
+     */
+    private String readText() throws XMLStreamException {
+      StringBuilder text = null;
+      String firstText = null;
+      int depth = 1;
+
+      while (depth > 0) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT:
+            depth++;
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            depth--;
+            break;
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.CDATA:
+          case XMLStreamConstants.SPACE:
+            if (depth != 1) {
+              break;
+            }
+            if (firstText == null) {
+              firstText = reader.getText();
+            } else {
+              if (text == null) {
+                text = new StringBuilder(firstText);
+              }
+              text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+            }
+            break;
+          default:
+            break;
+        }
+      }
 
-  private JsonNode parseObject(OAIContext context, final Schema schema, final JsonNode node) {
-    if (!node.isObject()) {
-      return JsonNodeFactory.instance.nullNode();
+      if (text != null) {
+        return text.toString().trim();
+      }
+      return firstText != null ? firstText.trim() : "";
     }
 
-    ObjectNode resultNode = JsonNodeFactory.instance.objectNode();
+    /**
+     * Move to the next child element of the current element.
+     *
+     * @return {@code false} if the end of the current element is reached.
+     */
+    private boolean nextChild() throws XMLStreamException {
+      while (reader.hasNext()) {
+        final int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          return true;
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          return false;
+        }
+      }
 
-    for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
-      String entryKey = entry.getKey();
-      Schema propSchema = entry.getValue();
+      return false;
+    }
 
-      JsonNode value = processNode(context, propSchema, unwrap(context, schema, node, entryKey));
+    private void skipElement() throws XMLStreamException {
+      int depth = 1;
 
-      if (value != null) {
-        resultNode.set(entryKey, value);
+      while (depth > 0) {
+        final int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          depth++;
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          depth--;
+        }
       }
     }
 
-    return resultNode;
+    private boolean matches(final String name, final String namespace) {
+      return name.equals(reader.getLocalName())
+        && (namespace == null || namespace.equals(reader.getNamespaceURI()));
+    }
   }
 
-  private JsonNode unwrap(OAIContext context, final Schema schema, final JsonNode content, final String defaultKey) {
-    Xml xmlConf = schema.getXml();
+  /**
+   * XML names of the properties of an object schema.
+   */
+  private static final class ObjectBinding {
+    private final Map<String, PropertyBinding> elements = new HashMap<>();
+    private final Map<String, PropertyBinding> attributes = new HashMap<>();
 
-    Schema flatSchema = schema.getFlatSchema(context);
-    if (TYPE_ARRAY.equals(flatSchema.getSupposedType(context))) {
-      // is array wrapped ?
-      if (xmlConf != null && xmlConf.isWrapped()) {
-        if (xmlConf.getName() != null) {
-          return getRenamedNode(xmlConf, content.get(xmlConf.getName()), xmlConf.getName());
-        }
+    private ObjectBinding(final OAIContext context, final Schema schema) {
+      if (schema.getProperties() == null) {
+        return;
+      }
 
-        // fallback for array as root element
-        if (content.size() == 1) {
-          return content.fields().next().getValue();
+      for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
+        final String key = entry.getKey();
+        final Schema propSchema = entry.getValue().getFlatSchema(context);
+        final Xml xml = propSchema.getXml();
+        final String name = xml != null && xml.getName() != null ? xml.getName() : key;
+        final String namespace = xml != null ? xml.getNamespace() : null;
+        final String type = propSchema.getSupposedType(context);
+
+        if (TYPE_ARRAY.equals(type)) {
+          if (xml != null && xml.isWrapped()) {
+            elements.put(name, new PropertyBinding(key, propSchema, null, namespace));
+          } else if (propSchema.getItemsSchema() != null) {
+            // Unwrapped items are named from items or the property
+            final Schema itemsSchema = propSchema.getItemsSchema().getFlatSchema(context);
+            final Xml itemsXml = itemsSchema.getXml();
+            final String itemName = itemsXml != null && itemsXml.getName() != null ? itemsXml.getName() : key;
+            final String itemNamespace = itemsXml != null ? itemsXml.getNamespace() : null;
+            elements.put(itemName, new PropertyBinding(key, propSchema, itemsSchema, itemNamespace));
+          }
+        } else if (TYPE_OBJECT.equals(type)) {
+          elements.put(name, new PropertyBinding(key, propSchema, null, namespace));
         } else {
-          return JsonNodeFactory.instance.nullNode();
+          final PropertyBinding binding = new PropertyBinding(key, propSchema, null, namespace);
+          attributes.put(name, binding);
+          if (xml == null || !xml.isAttribute()) {
+            elements.put(name, binding);
+          }
         }
       }
+    }
+  }
 
-      // is unwrapped array has a renamed node ?
-      xmlConf = flatSchema.getItemsSchema().getXml();
-      if (xmlConf != null) {
-        return getRenamedNode(xmlConf, content, xmlConf.getName());
-      }
-    } else if (TYPE_OBJECT.equals(flatSchema.getSupposedType(context))) {
-      return getRenamedNode(xmlConf, content, defaultKey);
+  private static final class PropertyBinding {
+    private final String key;
+    private final Schema schema;
+    // Items schema of unwrapped arrays
+    private final Schema itemsSchema;
+    private final String namespace;
+
+    private PropertyBinding(final String key, final Schema schema, final Schema itemsSchema, final String namespace) {
+      this.key = key;
+      this.schema = schema;
+      this.itemsSchema = itemsSchema;
+      this.namespace = namespace;
     }
 
-    return content;
+    private boolean matches(final String namespaceURI) {
+      return namespace == null || namespace.equals(namespaceURI);
+    }
   }
 
-  private JsonNode getRenamedNode(final Xml xmlConf, final JsonNode content, final String defaultKey) {
-    if (xmlConf != null && xmlConf.getName() != null) {
-      return content.get(xmlConf.getName());
-    } else if (defaultKey != null) {
-      return content.get(defaultKey);
+  /**
+   * Surround the content with a synthetic root element to accept many top level elements.
+   * The XML declaration and byte order mark are skipped since they are not allowed after the root.
+   */
+  private static final class FragmentReader extends Reader {
+    private static final String ROOT_START = "<_>";
+    private static final String ROOT_END = "</_>";
+    private static final String DECLARATION_START = "<?xml";
+    private static final int DECLARATION_START_LENGTH = DECLARATION_START.length() + 1;
+
+    private final PushbackReader content;
+    private String pending = ROOT_START;
+    private int pendingIdx;
+    private boolean contentRead;
+    private boolean prologSkipped;
+
+    private FragmentReader(final Reader content) {
+      this.content = new PushbackReader(content, DECLARATION_START_LENGTH);
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+
+      if (pending != null) {
+        int count = Math.min(len, pending.length() - pendingIdx);
+        pending.getChars(pendingIdx, pendingIdx + count, cbuf, off);
+        pendingIdx += count;
+        if (pendingIdx == pending.length()) {
+          pending = null;
+        }
+        return count;
+      }
+
+      if (!contentRead) {
+        if (!prologSkipped) {
+          skipProlog();
+        }
+
+        int count = content.read(cbuf, off, len);
+        if (count != -1) {
+          return count;
+        }
+
+        contentRead = true;
+        pending = ROOT_END;
+        pendingIdx = 0;
+        return read(cbuf, off, len);
+      }
+
+      return -1;
     }
 
-    return content;
+    private void skipProlog() throws IOException {
+      prologSkipped = true;
+
+      int c = content.read();
+      if (c != '\uFEFF' && c != -1) {
+        content.unread(c);
+      }
+
+      final char[] start = new char[DECLARATION_START_LENGTH];
+      int count = 0;
+      while (count < start.length && (c = content.read()) != -1) {
+        start[count++] = (char) c;
+      }
+
+      if (count == start.length
+        && DECLARATION_START.equals(new String(start, 0, DECLARATION_START.length()))
+        && Character.isWhitespace(start[DECLARATION_START.length()])) {
+        // Skip until the end of declaration
+        int previous = 0;
+        while ((c = content.read()) != -1 && !(previous == '?' && c == '>')) {
+          previous = c;
+        }
+      } else {
+        content.unread(start, 0, count);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      content.close();
+    }
   }
 }
@@ -4,15 +4,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.openapi4j.core.model.OAIContext;
-import org.openapi4j.core.util.MultiStringMap;
-import org.openapi4j.core.util.StringUtil;
 import org.openapi4j.operation.validator.util.convert.TypeConverter;
-import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
+import org.openapi4j.operation.validator.util.convert.ParameterPairs;
 import org.openapi4j.parser.model.v3.Schema;
 
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_OBJECT;
 
@@ -27,40 +24,58 @@ public class DeepObjectStyleConverter {
   }
 
   public JsonNode convert(OAIContext context,
-                          AbsParameter<?> param,
-                          String paramName,
-                          MultiStringMap<String> paramPairs,
+                          ConversionPlan plan,
+                          ParameterPairs paramPairs,
                           List<String> visitedParams) {
 
     ObjectNode result = JsonNodeFactory.instance.objectNode();
-    Schema propSchema = param.getSchema().getFlatSchema(context);
-    String type = propSchema.getSupposedType(context);
+    Schema propSchema = plan.getSchema();
+    String paramName = plan.getName();
 
-    for (Map.Entry<String, Collection<String>> valueEntry : paramPairs.entrySet()) {
-      String propPath = valueEntry.getKey();
-
-      if (propPath.startsWith(paramName + "[")) {
-        // tokenize
-        List<String> properties = StringUtil.tokenize(propPath, "\\[|\\]", true, true);
-        if (properties.size() == 2) {
-          String propName = properties.get(1);
+    paramPairs.forEach((propPath, values) -> {
+      if (propPath.startsWith(paramName) && propPath.length() > paramName.length()
+        && propPath.charAt(paramName.length()) == '[') {
 
+        String propName = getPropertyName(propPath, paramName.length() + 1);
+        if (propName != null) {
           // Convert value or get string representation
           JsonNode value = TypeConverter.instance().convertPrimitive(
             context,
             propSchema.getProperty(propName),
-            valueEntry.getValue().stream().findFirst().orElse(null));
+            values.get(0));
 
           result.set(propName, value);
 
           visitedParams.add(propPath);
         }
-      } else if (propPath.equals(paramName) && TYPE_OBJECT.equals(type)) {
+      } else if (propPath.equals(paramName) && TYPE_OBJECT.equals(plan.getType())) {
         // propPath is malformed, we still invalidate the paramName
         visitedParams.add(propPath);
       }
-    }
+    });
 
     return result;
   }
+
+  /**
+   * Get the property name from 'paramName[propName]'.
+   *
+   * @return The trimmed property name, {@code null} if the path is malformed.
+   */
+  private String getPropertyName(String propPath, int start) {
+    int end = propPath.length() - 1;
+    if (end < start || propPath.charAt(end) != ']') {
+      return null;
+    }
+
+    for (int i = start; i < end; i++) {
+      char c = propPath.charAt(i);
+      if (c == '[' || c == ']') {
+        return null;
+      }
+    }
+
+    String propName = propPath.substring(start, end).trim();
+    return propName.isEmpty() ? null : propName;
+  }
 }
@@ -2,9 +2,9 @@ package org.openapi4j.operation.validator.util.convert.style;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.OAIContext;
-import org.openapi4j.core.util.MultiStringMap;
 import org.openapi4j.core.util.StringUtil;
-import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
+import org.openapi4j.operation.validator.util.convert.ParameterPairs;
 
 import java.util.*;
 import java.util.regex.Pattern;
@@ -19,31 +19,30 @@ class DelimitedStyleConverter extends FlatStyleConverter {
   }
 
   public JsonNode convert(OAIContext context,
-                          AbsParameter<?> param,
-                          String paramName,
-                          MultiStringMap<String> paramPairs,
+                          ConversionPlan plan,
+                          ParameterPairs paramPairs,
                           List<String> visitedParams) {
 
-    Collection<String> paramValues = paramPairs.get(paramName);
+    List<String> paramValues = paramPairs.get(plan.getName());
 
     if (paramValues == null) {
       return null;
     }
 
-    visitedParams.add(paramName);
+    visitedParams.add(plan.getName());
 
     // In case of single value is null
     String paramValue
       = paramValues.size() == 1
-      ? paramValues.iterator().next()
+      ? paramValues.get(0)
       : String.join(delimiter, paramValues);
 
-    return convert(context, param, paramName, paramValue);
+    return convert(context, plan, paramValue);
   }
 
   @Override
-  public JsonNode convert(OAIContext context, AbsParameter<?> param, String paramName, String paramValue) {
-    if (!TYPE_ARRAY.equals(param.getSchema().getSupposedType(context))) {
+  public JsonNode convert(OAIContext context, ConversionPlan plan, String paramValue) {
+    if (!TYPE_ARRAY.equals(plan.getType())) {
       // delimited parameter cannot be an object or primitive
       return null;
     }
@@ -53,7 +52,7 @@ class DelimitedStyleConverter extends FlatStyleConverter {
     List<String> arrayValues = new ArrayList<>();
 
     for (String value : values) {
-      if (param.isExplode()) {
+      if (plan.isExplode()) {
         arrayValues.add(value);
       } else {
         arrayValues.addAll(StringUtil.tokenize(value, Pattern.quote(delimiter), false, false));
@@ -62,8 +61,8 @@ class DelimitedStyleConverter extends FlatStyleConverter {
 
     Map<String, Object> paramValues = new HashMap<>();
 
-    paramValues.put(paramName, arrayValues);
+    paramValues.put(plan.getName(), arrayValues);
 
-    return convert(context, param, paramName, paramValues);
+    return convert(context, plan, paramValues);
   }
 }
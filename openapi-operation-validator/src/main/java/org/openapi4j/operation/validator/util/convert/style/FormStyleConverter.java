@@ -4,10 +4,10 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.openapi4j.core.model.OAIContext;
-import org.openapi4j.core.util.MultiStringMap;
 import org.openapi4j.core.util.StringUtil;
 import org.openapi4j.operation.validator.util.convert.TypeConverter;
-import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
+import org.openapi4j.operation.validator.util.convert.ParameterPairs;
 import org.openapi4j.parser.model.v3.Schema;
 
 import java.util.*;
@@ -26,9 +26,8 @@ public class FormStyleConverter {
   }
 
   public JsonNode convert(OAIContext context,
-                          AbsParameter<?> param,
-                          String paramName,
-                          MultiStringMap<String> paramPairs,
+                          ConversionPlan plan,
+                          ParameterPairs paramPairs,
                           List<String> visitedParams) {
 
     if (paramPairs == null) {
@@ -37,28 +36,27 @@ public class FormStyleConverter {
 
     JsonNode result;
 
-    param.setSchema(param.getSchema().getFlatSchema(context));
-    String type = param.getSchema().getSupposedType(context);
+    String type = plan.getType();
     if (TYPE_ARRAY.equals(type)) {
-      result = getArrayValues(context, param, paramPairs.get(paramName));
-      visitedParams.add(paramName);
+      result = getArrayValues(context, plan, paramPairs.get(plan.getName()));
+      visitedParams.add(plan.getName());
     } else if (TYPE_OBJECT.equals(type)) {
-      result = getObjectValues(context, param, paramName, paramPairs, visitedParams);
+      result = getObjectValues(context, plan, paramPairs, visitedParams);
     } else {
-      result = getPrimitiveValue(context, param, paramPairs.get(paramName));
-      visitedParams.add(paramName);
+      result = getPrimitiveValue(context, plan, paramPairs.get(plan.getName()));
+      visitedParams.add(plan.getName());
     }
 
     return result;
   }
 
-  private JsonNode getArrayValues(OAIContext context, AbsParameter<?> param, Collection<String> paramValues) {
+  private JsonNode getArrayValues(OAIContext context, ConversionPlan plan, Collection<String> paramValues) {
     if (paramValues == null) {
       return null;
     }
 
     List<Object> values = new ArrayList<>();
-    if (param.isExplode()) {
+    if (plan.isExplode()) {
       values.addAll(paramValues);
     } else {
       for (String paramValue : paramValues) {
@@ -66,21 +64,21 @@ public class FormStyleConverter {
       }
     }
 
-    return TypeConverter.instance().convertArray(context, param.getSchema().getItemsSchema(), values);
+    return TypeConverter.instance().convertArray(context, plan.getSchema().getItemsSchema(), values);
   }
 
-  private JsonNode getObjectValues(OAIContext context, AbsParameter<?> param, String paramName, MultiStringMap<String> values, List<String> visitedParams) {
-    if (param.isExplode()) {
-      return getExplodedObjectValues(context, param, values, visitedParams);
+  private JsonNode getObjectValues(OAIContext context, ConversionPlan plan, ParameterPairs values, List<String> visitedParams) {
+    if (plan.isExplode()) {
+      return getExplodedObjectValues(context, plan, values, visitedParams);
     } else {
-      return getNotExplodedObjectValues(context, param, paramName, values, visitedParams);
+      return getNotExplodedObjectValues(context, plan, values, visitedParams);
     }
   }
 
-  private JsonNode getExplodedObjectValues(OAIContext context, AbsParameter<?> param, MultiStringMap<String> values, List<String> visitedParams) {
+  private JsonNode getExplodedObjectValues(OAIContext context, ConversionPlan plan, ParameterPairs values, List<String> visitedParams) {
     ObjectNode result = JsonNodeFactory.instance.objectNode();
 
-    for (Map.Entry<String, Schema> propEntry : param.getSchema().getProperties().entrySet()) {
+    for (Map.Entry<String, Schema> propEntry : plan.getSchema().getProperties().entrySet()) {
       String propName = propEntry.getKey();
       Collection<String> paramValues = values.get(propName);
 
@@ -99,9 +97,9 @@ public class FormStyleConverter {
     return result.size() != 0 ? result : null;
   }
 
-  private JsonNode getNotExplodedObjectValues(OAIContext context, AbsParameter<?> param, String paramName, MultiStringMap<String> values, List<String> visitedParams) {
-    Collection<String> paramValues = values.get(paramName);
-    visitedParams.add(paramName);
+  private JsonNode getNotExplodedObjectValues(OAIContext context, ConversionPlan plan, ParameterPairs values, List<String> visitedParams) {
+    Collection<String> paramValues = values.get(plan.getName());
+    visitedParams.add(plan.getName());
 
     if (paramValues == null) {
       return null;
@@ -119,7 +117,7 @@ public class FormStyleConverter {
     while (idx < arrayValues.size()) {
       String propName = arrayValues.get(idx++);
       String propValue = arrayValues.get(idx++);
-      Schema propSchema = param.getSchema().getProperty(propName);
+      Schema propSchema = plan.getSchema().getProperty(propName);
 
       result.set(propName, TypeConverter.instance().convertPrimitive(context, propSchema, propValue));
     }
@@ -127,14 +125,14 @@ public class FormStyleConverter {
     return result;
   }
 
-  private JsonNode getPrimitiveValue(OAIContext context, AbsParameter<?> param, Collection<String> paramValues) {
+  private JsonNode getPrimitiveValue(OAIContext context, ConversionPlan plan, Collection<String> paramValues) {
     if (paramValues == null) {
       return null;
     }
 
     return TypeConverter.instance().convertPrimitive(
       context,
-      param.getSchema(),
+      plan.getSchema(),
       getParamValue(paramValues));
   }
 
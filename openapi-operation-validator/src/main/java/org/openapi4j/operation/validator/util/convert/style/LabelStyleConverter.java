@@ -3,7 +3,7 @@ package org.openapi4j.operation.validator.util.convert.style;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import org.openapi4j.core.model.OAIContext;
-import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 
 import java.util.Map;
 
@@ -17,14 +17,14 @@ public class LabelStyleConverter extends FlatStyleConverter {
   }
 
   @Override
-  public JsonNode convert(OAIContext context, AbsParameter<?> param, String paramName, String rawValue) {
+  public JsonNode convert(OAIContext context, ConversionPlan plan, String rawValue) {
     if (rawValue == null) {
       return null;
     }
 
     final Map<String, Object> paramValues;
-    paramValues = getParameterValues(context, param, paramName, rawValue.substring(1), param.isExplode() ? "\\." : ",");
+    paramValues = getParameterValues(context, plan, rawValue.substring(1), plan.isExplode() ? "\\." : ",");
 
-    return convert(context, param, paramName, paramValues);
+    return convert(context, plan, paramValues);
   }
 }
@@ -3,7 +3,7 @@ package org.openapi4j.operation.validator.util.convert.style;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import org.openapi4j.core.model.OAIContext;
-import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,29 +29,29 @@ public class MatrixStyleConverter extends FlatStyleConverter {
   }
 
   @Override
-  public JsonNode convert(OAIContext context, AbsParameter<?> param, String paramName, String rawValue) {
+  public JsonNode convert(OAIContext context, ConversionPlan plan, String rawValue) {
     if (rawValue == null) {
       return null;
     }
 
     final Map<String, Object> paramValues;
-    paramValues = getValues(context, param, paramName, rawValue, param.isExplode() ? ";" : ",");
+    paramValues = getValues(context, plan, rawValue, plan.isExplode() ? ";" : ",");
 
-    return convert(context, param, paramName, paramValues);
+    return convert(context, plan, paramValues);
   }
 
-  private Map<String, Object> getValues(OAIContext context, AbsParameter<?> param, String paramName, String rawValue, String splitPattern) {
-    String type = param.getSchema().getSupposedType(context);
+  private Map<String, Object> getValues(OAIContext context, ConversionPlan plan, String rawValue, String splitPattern) {
+    String type = plan.getType();
 
     if (TYPE_OBJECT.equals(type)) {
-      return getObjectValues(context, param, paramName, rawValue, splitPattern);
+      return getObjectValues(context, plan, rawValue, splitPattern);
     } else {
       Map<String, Object> values = new HashMap<>();
 
       if (TYPE_ARRAY.equals(type)) {
-        List<String> arrayValues = getArrayValues(param, rawValue, splitPattern);
+        List<String> arrayValues = getArrayValues(plan, rawValue, splitPattern);
         if (arrayValues != null && !arrayValues.isEmpty()) {
-          values.put(paramName, arrayValues);
+          values.put(plan.getName(), arrayValues);
         }
       } else {
         Matcher matcher = PREFIXED_SEMICOLON_NAME_REGEX.matcher(rawValue);
@@ -65,14 +65,13 @@ public class MatrixStyleConverter extends FlatStyleConverter {
   }
 
   private Map<String, Object> getObjectValues(OAIContext context,
-                                              AbsParameter<?> param,
-                                              String paramName,
+                                              ConversionPlan plan,
                                               String rawValue,
                                               String splitPattern) {
 
     Matcher matcher = PREFIXED_SEMICOLON_NAME_REGEX.matcher(rawValue);
 
-    if (param.isExplode()) {
+    if (plan.isExplode()) {
       Map<String, Object> values = new HashMap<>();
       while (matcher.find()) {
         values.put(matcher.group(1), matcher.group(2));
@@ -80,15 +79,15 @@ public class MatrixStyleConverter extends FlatStyleConverter {
       return values;
     } else {
       return (matcher.find())
-        ? getParameterValues(context, param, paramName, matcher.group(2), splitPattern)
+        ? getParameterValues(context, plan, matcher.group(2), splitPattern)
         : null;
     }
   }
 
-  private List<String> getArrayValues(AbsParameter<?> param, String rawValue, String splitPattern) {
+  private List<String> getArrayValues(ConversionPlan plan, String rawValue, String splitPattern) {
     Matcher matcher = PREFIXED_SEMICOLON_NAME_REGEX.matcher(rawValue);
 
-    if (param.isExplode()) {
+    if (plan.isExplode()) {
       List<String> arrayValues = new ArrayList<>();
       while (matcher.find()) {
         arrayValues.add(matcher.group(2));
@@ -3,7 +3,7 @@ package org.openapi4j.operation.validator.util.convert.style;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import org.openapi4j.core.model.OAIContext;
-import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 
 import java.util.Map;
 
@@ -18,10 +18,10 @@ public class SimpleStyleConverter extends FlatStyleConverter {
   }
 
   @Override
-  public JsonNode convert(OAIContext context, AbsParameter<?> param, String paramName, String rawValue) {
+  public JsonNode convert(OAIContext context, ConversionPlan plan, String rawValue) {
     final Map<String, Object> paramValues;
-    paramValues = getParameterValues(context, param, paramName, rawValue, ",");
+    paramValues = getParameterValues(context, plan, rawValue, ",");
 
-    return convert(context, param, paramName, paramValues);
+    return convert(context, plan, paramValues);
   }
 }
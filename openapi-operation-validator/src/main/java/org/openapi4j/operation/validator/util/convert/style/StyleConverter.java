@@ -4,7 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.openapi4j.core.model.OAIContext;
 import org.openapi4j.operation.validator.util.convert.TypeConverter;
-import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 import org.openapi4j.parser.model.v3.Schema;
 
 import java.util.Collection;
@@ -14,26 +14,26 @@ import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_ARRAY;
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_OBJECT;
 
 interface StyleConverter {
-  JsonNode convert(OAIContext context, AbsParameter<?> param, String paramName, String rawValue);
+  JsonNode convert(OAIContext context, ConversionPlan plan, String rawValue);
 
   @SuppressWarnings("unchecked")
-  default JsonNode convert(OAIContext context, AbsParameter<?> param, String paramName, Map<String, Object> paramValues) {
+  default JsonNode convert(OAIContext context, ConversionPlan plan, Map<String, Object> paramValues) {
     if (paramValues == null || paramValues.size() == 0) {
       return null;
     }
 
-    String style = param.getSchema().getSupposedType(context);
-    Schema schema = param.getSchema().getFlatSchema(context);
+    String style = plan.getType();
+    Schema schema = plan.getSchema();
 
     if (TYPE_OBJECT.equals(style)) {
       return TypeConverter.instance().convertObject(context, schema, paramValues);
     } else if (TYPE_ARRAY.equals(style)) {
-      Object value = paramValues.get(paramName);
+      Object value = paramValues.get(plan.getName());
       return (value instanceof Collection)
         ? TypeConverter.instance().convertArray(context, schema.getItemsSchema(), (Collection<Object>) value)
         : JsonNodeFactory.instance.nullNode();
     } else {
-      return TypeConverter.instance().convertPrimitive(context, schema, paramValues.get(paramName));
+      return TypeConverter.instance().convertPrimitive(context, schema, paramValues.get(plan.getName()));
     }
   }
 }
@@ -1,20 +1,23 @@
 package org.openapi4j.operation.validator.validation;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.openapi4j.core.model.v3.OAI3;
-import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.operation.validator.model.impl.Body;
+import org.openapi4j.operation.validator.util.ContentType;
+import org.openapi4j.operation.validator.util.convert.MultipartOptions;
 import org.openapi4j.parser.model.v3.MediaType;
+import org.openapi4j.schema.validator.JsonStreamValidator;
 import org.openapi4j.schema.validator.JsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
-import org.openapi4j.schema.validator.v3.SchemaValidator;
 
 import java.io.IOException;
 
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.STREAM_JSON_CONTENT;
 
 class BodyValidator {
   private static final ValidationResult BODY_CONTENT_ERR = new ValidationResult(ERROR, 201, "An error occurred when getting the body content from type '%s'.%n%s");
@@ -23,13 +26,15 @@ class BodyValidator {
 
   private final ValidationContext<OAI3> context;
   private final MediaType mediaType;
+  private final MultipartOptions multipartOptions;
   private final JsonValidator validator;
 
-  BodyValidator(ValidationContext<OAI3> context, MediaType mediaType) {
-    this.context = context;
+  BodyValidator(SchemaValidatorCache schemaValidators, MediaType mediaType, MultipartOptions multipartOptions) {
+    this.context = schemaValidators.getContext();
     this.mediaType = mediaType;
+    this.multipartOptions = multipartOptions;
 
-    validator = initValidator();
+    validator = initValidator(schemaValidators);
   }
 
   void validate(final Body body,
@@ -44,21 +49,33 @@ class BodyValidator {
     }
 
     try {
-      JsonNode jsonBody = body.getContentAsNode(context.getContext(), mediaType, rawContentType);
+      if (isStreamable(rawContentType)) {
+        try (JsonParser parser = body.getContentAsParser()) {
+          if (parser != null) {
+            ((JsonStreamValidator) validator).validate(parser, validation);
+            return;
+          }
+        }
+      }
+
+      JsonNode jsonBody = body.getContentAsNode(context.getContext(), mediaType, rawContentType, multipartOptions);
       validator.validate(jsonBody, validation);
     } catch (IOException ex) {
       validation.add(BODY_CONTENT_ERR, rawContentType, ex);
     }
   }
 
-  private JsonValidator initValidator() {
+  private boolean isStreamable(final String rawContentType) {
+    return context.getOption(STREAM_JSON_CONTENT)
+      && validator instanceof JsonStreamValidator
+      && ContentType.isJson(ContentType.getTypeOnly(rawContentType));
+  }
+
+  private JsonValidator initValidator(SchemaValidatorCache schemaValidators) {
     if (mediaType == null || mediaType.getSchema() == null) {
       return null;
     }
 
-    return new SchemaValidator(
-      context,
-      BODY,
-      TreeUtil.json.convertValue(mediaType.getSchema().copy(), JsonNode.class));
+    return schemaValidators.getValidator(BODY, mediaType.getSchema());
   }
 }
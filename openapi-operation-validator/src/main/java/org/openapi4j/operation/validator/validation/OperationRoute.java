@@ -0,0 +1,53 @@
+package org.openapi4j.operation.validator.validation;
+
+import org.openapi4j.operation.validator.model.Request;
+import org.openapi4j.parser.model.v3.Operation;
+import org.openapi4j.parser.model.v3.Path;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Dispatch table of the operations of a path for a given server.
+ * <p/>
+ * Operations and their validators are indexed by method ordinal.
+ */
+class OperationRoute {
+  private static final Request.Method[] METHODS = Request.Method.values();
+
+  private final Path path;
+  private final String pathTemplate;
+  private final Operation[] operations;
+  // Lazily filled unless pre-compiled
+  private final AtomicReferenceArray<OperationValidator> validators;
+
+  OperationRoute(final Path path, final String pathTemplate) {
+    this.path = path;
+    this.pathTemplate = pathTemplate;
+
+    operations = new Operation[METHODS.length];
+    for (Request.Method method : METHODS) {
+      operations[method.ordinal()] = path.getOperation(method.name().toLowerCase());
+    }
+    validators = new AtomicReferenceArray<>(METHODS.length);
+  }
+
+  Path getPath() {
+    return path;
+  }
+
+  String getPathTemplate() {
+    return pathTemplate;
+  }
+
+  Operation getOperation(final Request.Method method) {
+    return operations[method.ordinal()];
+  }
+
+  OperationValidator getValidator(final Request.Method method) {
+    return validators.get(method.ordinal());
+  }
+
+  void setValidator(final Request.Method method, final OperationValidator validator) {
+    validators.set(method.ordinal(), validator);
+  }
+}
@@ -9,6 +9,8 @@ import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.impl.Body;
 import org.openapi4j.operation.validator.model.impl.MediaTypeContainer;
 import org.openapi4j.operation.validator.util.PathResolver;
+import org.openapi4j.operation.validator.util.PathRouter;
+import org.openapi4j.operation.validator.util.convert.MultipartOptions;
 import org.openapi4j.operation.validator.util.convert.ParameterConverter;
 import org.openapi4j.parser.model.AbsRefOpenApiSchema;
 import org.openapi4j.parser.model.v3.*;
@@ -16,7 +18,6 @@ import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,9 +57,11 @@ public class OperationValidator {
   // Map<status code, validator>
   private final Map<String, ParameterValidator<Header>> specResponseHeaderValidators;
   private final ValidationContext<OAI3> context;
+  private final SchemaValidatorCache schemaValidators;
+  private final MultipartOptions multipartOptions;
   private final Operation operation;
   private final String templatePath;
-  private final List<Pattern> pathPatterns;
+  private final PathRouter<String> pathRouter;
 
   /**
    * Creates a validator for the given operation.
@@ -84,25 +87,29 @@ public class OperationValidator {
                             final OpenApi3 openApi,
                             final Path path,
                             final Operation operation) {
-    this(context, null, openApi, path, operation);
+    this(new SchemaValidatorCache(context), MultipartOptions.DEFAULT, null, openApi, path, operation);
   }
 
   /**
    * Creates a validator for the given operation.
    *
-   * @param context      The validation context for additional or changing behaviours.
-   * @param pathPatterns Pattern for the current path related to servers or OAI Document origin.
-   * @param openApi      The full Document Description where the Operation is located.
-   * @param path         The Path of the Operation.
-   * @param operation    The Operation to validate.
+   * @param schemaValidators The shared cache of schema validators with the validation context.
+   * @param multipartOptions The options of multipart bodies conversion.
+   * @param pathTemplates    Templates for the current path related to servers or OAI Document origin.
+   * @param openApi          The full Document Description where the Operation is located.
+   * @param path             The Path of the Operation.
+   * @param operation        The Operation to validate.
    */
-  OperationValidator(final ValidationContext<OAI3> context,
-                     final List<Pattern> pathPatterns,
+  OperationValidator(final SchemaValidatorCache schemaValidators,
+                     final MultipartOptions multipartOptions,
+                     final List<String> pathTemplates,
                      final OpenApi3 openApi,
                      final Path path,
                      final Operation operation) {
 
-    this.context = requireNonNull(context, VALIDATION_CTX_REQUIRED_ERR_MSG);
+    this.schemaValidators = schemaValidators;
+    this.multipartOptions = multipartOptions;
+    this.context = requireNonNull(schemaValidators.getContext(), VALIDATION_CTX_REQUIRED_ERR_MSG);
     requireNonNull(operation, OPERATION_REQUIRED_ERR_MSG);
     this.templatePath = openApi.getPathFrom(requireNonNull(path, PATH_REQUIRED_ERR_MSG));
 
@@ -115,10 +122,14 @@ public class OperationValidator {
 
     // Request path parameters
     specRequestPathValidator = createParameterValidator(IN_PATH);
-    this.pathPatterns
-      = pathPatterns == null
-      ? PathResolver.instance().buildPathPatterns(openApi.getContext(), openApi.getServers(), templatePath)
-      : pathPatterns;
+    this.pathRouter = new PathRouter<>();
+    final List<String> templates
+      = pathTemplates == null
+      ? PathResolver.instance().buildPathTemplates(openApi.getContext(), openApi.getServers(), templatePath)
+      : pathTemplates;
+    for (String pathTemplate : templates) {
+      pathRouter.add(pathTemplate, pathTemplate);
+    }
 
     // Request query parameters
     specRequestQueryValidator = createParameterValidator(IN_QUERY);
@@ -147,30 +158,30 @@ public class OperationValidator {
    */
   public Map<String, JsonNode> validatePath(final Request request, final ValidationData<?> validation) {
     // Check paths are matching before trying to map values
-    Pattern pathPattern = PathResolver.instance().findPathPattern(pathPatterns, request.getPath());
-    if (pathPattern == null) {
+    PathRouter.Match<String> pathMatch = pathRouter.match(request.getPath());
+    if (pathMatch == null) {
       validation.add(CRUMB_PATH, PATH_NOT_FOUND_ERR, templatePath, request.getPath());
       return null;
     }
 
-    return validatePath(request, pathPattern, validation);
+    return validatePath(request, pathMatch, validation);
   }
 
   /**
    * Validate path parameters from the given request.
    *
    * @param request    The request to validate. Path MUST MATCH exactly the pattern defined in specification.
+   * @param pathMatch  The routing result of the request path with the captured values.
    * @param validation The validation data delegate and results.
    * @return The mapped parameters with their values.
    */
-  Map<String, JsonNode> validatePath(final Request request, Pattern pathPattern, final ValidationData<?> validation) {
+  Map<String, JsonNode> validatePath(final Request request, PathRouter.Match<?> pathMatch, final ValidationData<?> validation) {
     if (specRequestPathValidator == null) return null;
 
     Map<String, JsonNode> mappedValues = ParameterConverter.pathToNode(
       context.getContext(),
-      specRequestPathValidator.getParameters(),
-      pathPattern,
-      request.getPath());
+      specRequestPathValidator.getConversionPlans(),
+      pathMatch);
 
     specRequestPathValidator.validate(mappedValues, validation);
 
@@ -189,7 +200,7 @@ public class OperationValidator {
 
     Map<String, JsonNode> mappedValues = ParameterConverter.queryToNode(
       context.getContext(),
-      specRequestQueryValidator.getParameters(),
+      specRequestQueryValidator.getConversionPlans(),
       request.getQuery(),
       "UTF-8");
 
@@ -210,7 +221,7 @@ public class OperationValidator {
 
     Map<String, JsonNode> mappedValues = ParameterConverter.headersToNode(
       context.getContext(),
-      specRequestHeaderValidator.getParameters(),
+      specRequestHeaderValidator.getConversionPlans(),
       request.getHeaders());
 
     specRequestHeaderValidator.validate(mappedValues, validation);
@@ -230,7 +241,7 @@ public class OperationValidator {
 
     final Map<String, JsonNode> mappedValues = ParameterConverter.cookiesToNode(
       context.getContext(),
-      specRequestCookieValidator.getParameters(),
+      specRequestCookieValidator.getConversionPlans(),
       request.getCookies());
 
     specRequestCookieValidator.validate(mappedValues, validation);
@@ -336,7 +347,7 @@ public class OperationValidator {
 
     Map<String, JsonNode> mappedValues = ParameterConverter.headersToNode(
       context.getContext(),
-      validator.getParameters(),
+      validator.getConversionPlans(),
       response.getHeaders());
 
     validator.validate(mappedValues, validation);
@@ -351,7 +362,7 @@ public class OperationValidator {
 
     return
       parameters.size() != 0
-        ? new ParameterValidator<>(context, parameters)
+        ? new ParameterValidator<>(schemaValidators, parameters)
         : null;
   }
 
@@ -386,10 +397,10 @@ public class OperationValidator {
     final Map<MediaTypeContainer, BodyValidator> validators = new HashMap<>();
 
     if (mediaTypes == null) {
-      validators.put(MediaTypeContainer.create(null), new BodyValidator(context, null));
+      validators.put(MediaTypeContainer.create(null), new BodyValidator(schemaValidators, null, multipartOptions));
     } else {
       for (Map.Entry<String, MediaType> entry : mediaTypes.entrySet()) {
-        validators.put(MediaTypeContainer.create(entry.getKey()), new BodyValidator(context, entry.getValue()));
+        validators.put(MediaTypeContainer.create(entry.getKey()), new BodyValidator(schemaValidators, entry.getValue(), multipartOptions));
       }
     }
 
@@ -409,7 +420,7 @@ public class OperationValidator {
         if (response.getHeaders() != null) {
           Map<String, AbsParameter<Header>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
           headers.putAll(response.getHeaders());
-          validators.put(statusCode, new ParameterValidator<>(context, headers));
+          validators.put(statusCode, new ParameterValidator<>(schemaValidators, headers));
         }
       }
     }
@@ -540,7 +551,7 @@ public class OperationValidator {
 
   private Schema getFlatSchema(Schema schema) {
     if (schema != null) {
-      return getFlatModel(schema, Schema.class);
+      return schemaValidators.register(schema, getFlatModel(schema, Schema.class));
     }
     return null;
   }
@@ -562,8 +573,7 @@ public class OperationValidator {
       for (Map.Entry<String, MediaType> entry : mediaTypes.entrySet()) {
         MediaType mediaType = entry.getValue();
         if (mediaType.getSchema() != null) {
-          mediaType.setSchema(
-            getFlatModel(mediaType.getSchema(), Schema.class));
+          mediaType.setSchema(getFlatSchema(mediaType.getSchema()));
         }
       }
     }
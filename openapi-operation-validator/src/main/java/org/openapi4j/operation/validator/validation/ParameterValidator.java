@@ -1,19 +1,17 @@
 package org.openapi4j.operation.validator.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import org.openapi4j.core.model.v3.OAI3;
-import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.core.validation.ValidationResult;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 import org.openapi4j.parser.model.OpenApiSchema;
 import org.openapi4j.parser.model.v3.AbsParameter;
 import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.Schema;
 import org.openapi4j.schema.validator.JsonValidator;
-import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
-import org.openapi4j.schema.validator.v3.SchemaValidator;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
@@ -21,20 +19,26 @@ import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
 class ParameterValidator<M extends OpenApiSchema<M>> {
   private static final ValidationResult PARAM_REQUIRED_ERR = new ValidationResult(ERROR, 206, "Parameter '%s' is required.");
 
-  private final ValidationContext<OAI3> context;
+  private final SchemaValidatorCache schemaValidators;
   private final Map<String, JsonValidator> specValidators;
   private final Map<String, AbsParameter<M>> specParameters;
+  private final List<ConversionPlan> conversionPlans;
 
-  ParameterValidator(ValidationContext<OAI3> context, Map<String, AbsParameter<M>> specParameters) {
-    this.context = context;
+  ParameterValidator(SchemaValidatorCache schemaValidators, Map<String, AbsParameter<M>> specParameters) {
+    this.schemaValidators = schemaValidators;
     this.specParameters = specParameters;
     specValidators = initValidators(specParameters);
+    conversionPlans = ConversionPlan.of(schemaValidators.getContext().getContext(), specParameters);
   }
 
   Map<String, AbsParameter<M>> getParameters() {
     return specParameters;
   }
 
+  List<ConversionPlan> getConversionPlans() {
+    return conversionPlans;
+  }
+
   void validate(final Map<String, JsonNode> values,
                 final ValidationData<?> validation) {
 
@@ -73,12 +77,7 @@ class ParameterValidator<M extends OpenApiSchema<M>> {
       }
 
       if (paramSchema != null) {
-        SchemaValidator validator = new SchemaValidator(
-          context,
-          paramName,
-          TreeUtil.json.convertValue(paramSchema.copy(), JsonNode.class));
-
-        validators.put(paramName, validator);
+        validators.put(paramName, schemaValidators.getValidator(paramName, paramSchema));
       }
     }
 
@@ -7,18 +7,22 @@ import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.Response;
 import org.openapi4j.operation.validator.model.impl.RequestParameters;
 import org.openapi4j.operation.validator.util.PathResolver;
+import org.openapi4j.operation.validator.util.PathRouter;
+import org.openapi4j.operation.validator.util.convert.MultipartOptions;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.openapi4j.parser.model.v3.Operation;
 import org.openapi4j.parser.model.v3.Path;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.ValidationDataPool;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static java.util.Objects.requireNonNull;
 
@@ -26,10 +30,14 @@ import static java.util.Objects.requireNonNull;
  * Validate a request data against a given OpenAPI Operation defined in the Spec.
  * Be sure to re-use it each time you need validation since the Operation validators are cached
  * for the given Open API.
+ * <p/>
+ * Operation validators are lazily created by default.
+ * Use {@link Builder#precompile(boolean)} to create all of them before serving requests.
  */
 public class RequestValidator {
   private static final String OAI_REQUIRED_ERR_MSG = "OpenAPI is required.";
   private static final String VALIDATION_CTX_REQUIRED_ERR_MSG = "Validation context is required.";
+  private static final String MULTIPART_OPTIONS_REQUIRED_ERR_MSG = "Multipart options are required.";
   private static final String PATHS_REQUIRED_ERR_MSG = "Paths Object is required in Document Description.";
   private static final String PATH_REQUIRED_ERR_MSG = "Path is required.";
   private static final String OPERATION_REQUIRED_ERR_MSG = "Operation is required.";
@@ -42,8 +50,11 @@ public class RequestValidator {
 
   private final OpenApi3 openApi;
   private final ValidationContext<OAI3> context;
+  private final SchemaValidatorCache schemaValidators;
+  private final MultipartOptions multipartOptions;
   private final Map<Operation, OperationValidator> operationValidators;
-  private final Map<Pattern, Path> pathPatterns;
+  private final List<OperationRoute> routes;
+  private final PathRouter<OperationRoute> pathRouter;
 
   /**
    * Construct a new request validator with the given open API.
@@ -61,14 +72,35 @@ public class RequestValidator {
    * @param openApi The loaded open API model
    */
   public RequestValidator(final ValidationContext<OAI3> context, final OpenApi3 openApi) {
+    this(context, openApi, MultipartOptions.DEFAULT);
+  }
+
+  private RequestValidator(final ValidationContext<OAI3> context,
+                           final OpenApi3 openApi,
+                           final MultipartOptions multipartOptions) {
     requireNonNull(openApi, OAI_REQUIRED_ERR_MSG);
     requireNonNull(context, VALIDATION_CTX_REQUIRED_ERR_MSG);
     requireNonNull(openApi.getPaths(), PATHS_REQUIRED_ERR_MSG);
 
     this.openApi = openApi;
     this.context = context;
+    this.schemaValidators = new SchemaValidatorCache(context);
+    this.multipartOptions = requireNonNull(multipartOptions, MULTIPART_OPTIONS_REQUIRED_ERR_MSG);
     this.operationValidators = new ConcurrentHashMap<>();
-    this.pathPatterns = buildPathPatterns();
+    this.routes = new ArrayList<>();
+    this.pathRouter = new PathRouter<>();
+    buildPathPatterns();
+  }
+
+  private RequestValidator(final Builder builder) {
+    this(
+      builder.context != null ? builder.context : new ValidationContext<>(builder.openApi.getContext()),
+      builder.openApi,
+      builder.multipartOptions);
+
+    if (builder.precompile) {
+      precompile(builder.executor, builder.listener);
+    }
   }
 
   /**
@@ -86,11 +118,7 @@ public class RequestValidator {
   public OperationValidator getValidator(final Request request) throws ValidationException {
     requireNonNull(request, REQUEST_REQUIRED_ERR_MSG);
 
-    final Pattern pathPattern = getRequiredPathPattern(request);
-    final Path path = getRequiredPath(request, pathPattern);
-    final Operation operation = getRequiredOperation(request, path);
-
-    return getValidator(path, operation);
+    return getRequiredValidator(request, getRequiredRoute(request).getValue());
   }
 
   /**
@@ -104,18 +132,27 @@ public class RequestValidator {
     requireNonNull(path, PATH_REQUIRED_ERR_MSG);
     requireNonNull(operation, OPERATION_REQUIRED_ERR_MSG);
 
-    return operationValidators.computeIfAbsent(
-      operation,
-      op -> {
-        // extract resolved path patterns for the given path
-        List<Pattern> patterns = new ArrayList<>();
-        for (Map.Entry<Pattern, Path> patternPathEntry : pathPatterns.entrySet()) {
-          if (patternPathEntry.getValue().equals(path)) {
-            patterns.add(patternPathEntry.getKey());
-          }
-        }
-        return new OperationValidator(context, patterns, openApi, path, op);
-      });
+    final OperationValidator validator = operationValidators.get(operation);
+    if (validator != null) {
+      return validator;
+    }
+
+    // Built outside of the map to not serialize compilations on its locks
+    final OperationValidator newValidator = createValidator(path, operation);
+    final OperationValidator previous = operationValidators.putIfAbsent(operation, newValidator);
+
+    return previous != null ? previous : newValidator;
+  }
+
+  private OperationValidator createValidator(final Path path, final Operation operation) {
+    // extract resolved path templates for the given path
+    List<String> templates = new ArrayList<>();
+    for (OperationRoute route : routes) {
+      if (route.getPath().equals(path)) {
+        templates.add(route.getPathTemplate());
+      }
+    }
+    return new OperationValidator(schemaValidators, multipartOptions, templates, openApi, path, operation);
   }
 
   /**
@@ -130,7 +167,11 @@ public class RequestValidator {
    * @throws ValidationException A validation report containing validation errors
    */
   public RequestParameters validate(final Request request) throws ValidationException {
-    return validate(request, new ValidationData<>());
+    final ValidationData<?> validation = ValidationDataPool.acquire(null);
+    final RequestParameters parameters = validate(request, validation);
+    ValidationDataPool.release(validation);
+
+    return parameters;
   }
 
   /**
@@ -153,9 +194,10 @@ public class RequestValidator {
     requireNonNull(response, RESPONSE_REQUIRED_ERR_MSG);
 
     final OperationValidator validator = getValidator(request);
-    final ValidationData<?> validation = new ValidationData<>();
+    final ValidationData<?> validation = ValidationDataPool.acquire(null);
 
     validateResponse(response, validator, validation);
+    ValidationDataPool.release(validation);
   }
 
   /**
@@ -167,11 +209,12 @@ public class RequestValidator {
    */
   public RequestParameters validate(final Request request,
                                     final ValidationData<?> validation) throws ValidationException {
-    final Pattern pathPattern = getRequiredPathPattern(request);
-    final Path path = getRequiredPath(request, pathPattern);
-    final Operation operation = getRequiredOperation(request, path);
+    requireNonNull(request, REQUEST_REQUIRED_ERR_MSG);
 
-    return validate(request, pathPattern, path, operation, validation);
+    final PathRouter.Match<OperationRoute> pathMatch = getRequiredRoute(request);
+    final OperationValidator opValidator = getRequiredValidator(request, pathMatch.getValue());
+
+    return validate(request, pathMatch, opValidator, validation);
   }
 
   /**
@@ -185,7 +228,11 @@ public class RequestValidator {
   public RequestParameters validate(final Request request,
                                     final Path path,
                                     final Operation operation) throws ValidationException {
-    return validate(request, path, operation, new ValidationData<>());
+    final ValidationData<?> validation = ValidationDataPool.acquire(null);
+    final RequestParameters parameters = validate(request, path, operation, validation);
+    ValidationDataPool.release(validation);
+
+    return parameters;
   }
 
   /**
@@ -201,7 +248,9 @@ public class RequestValidator {
                                     final Path path,
                                     final Operation operation,
                                     final ValidationData<?> validation) throws ValidationException {
-    return validate(request, null, path, operation, validation);
+    requireNonNull(request, REQUEST_REQUIRED_ERR_MSG);
+
+    return validate(request, null, getValidator(path, operation), validation);
   }
 
   /**
@@ -215,7 +264,9 @@ public class RequestValidator {
   public void validate(final Response response,
                        final Path path,
                        final Operation operation) throws ValidationException {
-    validate(response, path, operation, new ValidationData<>());
+    final ValidationData<?> validation = ValidationDataPool.acquire(null);
+    validate(response, path, operation, validation);
+    ValidationDataPool.release(validation);
   }
 
   /**
@@ -243,25 +294,19 @@ public class RequestValidator {
    * Validate the request against the given API operation
    *
    * @param request     The request to validate. Must be {@code nonnull}.
-   * @param pathPattern The path pattern for the current path operation.
-   * @param path        The OAS path. Must be {@code nonnull}.
-   * @param operation   OpenAPI operation. Must be {@code nonnull}.
+   * @param pathMatch   The routing result of the request path, {@code null} to match the path again.
+   * @param opValidator The validator of the operation.
    * @param validation  The validation results with your own data/delegates. Must be non {@code null}.
    * @throws ValidationException A validation report containing validation errors
    */
   private RequestParameters validate(final Request request,
-                                     final Pattern pathPattern,
-                                     final Path path,
-                                     final Operation operation,
+                                     final PathRouter.Match<?> pathMatch,
+                                     final OperationValidator opValidator,
                                      final ValidationData<?> validation) throws ValidationException {
 
-    requireNonNull(request, REQUEST_REQUIRED_ERR_MSG);
-
-    final OperationValidator opValidator = getValidator(path, operation);
-
     final Map<String, JsonNode> pathParameters
-      = (pathPattern != null)
-      ? opValidator.validatePath(request, pathPattern, validation)
+      = (pathMatch != null)
+      ? opValidator.validatePath(request, pathMatch, validation)
       : opValidator.validatePath(request, validation);
 
     final Map<String, JsonNode> queryParameters = opValidator.validateQuery(request, validation);
@@ -281,29 +326,29 @@ public class RequestValidator {
     );
   }
 
-  private Operation getRequiredOperation(final Request request,
-                                         final Path path) throws ValidationException {
-    final Operation operation = path.getOperation(request.getMethod().name().toLowerCase());
-    if (operation == null) {
-      throw new ValidationException(String.format(INVALID_OP_ERR_MSG, request.getURL(), request.getMethod().name()));
-    }
-    return operation;
-  }
-
-  private Pattern getRequiredPathPattern(final Request request) throws ValidationException {
-    final Pattern pathPattern = PathResolver.instance().findPathPattern(pathPatterns.keySet(), request.getPath());
-    if (pathPattern == null) {
+  private PathRouter.Match<OperationRoute> getRequiredRoute(final Request request) throws ValidationException {
+    final PathRouter.Match<OperationRoute> match = pathRouter.match(request.getPath());
+    if (match == null) {
       throw new ValidationException(String.format(INVALID_OP_PATH_ERR_MSG, request.getURL()));
     }
-    return pathPattern;
+    return match;
   }
 
-  private Path getRequiredPath(Request request, Pattern pathPattern) throws ValidationException {
-    final Path path = pathPatterns.get(pathPattern);
-    if (path == null) {
-      throw new ValidationException(String.format(INVALID_OP_PATH_ERR_MSG, request.getURL()));
+  private OperationValidator getRequiredValidator(final Request request,
+                                                  final OperationRoute route) throws ValidationException {
+    final Request.Method method = request.getMethod();
+
+    OperationValidator validator = route.getValidator(method);
+    if (validator == null) {
+      final Operation operation = route.getOperation(method);
+      if (operation == null) {
+        throw new ValidationException(String.format(INVALID_OP_ERR_MSG, request.getURL(), method.name()));
+      }
+      validator = getValidator(route.getPath(), operation);
+      route.setValidator(method, validator);
     }
-    return path;
+
+    return validator;
   }
 
   private void validateResponse(final Response response,
@@ -315,20 +360,197 @@ public class RequestValidator {
     }
   }
 
-  private Map<Pattern, Path> buildPathPatterns() {
-    Map<Pattern, Path> patterns = new HashMap<>();
+  /**
+   * Create the validators of all operations of the Document Description.
+   *
+   * @param executor The executor to run compilations, the common fork/join pool is used if {@code null}.
+   * @param listener The listener of compilation times. Can be {@code null}.
+   */
+  private void precompile(final ExecutorService executor, final CompilationListener listener) {
+    final List<Runnable> compilations = new ArrayList<>();
+
+    for (Map.Entry<String, Path> pathEntry : openApi.getPaths().entrySet()) {
+      final Path path = pathEntry.getValue();
+      if (path.getOperations() == null) {
+        continue;
+      }
+
+      for (Map.Entry<String, Operation> operationEntry : path.getOperations().entrySet()) {
+        compilations.add(() -> {
+          final Operation operation = operationEntry.getValue();
+          final long start = System.nanoTime();
+          final OperationValidator validator = createValidator(path, operation);
+          final long duration = System.nanoTime() - start;
+
+          operationValidators.putIfAbsent(operation, validator);
+          if (listener != null) {
+            listener.onCompiled(pathEntry.getKey(), operationEntry.getKey(), operation, duration);
+          }
+        });
+      }
+    }
+
+    if (executor == null) {
+      compilations.parallelStream().forEach(Runnable::run);
+    } else {
+      runCompilations(executor, compilations);
+    }
+
+    // Setup dispatch tables with compiled validators
+    for (OperationRoute route : routes) {
+      for (Request.Method method : Request.Method.values()) {
+        final Operation operation = route.getOperation(method);
+        if (operation != null) {
+          route.setValidator(method, operationValidators.get(operation));
+        }
+      }
+    }
+  }
+
+  private void runCompilations(final ExecutorService executor, final List<Runnable> compilations) {
+    final List<Future<?>> futures = new ArrayList<>(compilations.size());
+    for (Runnable compilation : compilations) {
+      futures.add(executor.submit(compilation));
+    }
+
+    try {
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException ex) {
+      // Remaining operations will be compiled lazily
+      for (Future<?> future : futures) {
+        future.cancel(true);
+      }
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      } else if (ex.getCause() instanceof Error) {
+        throw (Error) ex.getCause();
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
 
+  private void buildPathPatterns() {
     for (Map.Entry<String, Path> pathEntry : openApi.getPaths().entrySet()) {
-      List<Pattern> builtPathPatterns = PathResolver.instance().buildPathPatterns(
+      List<String> pathTemplates = PathResolver.instance().buildPathTemplates(
         openApi.getContext(),
         openApi.getServers(),
         pathEntry.getKey());
 
-      for (Pattern pathPattern : builtPathPatterns) {
-        patterns.put(pathPattern, pathEntry.getValue());
+      for (String pathTemplate : pathTemplates) {
+        OperationRoute route = new OperationRoute(pathEntry.getValue(), pathTemplate);
+
+        routes.add(route);
+        pathRouter.add(pathTemplate, route);
       }
     }
+  }
+
+  /**
+   * Listener of operation validator compilation times.
+   * Calls can be made concurrently from the compilation threads.
+   */
+  @FunctionalInterface
+  public interface CompilationListener {
+    /**
+     * Called when the validator of an operation is created.
+     *
+     * @param path          The path template of the operation.
+     * @param method        The HTTP method of the operation.
+     * @param operation     The operation.
+     * @param durationNanos The compilation time in nanoseconds.
+     */
+    void onCompiled(String path, String method, Operation operation, long durationNanos);
+  }
+
+  /**
+   * Builder for {@link RequestValidator}.
+   */
+  public static class Builder {
+    private final OpenApi3 openApi;
+    private ValidationContext<OAI3> context;
+    private MultipartOptions multipartOptions = MultipartOptions.DEFAULT;
+    private boolean precompile;
+    private ExecutorService executor;
+    private CompilationListener listener;
+
+    /**
+     * Creates a builder for the given open API.
+     *
+     * @param openApi The loaded open API model
+     */
+    public Builder(final OpenApi3 openApi) {
+      this.openApi = requireNonNull(openApi, OAI_REQUIRED_ERR_MSG);
+    }
+
+    /**
+     * Sets the validation context to attach options and keyword overrides.
+     *
+     * @param context The validation context
+     * @return This builder
+     */
+    public Builder context(final ValidationContext<OAI3> context) {
+      this.context = context;
+      return this;
+    }
+
+    /**
+     * Sets the options of multipart bodies conversion (i.e. size limits).
+     *
+     * @param multipartOptions The multipart options
+     * @return This builder
+     */
+    public Builder multipartOptions(final MultipartOptions multipartOptions) {
+      this.multipartOptions = multipartOptions;
+      return this;
+    }
+
+    /**
+     * Enables the creation of all operation validators when building the request validator.
+     * Operations are compiled in parallel, with the common fork/join pool unless an executor is given.
+     *
+     * @param precompile {@code true} to create all operation validators eagerly.
+     * @return This builder
+     */
+    public Builder precompile(final boolean precompile) {
+      this.precompile = precompile;
+      return this;
+    }
 
-    return patterns;
+    /**
+     * Sets the executor to run the eager compilation of the operations.
+     * The executor is not shut down.
+     *
+     * @param executor The executor
+     * @return This builder
+     */
+    public Builder executor(final ExecutorService executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Sets the listener to report the compilation time of each operation.
+     *
+     * @param listener The listener
+     * @return This builder
+     */
+    public Builder compilationListener(final CompilationListener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * Builds a {@link RequestValidator}.
+     * All operation validators are created before returning when eager compilation is enabled.
+     *
+     * @return The built {@link RequestValidator}
+     */
+    public RequestValidator build() {
+      return new RequestValidator(this);
+    }
   }
 }
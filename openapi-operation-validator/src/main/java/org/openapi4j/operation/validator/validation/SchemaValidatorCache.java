@@ -0,0 +1,137 @@
+package org.openapi4j.operation.validator.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.core.validation.ValidationException;
+import org.openapi4j.core.validation.ValidationResults;
+import org.openapi4j.parser.model.v3.Schema;
+import org.openapi4j.schema.validator.JsonStreamValidator;
+import org.openapi4j.schema.validator.JsonValidator;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.ValidationDataPool;
+import org.openapi4j.schema.validator.v3.SchemaValidator;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of compiled schema validators shared by the operations of a Document Description.
+ * <p/>
+ * Schemas defined by reference are compiled once by canonical reference
+ * and shared by all parameters and bodies referencing them.
+ * Inline schemas are compiled for each call.
+ */
+class SchemaValidatorCache {
+  private final ValidationContext<OAI3> context;
+  // Map<canonical reference, validator>
+  private final Map<String, JsonValidator> validators = new ConcurrentHashMap<>();
+  // Map<flat schema, canonical reference>, flat schemas are shared instances of mapped reference contents.
+  private final Map<Schema, String> flatSchemaRefs = Collections.synchronizedMap(new IdentityHashMap<>());
+
+  SchemaValidatorCache(ValidationContext<OAI3> context) {
+    this.context = context;
+  }
+
+  ValidationContext<OAI3> getContext() {
+    return context;
+  }
+
+  /**
+   * Associate the flat content of a referenced schema with its canonical reference.
+   *
+   * @param schema     The schema defined by reference.
+   * @param flatSchema The flat content of the reference.
+   * @return The flat schema.
+   */
+  Schema register(final Schema schema, final Schema flatSchema) {
+    if (schema.isRef() && flatSchema != null) {
+      flatSchemaRefs.put(flatSchema, schema.getCanonicalRef() != null ? schema.getCanonicalRef() : schema.getRef());
+    }
+
+    return flatSchema;
+  }
+
+  /**
+   * Get the validator of the given schema.
+   *
+   * @param name   The name of the parameter or body.
+   * @param schema The flat schema.
+   * @return The validator, shared if the schema is the content of a reference.
+   */
+  JsonValidator getValidator(final String name, final Schema schema) {
+    String ref = flatSchemaRefs.get(schema);
+    if (ref == null) {
+      return new SchemaValidator(context, name, toNode(schema));
+    }
+
+    JsonValidator validator = validators.computeIfAbsent(ref, r -> new SchemaValidator(context, null, toNode(schema)));
+    return new NamedValidator(name, validator);
+  }
+
+  int size() {
+    return validators.size();
+  }
+
+  private JsonNode toNode(final Schema schema) {
+    return TreeUtil.json.convertValue(schema.copy(), JsonNode.class);
+  }
+
+  /**
+   * Applies the name of the parameter or body to a shared anonymous validator.
+   */
+  private static class NamedValidator implements JsonStreamValidator {
+    private static final String VALIDATION_ERR_MSG = "Schema validation failed";
+
+    private final ValidationResults.CrumbInfo crumbInfo;
+    private final JsonValidator validator;
+
+    NamedValidator(final String name, final JsonValidator validator) {
+      this.crumbInfo = new ValidationResults.CrumbInfo(name, false);
+      this.validator = validator;
+    }
+
+    @Override
+    public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
+      validation.results().pushCrumb(crumbInfo);
+      try {
+        return validator.validate(valueNode, validation);
+      } finally {
+        validation.results().popCrumb();
+      }
+    }
+
+    @Override
+    public void validate(final JsonParser parser, final ValidationData<?> validation) throws IOException {
+      validation.results().pushCrumb(crumbInfo);
+      try {
+        if (validator instanceof JsonStreamValidator) {
+          ((JsonStreamValidator) validator).validate(parser, validation);
+        } else {
+          validator.validate(TreeUtil.json.readTree(parser), validation);
+        }
+      } finally {
+        validation.results().popCrumb();
+      }
+    }
+
+    @Override
+    public void validate(final JsonNode valueNode) throws ValidationException {
+      final ValidationData<?> validation = ValidationDataPool.acquire(null);
+
+      validate(valueNode, validation);
+
+      if (!validation.isValid()) {
+        // Results are given to the caller, don't release them
+        throw new ValidationException(VALIDATION_ERR_MSG, validation.results());
+      }
+
+      ValidationDataPool.release(validation);
+    }
+  }
+}
@@ -9,14 +9,25 @@ import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.operation.validator.OpenApi3Util;
 import org.openapi4j.operation.validator.util.ContentType;
 import org.openapi4j.operation.validator.util.convert.ContentConverter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlanCache;
+import org.openapi4j.operation.validator.util.convert.MultipartOptions;
 import org.openapi4j.parser.model.v3.EncodingProperty;
 import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.Assert.*;
 
@@ -57,6 +68,124 @@ public class ContentConverterTest {
     assertNull(ContentType.getCharSetOrNull("application/x-www-form-urlencoded; charset=foo"));
   }
 
+  @Test
+  public void testFormUrlEncodedCache() throws Exception {
+    ConversionPlanCache cache = ContentConverter.getFormUrlEncodedCache();
+    cache.clear();
+
+    MediaType mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("FooModel"));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<JsonNode>> results = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        results.add(executor.submit(() -> ContentConverter.convert(
+          api.getContext(),
+          mediaType,
+          "application/x-www-form-urlencoded",
+          null,
+          "fieldInt=1")));
+      }
+      for (Future<JsonNode> result : results) {
+        assertEquals(1, result.get().get("fieldInt").intValue());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(1, cache.size());
+    assertEquals(100, cache.getHitCount() + cache.getMissCount());
+    assertTrue(cache.getMissCount() >= 1);
+
+    // Bounded
+    ConversionPlanCache boundedCache = new ConversionPlanCache(2);
+    List<MediaType> mediaTypes = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      MediaType other = new MediaType();
+      mediaTypes.add(other);
+      boundedCache.put(other, Collections.emptyList());
+    }
+    assertEquals(2, boundedCache.size());
+    assertNotNull(boundedCache.get(mediaTypes.get(4)));
+    assertNull(boundedCache.get(new MediaType()));
+    assertEquals(1, boundedCache.getHitCount());
+    assertEquals(1, boundedCache.getMissCount());
+  }
+
+  @Test
+  public void testMultipartOptions() throws Exception {
+    String contentType = "multipart/form-data;boundary=\"1234\"";
+    String input = "--1234\r\nContent-Disposition: form-data; name=\"name\"\r\n\r\nfoo\r\n"
+      + "--1234\r\nContent-Disposition: form-data; name=\"file\"; filename=\"foo.png\"\r\nContent-Type: image/png\r\n\r\ncontent\r\n"
+      + "--1234\r\nContent-Disposition: form-data; name=\"files\"\r\nContent-Type: application/octet-stream\r\n\r\nab\r\n"
+      + "--1234\r\nContent-Disposition: form-data; name=\"files\"; filename=\"bar.bin\"\r\n\r\nabc\r\n"
+      + "--1234--\r\n";
+    MediaType mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("multipartBinary"));
+
+    // Default: file name only, binary form field as text
+    JsonNode actual = ContentConverter.convert(api.getContext(), mediaType, contentType, null, input);
+    JSONAssert.assertEquals("{\"name\":\"foo\",\"file\":\"foo.png\",\"files\":[\"ab\",\"bar.bin\"]}", actual.toString(), true);
+
+    // Size
+    MultipartOptions options = new MultipartOptions.Builder().streamBinary(true).build();
+    actual = ContentConverter.convert(api.getContext(), mediaType, contentType, null, input, options);
+    JSONAssert.assertEquals("{\"name\":\"foo\",\"file\":\"7\",\"files\":[\"2\",\"3\"]}", actual.toString(), true);
+
+    // Digest
+    options = new MultipartOptions.Builder().streamBinary(true).digestAlgorithm("SHA-256").build();
+    actual = ContentConverter.convert(
+      api.getContext(), mediaType, contentType, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), null, options);
+    assertEquals(
+      "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73",
+      actual.get("file").textValue());
+    assertEquals("foo", actual.get("name").textValue());
+
+    // Encoding content type
+    MediaType pngMediaType = new MediaType()
+      .setSchema(mediaType.getSchema())
+      .setEncodings(Collections.singletonMap("file", new EncodingProperty().setContentType("image/jpeg, image/*")));
+    ContentConverter.convert(api.getContext(), pngMediaType, contentType, null, input, options);
+    pngMediaType.setEncodings(Collections.singletonMap("file", new EncodingProperty().setContentType("image/jpeg")));
+    checkMultipartFailure(pngMediaType, contentType, input, options);
+
+    // Limits
+    checkMultipartFailure(mediaType, contentType, input, new MultipartOptions.Builder().partSizeMax(6).build());
+    checkMultipartFailure(mediaType, contentType, input, new MultipartOptions.Builder().sizeMax(input.length() - 1).build());
+    ContentConverter.convert(api.getContext(), mediaType, contentType, null, input, new MultipartOptions.Builder().partSizeMax(7).sizeMax(input.length()).build());
+
+    // File parts are streamed up to the limit
+    byte[] head = ("--1234\r\nContent-Disposition: form-data; name=\"file\"; filename=\"big.bin\"\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+    long size = 64L * 1024 * 1024;
+    AtomicLong readCount = new AtomicLong();
+    InputStream big = new InputStream() {
+      @Override
+      public int read() {
+        long index = readCount.getAndIncrement();
+        return index < head.length ? head[(int) index] : index < head.length + size ? 'a' : -1;
+      }
+    };
+    try {
+      ContentConverter.convert(api.getContext(), mediaType, contentType, big, null, new MultipartOptions.Builder().partSizeMax(1024).build());
+      fail("Part size limit not checked");
+    } catch (IOException ignored) {
+      assertTrue(readCount.get() < 1024 * 1024);
+    }
+
+    try {
+      new MultipartOptions.Builder().digestAlgorithm("foo").build();
+      fail("Unknown digest algorithm accepted");
+    } catch (IllegalArgumentException ignored) {
+    }
+  }
+
+  private void checkMultipartFailure(MediaType mediaType, String contentType, String input, MultipartOptions options) {
+    try {
+      ContentConverter.convert(api.getContext(), mediaType, contentType, null, input, options);
+      fail("Multipart conversion should fail");
+    } catch (IOException ignored) {
+    }
+  }
+
   private void check(String testPath) throws Exception {
     ArrayNode testCases = (ArrayNode) TreeUtil.json.readTree(ContentConverterTest.class.getResource(testPath));
 
@@ -0,0 +1,64 @@
+package org.openapi4j.operation.validator.convert;
+
+import org.junit.Test;
+import org.openapi4j.operation.validator.util.convert.ParameterPairs;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ParameterPairsTest {
+  @Test
+  public void read() {
+    ParameterPairs pairs = new ParameterPairs(true);
+    pairs.declare("id");
+    pairs.read(" id=1&&tags=a&tags=b&tags=a& flag &=empty&q=a+b%26c&na%6De=x&id=", "UTF-8");
+
+    assertEquals(Arrays.asList("1", ""), pairs.get("id"));
+    assertEquals(Arrays.asList("a", "b", "a"), pairs.get("tags"));
+    assertEquals(Collections.singletonList(null), pairs.get("flag"));
+    assertEquals(Collections.singletonList("empty"), pairs.get(""));
+    assertEquals(Collections.singletonList("a b&c"), pairs.get("q"));
+    assertEquals(Collections.singletonList("x"), pairs.get("name"));
+    assertNull(pairs.get("ID"));
+    assertNull(pairs.get("unknown"));
+
+    pairs.remove("tags");
+    assertNull(pairs.get("tags"));
+
+    Map<String, List<String>> remaining = new LinkedHashMap<>();
+    pairs.forEach(remaining::put);
+    assertEquals(Arrays.asList("id", "flag", "", "q", "name"), Arrays.asList(remaining.keySet().toArray()));
+  }
+
+  @Test
+  public void readCaseInsensitive() {
+    ParameterPairs pairs = new ParameterPairs(false);
+    pairs.declare("formExplodedArray");
+    pairs.read("FORMEXPLODEDARRAY=1&formexplodedarray=2", "UTF-8");
+
+    assertEquals(Arrays.asList("1", "2"), pairs.get("formExplodedArray"));
+    assertEquals(Arrays.asList("1", "2"), pairs.get("FormExplodedArray"));
+  }
+
+  @Test
+  public void readMany() {
+    ParameterPairs pairs = new ParameterPairs(true);
+    StringBuilder query = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      pairs.declare("known" + i);
+      query.append("known").append(i).append('=').append(i).append("&other").append(i).append('=').append(i).append('&');
+    }
+    pairs.read(query, "UTF-8");
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Collections.singletonList(String.valueOf(i)), pairs.get("known" + i));
+      assertEquals(Collections.singletonList(String.valueOf(i)), pairs.get("other" + i));
+    }
+  }
+}
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.Test;
 import org.openapi4j.operation.validator.OpenApi3Util;
 import org.openapi4j.operation.validator.util.PathResolver;
+import org.openapi4j.operation.validator.util.PathRouter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 import org.openapi4j.operation.validator.util.convert.ParameterConverter;
 import org.openapi4j.parser.model.v3.AbsParameter;
 import org.openapi4j.parser.model.v3.OpenApi3;
@@ -14,6 +16,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.openapi4j.operation.validator.convert.ParamChecker.checkArray;
@@ -157,12 +160,22 @@ public class PathParamConverterTest {
     Map<String, AbsParameter<Parameter>> parameters = new HashMap<>();
     parameters.put(parameterName, api.getComponents().getParameters().get(parameterName));
 
-    Pattern pattern = PathResolver.instance().solve("/" + parameterName + "/{" + parameterName + "}");
+    String template = "/" + parameterName + "/{" + parameterName + "}";
+    String path = "/" + parameterName + "/" + value;
+    Pattern pattern = PathResolver.instance().solve(template);
 
-    return ParameterConverter.pathToNode(
+    Map<String, JsonNode> nodes = ParameterConverter.pathToNode(
       api.getContext(),
       parameters,
       pattern,
-      "/" + parameterName + "/" + value);
+      path);
+
+    // Same conversion from the values captured by the router
+    assertEquals(nodes, ParameterConverter.pathToNode(
+      api.getContext(),
+      ConversionPlan.of(api.getContext(), parameters),
+      new PathRouter<String>().add(template, template).match(path)));
+
+    return nodes;
   }
 }
@@ -6,6 +6,7 @@ import org.openapi4j.core.model.OAIContext;
 import org.openapi4j.operation.validator.OpenApi3Util;
 import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.impl.DefaultRequest;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 import org.openapi4j.operation.validator.util.convert.ParameterConverter;
 import org.openapi4j.operation.validator.validation.OperationValidator;
 import org.openapi4j.parser.OpenApi3Parser;
@@ -16,10 +17,13 @@ import java.io.File;
 import java.nio.file.Files;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class QueryParamConverterTest {
   // --------------- FORM --------------------
@@ -150,6 +154,31 @@ public class QueryParamConverterTest {
       ParamChecker::checkWrongObject);
   }
 
+  // --------------- Misc. -------------------
+  // -----------------------------------------
+  @Test
+  public void queryModelsUntouched() throws Exception {
+    OpenApi3 api = OpenApi3Util.loadApi("/operation/parameter/queryParameters.yaml");
+    Parameter parameter = api.getComponents().getParameters().get("formExplodedObject");
+
+    Map<String, AbsParameter<Parameter>> parameters = new HashMap<>();
+    parameters.put("formExplodedObject", parameter);
+
+    List<ConversionPlan> plans = ConversionPlan.of(api.getContext(), parameters);
+    assertEquals("form", plans.get(0).getStyle());
+    assertTrue(plans.get(0).isExplode());
+    assertEquals("object", plans.get(0).getType());
+
+    ParamChecker.checkObject(
+      ParameterConverter.queryToNode(api.getContext(), plans, "boolProp=true&stringProp=admin", "UTF-8"),
+      "formExplodedObject");
+
+    // Defaults and resolved schema are kept by the plan only
+    assertNull(parameter.getStyle());
+    assertNull(parameter.getExplode());
+    assertEquals("#/components/schemas/objectType", parameter.getSchema().getRef());
+  }
+
   protected void check(String parameterName,
                        String validValue,
                        String invalidValue,
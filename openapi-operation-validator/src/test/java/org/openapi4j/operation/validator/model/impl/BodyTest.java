@@ -1,5 +1,6 @@
 package org.openapi4j.operation.validator.model.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import org.junit.Test;
@@ -9,6 +10,8 @@ import org.openapi4j.parser.model.v3.Schema;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -68,6 +71,59 @@ public class BodyTest {
     checkBody(body, TreeUtil.json.readTree(new ByteArrayInputStream(values.getBytes())));
   }
 
+  @Test
+  public void fromBytes() throws Exception {
+    String values = "{\"key\":\"value\"}";
+    byte[] bytes = ("--" + values + "--").getBytes(StandardCharsets.UTF_8);
+    Body body = Body.from(bytes, 2, values.length());
+
+    checkBody(body, TreeUtil.json.readTree(values));
+    checkBody(body, TreeUtil.json.readTree(values));
+    try (JsonParser parser = body.getContentAsParser()) {
+      assertEquals(TreeUtil.json.readTree(values), TreeUtil.json.readTree(parser));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void fromBytesOutOfBounds() {
+    Body.from(new byte[4], 2, 3);
+  }
+
+  @Test
+  public void fromByteBuffer() throws Exception {
+    String values = "{\"key\":\"value\"}";
+    byte[] bytes = ("--" + values).getBytes(StandardCharsets.UTF_8);
+
+    ByteBuffer heapBuffer = ByteBuffer.wrap(bytes);
+    heapBuffer.position(2);
+    checkBody(Body.from(heapBuffer.slice()), TreeUtil.json.readTree(values));
+    assertEquals(2, heapBuffer.position());
+
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+    directBuffer.put(bytes).position(2);
+    checkBody(Body.from(directBuffer), TreeUtil.json.readTree(values));
+    assertEquals(2, directBuffer.position());
+  }
+
+  @Test
+  public void fromCharSequence() throws Exception {
+    StringBuilder values = new StringBuilder("{\"key\":\"välue\"}");
+    Body body = Body.from(values, StandardCharsets.UTF_8);
+
+    checkBody(body, TreeUtil.json.readTree(values.toString()));
+    try (JsonParser parser = body.getContentAsParser()) {
+      assertEquals(TreeUtil.json.readTree(values.toString()), TreeUtil.json.readTree(parser));
+    }
+
+    // Escaped values are decoded with the given charset
+    Schema schema = new Schema().setType("object");
+    schema.setProperty("key", new Schema().setType("string"));
+    assertEquals(
+      TreeUtil.json.readTree(values.toString()),
+      Body.from(new StringBuilder("key=v%E4lue"), StandardCharsets.ISO_8859_1)
+        .getContentAsNode(null, new MediaType().setSchema(schema), "application/x-www-form-urlencoded"));
+  }
+
   private void checkBody(Body body, JsonNode values) throws IOException {
     Schema schema = new Schema();
     schema.setProperty("key", new Schema().setType("string"));
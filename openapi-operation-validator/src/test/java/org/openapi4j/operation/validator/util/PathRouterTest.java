@@ -0,0 +1,136 @@
+package org.openapi4j.operation.validator.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class PathRouterTest {
+  @Test
+  public void literalFirst() {
+    PathRouter<String> router = new PathRouter<String>()
+      .add("/users/{id}", "byId")
+      .add("/users/me", "me")
+      .add("/users/{id}/friends", "friends")
+      .add("/users/{id}/friends/all", "allFriends")
+      .add("/users/me/{section}", "mySection");
+
+    assertEquals("me", router.match("/users/me").getValue());
+    assertEquals("byId", router.match("/users/you").getValue());
+    assertEquals("mySection", router.match("/users/me/settings").getValue());
+    assertEquals("mySection", router.match("/users/me/friends").getValue());
+    assertEquals("friends", router.match("/users/you/friends").getValue());
+    // literal branch fails, fallback to templated one
+    assertEquals("allFriends", router.match("/users/me/friends/all").getValue());
+    assertEquals("me", router.match("/users/me/friends/all").getParameterValue("id"));
+    assertEquals("/users/{id}/friends/all", router.match("/users/me/friends/all").getTemplate());
+
+    assertNull(router.match("/users"));
+    assertNull(router.match("/users/"));
+    assertNull(router.match("/users/me/friends/"));
+    assertNull(router.match("/users/me/friends/other"));
+    assertNull(router.match("/other"));
+  }
+
+  @Test
+  public void captures() {
+    PathRouter<String> router = new PathRouter<String>()
+      .add("/v1/{owner}/repos/{repo}", "repo")
+      .add("/v1/files/{name}.{ext}", "file")
+      .add("/v1/files/{name}.json", "json")
+      .add("/v1/items/{;id*}", "matrix");
+
+    PathRouter.Match<String> match = router.match("/v1/foo/repos/bar");
+    assertNotNull(match);
+    assertEquals(2, match.getParameterCount());
+    assertEquals("owner", match.getParameterName(0));
+    assertEquals("foo", match.getParameterValue(0));
+    assertEquals("bar", match.getParameterValue("repo"));
+    assertNull(match.getParameterValue("unknown"));
+
+    // More specific templated segment first
+    assertEquals("json", router.match("/v1/files/a.b.json").getValue());
+    assertEquals("a.b", router.match("/v1/files/a.b.json").getParameterValue("name"));
+    // Greedy parameters as with regular expressions
+    match = router.match("/v1/files/a.b.txt");
+    assertEquals("file", match.getValue());
+    assertEquals("a.b", match.getParameterValue("name"));
+    assertEquals("txt", match.getParameterValue("ext"));
+    assertNull(router.match("/v1/files/.txt"));
+
+    assertEquals(";id=5", router.match("/v1/items/;id=5").getParameterValue("id"));
+  }
+
+  @Test
+  public void rootPath() {
+    PathRouter<String> router = new PathRouter<String>().add("/", "root");
+
+    assertEquals("root", router.match(null).getValue());
+    assertEquals("root", router.match("").getValue());
+    assertEquals("root", router.match("/").getValue());
+    assertNull(router.match("//"));
+  }
+
+  @Test
+  public void firstValueKept() {
+    PathRouter<String> router = new PathRouter<String>()
+      .add("/api/{id}", "first")
+      .add("/api/{id}", "second");
+
+    assertEquals("first", router.match("/api/1").getValue());
+  }
+
+  @Test
+  public void sameAsPatterns() {
+    List<String> templates = Arrays.asList(
+      "/",
+      "/a",
+      "/a/",
+      "/a/{p1}",
+      "/a/b",
+      "/a/{p1}/b",
+      "/a/{p1}.{p2}",
+      "/a/x{p1}y",
+      "/{p1}/{p2}/c",
+      "/b/{p1}{p2}",
+      "//a/{p1}");
+
+    String alphabet = "ab/.xyc";
+    Random random = new Random(1);
+
+    for (String template : templates) {
+      PathRouter<String> router = new PathRouter<String>().add(template, template);
+      Pattern pattern = PathResolver.instance().buildPathPattern(template);
+
+      for (int i = 0; i < 5000; i++) {
+        StringBuilder path = new StringBuilder();
+        int length = random.nextInt(8);
+        for (int j = 0; j < length; j++) {
+          path.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        if (path.length() == 0 || random.nextBoolean()) {
+          // Empty path is routed as root
+          path.insert(0, '/');
+        }
+
+        Matcher matcher = pattern.matcher(path);
+        PathRouter.Match<String> match = router.match(path.toString());
+        assertEquals(template + " with " + path, matcher.matches(), match != null);
+
+        if (match != null) {
+          for (int p = 0; p < match.getParameterCount(); p++) {
+            String groupName = PathResolver.instance().getParamGroupName(match.getParameterName(p));
+            assertEquals(template + " with " + path, matcher.group(groupName), match.getParameterValue(p));
+          }
+        }
+      }
+    }
+  }
+}
@@ -2,22 +2,43 @@ package org.openapi4j.operation.validator.validation;
 
 import org.junit.Test;
 import org.openapi4j.core.exception.ResolutionException;
+import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationException;
+import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.Response;
+import org.openapi4j.operation.validator.model.impl.Body;
 import org.openapi4j.operation.validator.model.impl.DefaultRequest;
 import org.openapi4j.operation.validator.model.impl.DefaultResponse;
+import org.openapi4j.operation.validator.util.convert.MultipartOptions;
 import org.openapi4j.parser.OpenApi3Parser;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.openapi4j.parser.model.v3.Operation;
 import org.openapi4j.parser.model.v3.Path;
+import org.openapi4j.schema.validator.ValidationContext;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.junit.Assert.fail;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.openapi4j.operation.validator.model.Request.Method.GET;
 import static org.openapi4j.operation.validator.model.Request.Method.POST;
+import static org.openapi4j.operation.validator.model.Request.Method.PUT;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.STREAM_JSON_CONTENT;
 
 public class RequestValidatorTest {
   @Test(expected = ValidationException.class)
@@ -39,6 +60,30 @@ public class RequestValidatorTest {
     }
   }
 
+  @Test
+  public void operationDispatch() throws Exception {
+    URL specPath = RequestValidatorTest.class.getResource("/request/requestValidator-shared-schemas.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+    RequestValidator requestValidator = new RequestValidator(api);
+
+    Request rq = new DefaultRequest.Builder("https://api.com/users/1", PUT).build();
+    OperationValidator validator = requestValidator.getValidator(rq);
+    assertSame(validator, requestValidator.getValidator(rq));
+    assertSame(validator, requestValidator.getValidator(api.getPathItemByOperationId("updateUser"), api.getOperationById("updateUser")));
+    assertEquals("updateUser", validator.getOperation().getOperationId());
+
+    assertEquals(
+      "createUser",
+      requestValidator.getValidator(new DefaultRequest.Builder("https://api.com/users", POST).build()).getOperation().getOperationId());
+
+    try {
+      requestValidator.getValidator(new DefaultRequest.Builder("https://api.com/users/1", POST).build());
+      fail();
+    } catch (ValidationException ex) {
+      assertEquals("Operation not found from URL 'https://api.com/users/1' with method 'POST'.", ex.getMessage());
+    }
+  }
+
   @Test
   public void withoutServerPathFindOperationCheck() throws Exception {
     URL specPath = RequestValidatorTest.class.getResource("/request/requestValidator.yaml");
@@ -161,6 +206,161 @@ public class RequestValidatorTest {
       true);
   }
 
+  @Test
+  public void sharedSchemaValidators() throws Exception {
+    URL specPath = RequestValidatorTest.class.getResource("/request/requestValidator-shared-schemas.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+
+    // Each referenced schema is compiled once
+    SchemaValidatorCache schemaValidators = new SchemaValidatorCache(new ValidationContext<>(api.getContext()));
+    new OperationValidator(schemaValidators, MultipartOptions.DEFAULT, null, api, api.getPathItemByOperationId("createUser"), api.getOperationById("createUser"));
+    new OperationValidator(schemaValidators, MultipartOptions.DEFAULT, null, api, api.getPathItemByOperationId("updateUser"), api.getOperationById("updateUser"));
+    assertEquals(2, schemaValidators.size());
+
+    // Shared validators keep the name of the parameter or body
+    RequestValidator requestValidator = new RequestValidator(api);
+    try {
+      requestValidator.validate(new DefaultRequest.Builder("https://api.com/users/0", PUT)
+        .query("parentId=0")
+        .header("Content-Type", "application/json")
+        .body(Body.from("{\"name\": \"a\"}"))
+        .build());
+      fail();
+    } catch (ValidationException ex) {
+      List<String> crumbs = new ArrayList<>();
+      for (ValidationResults.ValidationItem item : ex.results().items()) {
+        crumbs.add(item.dataCrumbs());
+      }
+      assertEquals(Arrays.asList("id", "parentId", "body.name"), crumbs);
+    }
+
+    try {
+      requestValidator.validate(new DefaultRequest.Builder("https://api.com/users", POST)
+        .header("Content-Type", "application/json")
+        .body(Body.from("{}"))
+        .build());
+      fail();
+    } catch (ValidationException ex) {
+      assertEquals(1, ex.results().size());
+      assertEquals("body", ex.results().items().get(0).dataCrumbs());
+    }
+  }
+
+  @Test
+  public void streamJsonBody() throws Exception {
+    URL specPath = RequestValidatorTest.class.getResource("/request/requestValidator-shared-schemas.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+
+    ValidationContext<OAI3> context = new ValidationContext<>(api.getContext());
+    context.setOption(STREAM_JSON_CONTENT, true);
+    RequestValidator requestValidator = new RequestValidator(context, api);
+
+    requestValidator.validate(new DefaultRequest.Builder("https://api.com/users", POST)
+      .header("Content-Type", "application/json")
+      .body(Body.from("{\"name\": \"john\", \"tags\": [1, {\"a\": null}]}"))
+      .build());
+
+    try {
+      requestValidator.validate(new DefaultRequest.Builder("https://api.com/users", POST)
+        .header("Content-Type", "application/json")
+        .body(Body.from("{\"tags\": [], \"name\": \"a\"}"))
+        .build());
+      fail();
+    } catch (ValidationException ex) {
+      assertEquals(1, ex.results().size());
+      assertEquals("body.name", ex.results().items().get(0).dataCrumbs());
+    }
+
+    // Fast fail stops reading on first error
+    context.setFastFail(true);
+    StringBuilder content = new StringBuilder("{\"name\": \"a\", \"padding\": \"");
+    for (int i = 0; i < 1_000_000; i++) {
+      content.append('x');
+    }
+    content.append("\"}");
+    byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+    AtomicInteger readBytes = new AtomicInteger();
+    InputStream is = new ByteArrayInputStream(bytes) {
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        int read = super.read(b, off, len);
+        readBytes.addAndGet(Math.max(read, 0));
+        return read;
+      }
+    };
+
+    try {
+      new RequestValidator(context, api).validate(new DefaultRequest.Builder("https://api.com/users", POST)
+        .header("Content-Type", "application/json")
+        .body(Body.from(is))
+        .build());
+      fail();
+    } catch (ValidationException ex) {
+      assertEquals("body.name", ex.results().items().get(0).dataCrumbs());
+    }
+    assertTrue(readBytes.get() < bytes.length / 10);
+  }
+
+  @Test
+  public void precompile() throws Exception {
+    URL specPath = RequestValidatorTest.class.getResource("/request/requestValidator-shared-schemas.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+
+    // Common fork/join pool
+    Map<String, Long> compilations = new ConcurrentHashMap<>();
+    RequestValidator requestValidator = new RequestValidator.Builder(api)
+      .precompile(true)
+      .compilationListener((path, method, operation, durationNanos) -> compilations.put(method + " " + path, durationNanos))
+      .build();
+
+    assertEquals(2, compilations.size());
+    assertTrue(compilations.containsKey("post /users"));
+    assertTrue(compilations.containsKey("put /users/{id}"));
+    assertTrue(compilations.get("post /users") > 0);
+    checkPrecompiledValidator(requestValidator);
+
+    // Given executor
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      compilations.clear();
+      requestValidator = new RequestValidator.Builder(api)
+        .context(new ValidationContext<>(api.getContext()))
+        .precompile(true)
+        .executor(executor)
+        .compilationListener((path, method, operation, durationNanos) -> compilations.put(method + " " + path, durationNanos))
+        .build();
+
+      assertEquals(2, compilations.size());
+      checkPrecompiledValidator(requestValidator);
+    } finally {
+      executor.shutdown();
+    }
+
+    // Lazy
+    compilations.clear();
+    new RequestValidator.Builder(api)
+      .compilationListener((path, method, operation, durationNanos) -> compilations.put(method + " " + path, durationNanos))
+      .build();
+    assertEquals(0, compilations.size());
+  }
+
+  private void checkPrecompiledValidator(RequestValidator requestValidator) throws ValidationException {
+    requestValidator.validate(new DefaultRequest.Builder("https://api.com/users", POST)
+      .header("Content-Type", "application/json")
+      .body(Body.from("{\"name\": \"john\"}"))
+      .build());
+
+    try {
+      requestValidator.validate(new DefaultRequest.Builder("https://api.com/users/0", PUT)
+        .header("Content-Type", "application/json")
+        .body(Body.from("{\"name\": \"john\"}"))
+        .build());
+      fail();
+    } catch (ValidationException ex) {
+      assertEquals("id", ex.results().items().get(0).dataCrumbs());
+    }
+  }
+
   private void checkValidator(OpenApi3 api, String opId, RequestValidator requestValidator, Request rq, boolean shouldBeValid) {
     // Check with request definition detection
     try {
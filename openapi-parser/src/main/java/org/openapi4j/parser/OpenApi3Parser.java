@@ -8,6 +8,7 @@ import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.openapi4j.parser.validation.v3.OpenApi3Validator;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.util.List;
 
@@ -17,6 +18,7 @@ import java.util.List;
 public class OpenApi3Parser extends OpenApiParser<OpenApi3> {
   private static final String NULL_SPEC_URL = "Failed to load spec from 'null' location";
   private static final String INVALID_SPEC = "Failed to load spec at '%s'";
+  private static final String NULL_SNAPSHOT = "Failed to load spec from 'null' snapshot";
 
   /**
    * {@inheritDoc}
@@ -43,4 +45,20 @@ public class OpenApi3Parser extends OpenApiParser<OpenApi3> {
 
     return api;
   }
+
+  /**
+   * Load the Open API specification from a snapshot written by {@link OpenApi3Snapshot}.
+   * References are already resolved and the specification is not validated again.
+   *
+   * @param snapshot The snapshot content, not closed.
+   * @return The Open API model
+   * @throws ResolutionException In case of read error or invalid snapshot.
+   */
+  public OpenApi3 load(InputStream snapshot) throws ResolutionException {
+    if (snapshot == null) {
+      throw new ResolutionException(NULL_SNAPSHOT);
+    }
+
+    return OpenApi3Snapshot.read(snapshot);
+  }
 }
@@ -0,0 +1,150 @@
+package org.openapi4j.parser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openapi4j.core.exception.ResolutionException;
+import org.openapi4j.core.model.OAIContext;
+import org.openapi4j.core.model.reference.Reference;
+import org.openapi4j.core.model.reference.ReferenceRegistry;
+import org.openapi4j.core.model.v3.OAI3Context;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.parser.model.v3.OpenApi3;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Binary snapshot of a parsed Open API v3 description.
+ * <p/>
+ * The snapshot holds the resolved document and an index of the resolved references,
+ * encoded with <a href="https://github.com/FasterXML/smile-format-specification">Smile</a>.
+ * Loading a snapshot skips document loading, reference resolution and validation.
+ * <p/>
+ * Snapshots are made at build time from the command line :
+ * <pre>java -cp ... org.openapi4j.parser.OpenApi3Snapshot api.yaml api.snapshot</pre>
+ */
+public final class OpenApi3Snapshot {
+  private static final String FORMAT = "openapi4j-snapshot";
+  private static final int VERSION = 1;
+
+  private static final String FORMAT_FIELD = "format";
+  private static final String VERSION_FIELD = "version";
+  private static final String BASE_URL_FIELD = "baseUrl";
+  private static final String DOCUMENT_FIELD = "document";
+  private static final String REFERENCES_FIELD = "references";
+  private static final String REF_FIELD = "ref";
+  private static final String CONTENT_FIELD = "content";
+
+  private static final String INVALID_SNAPSHOT = "Invalid Open API snapshot";
+  private static final String USAGE = "Usage: OpenApi3Snapshot <spec file or URL> <snapshot file>";
+
+  private static final ObjectMapper smile = new ObjectMapper(
+    new SmileFactory()
+      .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+      .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+      .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE));
+
+  private OpenApi3Snapshot() {
+  }
+
+  /**
+   * Write the snapshot of the given parsed description.
+   *
+   * @param api The description, from {@link OpenApi3Parser#parse(URL, boolean)}.
+   * @param out The output, not closed.
+   * @throws IOException In case of write error.
+   */
+  public static void write(OpenApi3 api, OutputStream out) throws IOException {
+    OAIContext context = api.getContext();
+
+    // Sort references to keep the output stable across builds
+    List<Reference> references = new ArrayList<>(context.getReferenceRegistry().getReferences());
+    references.sort(Comparator.comparing(Reference::getCanonicalRef));
+
+    ObjectNode snapshot = smile.createObjectNode();
+    snapshot.put(FORMAT_FIELD, FORMAT);
+    snapshot.put(VERSION_FIELD, VERSION);
+    snapshot.put(BASE_URL_FIELD, context.getBaseUrl().toString());
+    snapshot.set(DOCUMENT_FIELD, context.getBaseDocument());
+
+    ArrayNode index = snapshot.putArray(REFERENCES_FIELD);
+    for (Reference reference : references) {
+      index.addObject()
+        .put(BASE_URL_FIELD, reference.getBaseUrl().toString())
+        .put(REF_FIELD, reference.getRef())
+        .set(CONTENT_FIELD, reference.getContent());
+    }
+
+    smile.writeValue(out, snapshot);
+  }
+
+  /**
+   * Read the description from the given snapshot.
+   *
+   * @param in The snapshot content, not closed.
+   * @return The Open API model
+   * @throws ResolutionException In case of read error or invalid snapshot.
+   */
+  public static OpenApi3 read(InputStream in) throws ResolutionException {
+    try {
+      JsonNode snapshot = smile.readTree(in);
+      if (snapshot == null
+        || !FORMAT.equals(snapshot.path(FORMAT_FIELD).textValue())
+        || snapshot.path(VERSION_FIELD).intValue() != VERSION) {
+        throw new ResolutionException(INVALID_SNAPSHOT);
+      }
+
+      URL baseUrl = new URL(snapshot.get(BASE_URL_FIELD).textValue());
+      ReferenceRegistry registry = new ReferenceRegistry(baseUrl);
+      for (JsonNode reference : snapshot.get(REFERENCES_FIELD)) {
+        registry.addRef(
+          new URL(reference.get(BASE_URL_FIELD).textValue()),
+          reference.get(REF_FIELD).textValue(),
+          reference.get(CONTENT_FIELD));
+      }
+
+      OAI3Context context = OAI3Context.fromResolved(baseUrl, snapshot.get(DOCUMENT_FIELD), registry);
+      OpenApi3 api = TreeUtil.json.convertValue(context.getBaseDocument(), OpenApi3.class);
+      api.setContext(context);
+
+      return api;
+    } catch (IOException | RuntimeException e) {
+      throw new ResolutionException(INVALID_SNAPSHOT, e);
+    }
+  }
+
+  /**
+   * Parse and validate the description, then write its snapshot.
+   *
+   * @param args The description file or URL, the snapshot file.
+   * @throws Exception In case of resolution, validation or write error.
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length != 2) {
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+
+    File specFile = new File(args[0]);
+    URL specUrl = specFile.exists() ? specFile.toURI().toURL() : new URL(args[0]);
+
+    OpenApi3 api = new OpenApi3Parser().parse(specUrl, true);
+    try (OutputStream out = Files.newOutputStream(Paths.get(args[1]))) {
+      write(api, out);
+    }
+  }
+}
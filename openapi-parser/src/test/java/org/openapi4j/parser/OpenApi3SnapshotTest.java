@@ -0,0 +1,49 @@
+package org.openapi4j.parser;
+
+import org.junit.Test;
+import org.openapi4j.core.exception.ResolutionException;
+import org.openapi4j.parser.model.v3.OpenApi3;
+import org.openapi4j.parser.model.v3.Path;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+
+import static org.junit.Assert.*;
+
+public class OpenApi3SnapshotTest {
+  @Test
+  public void writeAndLoad() throws Exception {
+    URL specPath = getClass().getResource("/validation/v3/path/valid/pathWithReference.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, true);
+
+    ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+    OpenApi3Snapshot.write(api, snapshot);
+
+    OpenApi3 loadedApi = new OpenApi3Parser().load(new ByteArrayInputStream(snapshot.toByteArray()));
+    assertEquals(api.toNode(), loadedApi.toNode());
+    assertEquals(specPath, loadedApi.getContext().getBaseUrl());
+
+    // References are restored without loading the external document
+    Path path = loadedApi.getPath("/foo/bar");
+    assertEquals(
+      api.getPath("/foo/bar").getReference(api.getContext()).getContent(),
+      path.getReference(loadedApi.getContext()).getContent());
+    assertNotNull(path.getReference(loadedApi.getContext()).getMappedContent(Path.class));
+
+    // Stable output
+    ByteArrayOutputStream sameSnapshot = new ByteArrayOutputStream();
+    OpenApi3Snapshot.write(loadedApi, sameSnapshot);
+    assertArrayEquals(snapshot.toByteArray(), sameSnapshot.toByteArray());
+  }
+
+  @Test(expected = ResolutionException.class)
+  public void invalidSnapshot() throws Exception {
+    new OpenApi3Parser().load(new ByteArrayInputStream("openapi: 3.0.0".getBytes()));
+  }
+
+  @Test(expected = ResolutionException.class)
+  public void nullSnapshot() throws Exception {
+    new OpenApi3Parser().load(null);
+  }
+}
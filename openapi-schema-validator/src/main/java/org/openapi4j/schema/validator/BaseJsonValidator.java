@@ -31,13 +31,16 @@ public abstract class BaseJsonValidator<O extends OAI> implements JsonValidator
 
   @Override
   public void validate(final JsonNode valueNode) throws ValidationException {
-    final ValidationData<?> validation = new ValidationData<>();
+    final ValidationData<?> validation = ValidationDataPool.acquire(null);
 
     validate(valueNode, validation);
 
     if (!validation.isValid()) {
+      // Results are given to the caller, don't release them
       throw new ValidationException(VALIDATION_ERR_MSG, validation.results());
     }
+
+    ValidationDataPool.release(validation);
   }
 
   protected void validate(ValidationCode code) {
@@ -0,0 +1,21 @@
+package org.openapi4j.schema.validator;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Representation of a validator able to check values directly from the parser tokens.
+ */
+public interface JsonStreamValidator extends JsonValidator {
+  /**
+   * Validate the value read from the given parser.
+   * <p/>
+   * The parser is left after the value or, on fast fail, where the reading stopped.
+   *
+   * @param parser     The parser, positioned before or on the first token of the value.
+   * @param validation The result stack to append any additional info from the validation.
+   * @throws IOException If the content can't be read.
+   */
+  void validate(final JsonParser parser, final ValidationData<?> validation) throws IOException;
+}
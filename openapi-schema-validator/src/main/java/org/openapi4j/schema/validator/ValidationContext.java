@@ -3,10 +3,14 @@ package org.openapi4j.schema.validator;
 import org.openapi4j.core.model.OAI;
 import org.openapi4j.core.model.OAIContext;
 import org.openapi4j.core.util.MultiStringMap;
+import org.openapi4j.schema.validator.regex.JdkRegexEngine;
+import org.openapi4j.schema.validator.regex.RegexEngine;
+import org.openapi4j.schema.validator.v3.FormatChecker;
 import org.openapi4j.schema.validator.v3.ValidatorInstance;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Validation context and option bag.
@@ -16,9 +20,12 @@ import java.util.Map;
 @SuppressWarnings("UnusedReturnValue")
 public class ValidationContext<O extends OAI> {
   private final OAIContext context;
-  private final Map<String, JsonValidator> visitedRefs = new HashMap<>();
+  // Validators can be created concurrently from the same context
+  private final Map<String, JsonValidator> visitedRefs = new ConcurrentHashMap<>();
   private final Map<Byte, Boolean> defaultOptions = new HashMap<>();
   private final MultiStringMap<ValidatorInstance> additionalValidators = new MultiStringMap<>(true, true);
+  private final Map<String, FormatChecker> formatCheckers = new HashMap<>();
+  private RegexEngine regexEngine = JdkRegexEngine.instance();
   private boolean isFastFail;
 
   public ValidationContext(OAIContext context) {
@@ -105,4 +112,47 @@ public class ValidationContext<O extends OAI> {
     additionalValidators.put(keyword, validatorInstantiation);
     return this;
   }
+
+  /**
+   * Add a format checker as an override or a custom one for the given format of string values.
+   *
+   * @param format  The format to match.
+   * @param checker The checker to call when a string value with this format should be validated.
+   * @return this.
+   */
+  public ValidationContext<O> addFormatChecker(String format, FormatChecker checker) {
+    formatCheckers.put(format, checker);
+    return this;
+  }
+
+  /**
+   * Get the additional format checker associated to the given format.
+   *
+   * @param format The format.
+   * @return The checker, {@code null} if none is registered.
+   */
+  public FormatChecker getFormatChecker(String format) {
+    return formatCheckers.get(format);
+  }
+
+  /**
+   * Get the engine used to evaluate patterns of the schemas.
+   *
+   * @return The regular expression engine, JDK one without limits by default.
+   */
+  public RegexEngine getRegexEngine() {
+    return regexEngine;
+  }
+
+  /**
+   * Set the engine used to evaluate patterns of the schemas.
+   * This must be set before the creation of the validators.
+   *
+   * @param regexEngine The regular expression engine.
+   * @return this.
+   */
+  public ValidationContext<O> setRegexEngine(RegexEngine regexEngine) {
+    this.regexEngine = regexEngine;
+    return this;
+  }
 }
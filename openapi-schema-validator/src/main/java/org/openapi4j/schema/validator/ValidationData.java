@@ -14,7 +14,7 @@ import java.util.Collection;
  */
 public final class ValidationData<V> {
   private final ValidationResults validationResults;
-  private final V delegate;
+  private V delegate;
 
   public ValidationData() {
     this(null);
@@ -94,6 +94,25 @@ public final class ValidationData<V> {
     validationResults.add(parentCrumbs, resultItems);
   }
 
+  /**
+   * Clear the results to reuse this instance.
+   * The delegate is kept.
+   */
+  public void reset() {
+    validationResults.reset();
+  }
+
+  /**
+   * Clear the results and set the delegate to reuse this instance.
+   *
+   * @param delegate The user object.
+   */
+  void reset(V delegate) {
+    validationResults.reset();
+    validationResults.setSpeculative(false);
+    this.delegate = delegate;
+  }
+
   /**
    * Check if the results are below the {@code ValidationSeverity.ERROR}
    *
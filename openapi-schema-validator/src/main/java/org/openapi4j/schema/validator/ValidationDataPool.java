@@ -0,0 +1,52 @@
+package org.openapi4j.schema.validator;
+
+/**
+ * Per-thread pool of {@link ValidationData} to reuse results and their buffers
+ * across validations on the same thread (i.e. worker or event-loop thread).
+ * <p/>
+ * A pooled instance must be released only when its results are not referenced anymore.
+ * When the results are handed to the caller (i.e. with a {@code ValidationException}),
+ * just don't release it and a new instance will be created on next acquisition.
+ * <p/>
+ * Nested acquisitions on the same thread are safe, they get a new instance.
+ */
+public final class ValidationDataPool {
+  private static final ThreadLocal<ValidationData<Object>> POOL = new ThreadLocal<>();
+
+  private ValidationDataPool() {
+  }
+
+  /**
+   * Get a cleared validation data from the pool of the current thread.
+   *
+   * @param delegate The user object. Can be {@code null}.
+   * @param <V>      The type of user data object.
+   * @return The validation data, pooled or new one if not available.
+   */
+  @SuppressWarnings("unchecked")
+  public static <V> ValidationData<V> acquire(V delegate) {
+    ValidationData<Object> validation = POOL.get();
+
+    if (validation == null) {
+      return new ValidationData<>(delegate);
+    }
+
+    POOL.set(null);
+    validation.reset(delegate);
+    return (ValidationData<V>) validation;
+  }
+
+  /**
+   * Give back the validation data to the pool of the current thread.
+   *
+   * @param validation The validation data to release.
+   */
+  @SuppressWarnings("unchecked")
+  public static void release(ValidationData<?> validation) {
+    if (validation != null && POOL.get() == null) {
+      ValidationData<Object> pooled = (ValidationData<Object>) validation;
+      pooled.reset(null);
+      POOL.set(pooled);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package org.openapi4j.schema.validator.regex;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Regular expression engine backed by {@link Pattern}.
+ * <p/>
+ * This engine supports the whole JDK syntax but backtracking can lead to exponential time on crafted inputs.
+ * A budget of steps can be given to bound each evaluation. A step is an access to a character of the input.
+ * Evaluation throws {@link IllegalStateException} when the budget is exhausted.
+ */
+public final class JdkRegexEngine implements RegexEngine {
+  private static final JdkRegexEngine INSTANCE = new JdkRegexEngine(0);
+
+  private final long maxSteps;
+
+  /**
+   * Create an engine with a budget of steps for each evaluation.
+   *
+   * @param maxSteps The maximum number of steps, {@code 0} or less for unlimited.
+   */
+  public JdkRegexEngine(final long maxSteps) {
+    this.maxSteps = maxSteps;
+  }
+
+  /**
+   * Get the engine without budget.
+   */
+  public static JdkRegexEngine instance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public Regex compile(final String regex) {
+    return new JdkRegex(Pattern.compile(regex), maxSteps);
+  }
+
+  private static final class JdkRegex implements Regex {
+    private final Pattern pattern;
+    private final long maxSteps;
+
+    JdkRegex(final Pattern pattern, final long maxSteps) {
+      this.pattern = pattern;
+      this.maxSteps = maxSteps;
+    }
+
+    @Override
+    public boolean find(final CharSequence input) {
+      return matcher(input).find();
+    }
+
+    @Override
+    public boolean matches(final CharSequence input) {
+      return matcher(input).matches();
+    }
+
+    private Matcher matcher(final CharSequence input) {
+      return pattern.matcher(maxSteps > 0 ? new BudgetCharSequence(input, maxSteps) : input);
+    }
+
+    @Override
+    public String toString() {
+      return pattern.pattern();
+    }
+  }
+
+  /**
+   * Input wrapper counting the accesses to characters.
+   */
+  private static final class BudgetCharSequence implements CharSequence {
+    private final CharSequence input;
+    private final long maxSteps;
+    private long steps;
+
+    BudgetCharSequence(final CharSequence input, final long maxSteps) {
+      this.input = input;
+      this.maxSteps = maxSteps;
+    }
+
+    @Override
+    public char charAt(final int index) {
+      if (++steps > maxSteps) {
+        throw new IllegalStateException("Regular expression evaluation exceeded " + maxSteps + " steps.");
+      }
+      return input.charAt(index);
+    }
+
+    @Override
+    public int length() {
+      return input.length();
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+      return input.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+      return input.toString();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package org.openapi4j.schema.validator.regex;
+
+/**
+ * Regular expression engine with evaluation time linear to the input length.
+ * <p/>
+ * Expressions are compiled to automata and evaluated without backtracking, like RE2.
+ * The syntax is the one of {@link java.util.regex.Pattern} except
+ * back references, look-arounds, possessive quantifiers, inline flags and nested character classes.
+ * Compilation of such expressions fails with {@link IllegalArgumentException}.
+ */
+public final class LinearRegexEngine implements RegexEngine {
+  private static final LinearRegexEngine INSTANCE = new LinearRegexEngine();
+
+  private LinearRegexEngine() {
+  }
+
+  public static LinearRegexEngine instance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public Regex compile(final String regex) {
+    return new LinearRegex(regex, RegexProgram.compile(RegexParser.parse(regex)));
+  }
+
+  private static final class LinearRegex implements Regex {
+    private final String regex;
+    private final RegexProgram program;
+
+    LinearRegex(final String regex, final RegexProgram program) {
+      this.regex = regex;
+      this.program = program;
+    }
+
+    @Override
+    public boolean find(final CharSequence input) {
+      return program.run(input, false);
+    }
+
+    @Override
+    public boolean matches(final CharSequence input) {
+      return program.run(input, true);
+    }
+
+    @Override
+    public String toString() {
+      return regex;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package org.openapi4j.schema.validator.regex;
+
+/**
+ * Regular expression engine used to evaluate patterns given by the specification,
+ * i.e. {@code pattern} and {@code patternProperties} keywords.
+ * <p/>
+ * Patterns come from the specification but values come from requests,
+ * choose an engine with bounded evaluation time when the traffic is not trusted.
+ *
+ * @see JdkRegexEngine
+ * @see LinearRegexEngine
+ */
+public interface RegexEngine {
+  /**
+   * Compile the given regular expression.
+   *
+   * @param regex The regular expression.
+   * @return The compiled expression.
+   * @throws IllegalArgumentException if the expression is invalid or not supported by the engine.
+   */
+  Regex compile(final String regex);
+
+  /**
+   * Compiled regular expression. Implementations must be thread safe.
+   */
+  interface Regex {
+    /**
+     * Check if the expression matches a part of the input.
+     *
+     * @param input The value to match.
+     * @return {@code true} if a subsequence of the input matches.
+     * @throws IllegalStateException if the evaluation exceeds the engine limits.
+     */
+    boolean find(final CharSequence input);
+
+    /**
+     * Check if the expression matches the entire input.
+     *
+     * @param input The value to match.
+     * @return {@code true} if the entire input matches.
+     * @throws IllegalStateException if the evaluation exceeds the engine limits.
+     */
+    boolean matches(final CharSequence input);
+  }
+}
@@ -0,0 +1,629 @@
+package org.openapi4j.schema.validator.regex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Parser of regular expressions to syntax tree for {@link LinearRegexEngine}.
+ * <p/>
+ * The syntax follows {@link java.util.regex.Pattern} without the constructs requiring backtracking
+ * or not expressible with finite automata (back references, look-arounds, possessive quantifiers, inline flags)
+ * and without nested character classes.
+ */
+final class RegexParser {
+  // Assertion kinds
+  static final int BEGIN_INPUT = 0;
+  static final int END_INPUT = 1;
+  static final int END_INPUT_OR_TERMINATOR = 2;
+  static final int WORD_BOUNDARY = 3;
+  static final int NOT_WORD_BOUNDARY = 4;
+
+  static final int UNBOUNDED = -1;
+
+  private static final IntPredicate DIGIT = c -> c >= '0' && c <= '9';
+  private static final IntPredicate WORD = c -> (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+  private static final IntPredicate SPACE = c -> c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+  private static final IntPredicate DOT = c -> !isLineTerminator(c);
+
+  private static final Map<String, IntPredicate> PROPERTIES = new HashMap<>();
+  private static final Map<String, IntPredicate> CATEGORIES = new HashMap<>();
+
+  static {
+    IntPredicate lower = c -> c >= 'a' && c <= 'z';
+    IntPredicate upper = c -> c >= 'A' && c <= 'Z';
+    IntPredicate alpha = lower.or(upper);
+    IntPredicate alnum = alpha.or(DIGIT);
+    IntPredicate punct = c -> (c >= '!' && c <= '/') || (c >= ':' && c <= '@') || (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
+    IntPredicate graph = alnum.or(punct);
+
+    // POSIX character classes (US-ASCII only)
+    PROPERTIES.put("Lower", lower);
+    PROPERTIES.put("Upper", upper);
+    PROPERTIES.put("ASCII", c -> c <= 0x7F);
+    PROPERTIES.put("Alpha", alpha);
+    PROPERTIES.put("Digit", DIGIT);
+    PROPERTIES.put("Alnum", alnum);
+    PROPERTIES.put("Punct", punct);
+    PROPERTIES.put("Graph", graph);
+    PROPERTIES.put("Print", graph.or(c -> c == ' '));
+    PROPERTIES.put("Blank", c -> c == ' ' || c == '\t');
+    PROPERTIES.put("Cntrl", c -> c < 0x20 || c == 0x7F);
+    PROPERTIES.put("XDigit", c -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'));
+    PROPERTIES.put("Space", SPACE);
+
+    // Unicode general categories
+    putCategory("Lu", Character.UPPERCASE_LETTER);
+    putCategory("Ll", Character.LOWERCASE_LETTER);
+    putCategory("Lt", Character.TITLECASE_LETTER);
+    putCategory("Lm", Character.MODIFIER_LETTER);
+    putCategory("Lo", Character.OTHER_LETTER);
+    putCategory("LC", Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER, Character.TITLECASE_LETTER);
+    putCategory("L", Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER, Character.TITLECASE_LETTER, Character.MODIFIER_LETTER, Character.OTHER_LETTER);
+    putCategory("Mn", Character.NON_SPACING_MARK);
+    putCategory("Me", Character.ENCLOSING_MARK);
+    putCategory("Mc", Character.COMBINING_SPACING_MARK);
+    putCategory("M", Character.NON_SPACING_MARK, Character.ENCLOSING_MARK, Character.COMBINING_SPACING_MARK);
+    putCategory("Nd", Character.DECIMAL_DIGIT_NUMBER);
+    putCategory("Nl", Character.LETTER_NUMBER);
+    putCategory("No", Character.OTHER_NUMBER);
+    putCategory("N", Character.DECIMAL_DIGIT_NUMBER, Character.LETTER_NUMBER, Character.OTHER_NUMBER);
+    putCategory("Zs", Character.SPACE_SEPARATOR);
+    putCategory("Zl", Character.LINE_SEPARATOR);
+    putCategory("Zp", Character.PARAGRAPH_SEPARATOR);
+    putCategory("Z", Character.SPACE_SEPARATOR, Character.LINE_SEPARATOR, Character.PARAGRAPH_SEPARATOR);
+    putCategory("Cc", Character.CONTROL);
+    putCategory("Cf", Character.FORMAT);
+    putCategory("Co", Character.PRIVATE_USE);
+    putCategory("Cs", Character.SURROGATE);
+    putCategory("Cn", Character.UNASSIGNED);
+    putCategory("C", Character.CONTROL, Character.FORMAT, Character.PRIVATE_USE, Character.SURROGATE, Character.UNASSIGNED);
+    putCategory("Pd", Character.DASH_PUNCTUATION);
+    putCategory("Ps", Character.START_PUNCTUATION);
+    putCategory("Pe", Character.END_PUNCTUATION);
+    putCategory("Pc", Character.CONNECTOR_PUNCTUATION);
+    putCategory("Po", Character.OTHER_PUNCTUATION);
+    putCategory("Pi", Character.INITIAL_QUOTE_PUNCTUATION);
+    putCategory("Pf", Character.FINAL_QUOTE_PUNCTUATION);
+    putCategory("P", Character.DASH_PUNCTUATION, Character.START_PUNCTUATION, Character.END_PUNCTUATION, Character.CONNECTOR_PUNCTUATION, Character.OTHER_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION);
+    putCategory("Sm", Character.MATH_SYMBOL);
+    putCategory("Sc", Character.CURRENCY_SYMBOL);
+    putCategory("Sk", Character.MODIFIER_SYMBOL);
+    putCategory("So", Character.OTHER_SYMBOL);
+    putCategory("S", Character.MATH_SYMBOL, Character.CURRENCY_SYMBOL, Character.MODIFIER_SYMBOL, Character.OTHER_SYMBOL);
+  }
+
+  private final String regex;
+  private int index;
+
+  private RegexParser(final String regex) {
+    this.regex = regex;
+  }
+
+  /**
+   * Parse the given regular expression.
+   *
+   * @param regex The regular expression.
+   * @return The root node of the syntax tree.
+   * @throws IllegalArgumentException if the expression is invalid or not supported.
+   */
+  static Node parse(final String regex) {
+    RegexParser parser = new RegexParser(regex);
+    Node node = parser.parseAlternation();
+
+    if (parser.index < regex.length()) {
+      throw parser.error("Unmatched closing ')'");
+    }
+
+    return node;
+  }
+
+  static boolean isLineTerminator(final int c) {
+    return c == '\n' || c == '\r' || c == 0x85 || c == 0x2028 || c == 0x2029;
+  }
+
+  private Node parseAlternation() {
+    List<Node> alternatives = new ArrayList<>();
+    alternatives.add(parseConcatenation());
+
+    while (index < regex.length() && regex.charAt(index) == '|') {
+      index++;
+      alternatives.add(parseConcatenation());
+    }
+
+    return alternatives.size() == 1 ? alternatives.get(0) : new Alternation(alternatives);
+  }
+
+  private Node parseConcatenation() {
+    List<Node> nodes = new ArrayList<>();
+
+    while (index < regex.length()) {
+      char c = regex.charAt(index);
+      if (c == '|' || c == ')') {
+        break;
+      }
+      nodes.add(parseRepetition());
+    }
+
+    return new Concatenation(nodes);
+  }
+
+  private Node parseRepetition() {
+    Node atom = parseAtom();
+
+    if (index == regex.length()) {
+      return atom;
+    }
+
+    int min;
+    int max;
+    switch (regex.charAt(index)) {
+      case '*':
+        min = 0;
+        max = UNBOUNDED;
+        index++;
+        break;
+      case '+':
+        min = 1;
+        max = UNBOUNDED;
+        index++;
+        break;
+      case '?':
+        min = 0;
+        max = 1;
+        index++;
+        break;
+      case '{':
+        index++;
+        min = parseNumber();
+        max = min;
+        if (index < regex.length() && regex.charAt(index) == ',') {
+          index++;
+          max = (index < regex.length() && regex.charAt(index) == '}') ? UNBOUNDED : parseNumber();
+        }
+        if (index == regex.length() || regex.charAt(index) != '}' || (max != UNBOUNDED && max < min)) {
+          throw error("Illegal repetition range");
+        }
+        // Ranges are expanded in the program, reject them before allocating anything
+        if (min > RegexProgram.MAX_SIZE || (max != UNBOUNDED && max - min > RegexProgram.MAX_SIZE)) {
+          throw error("Repetition range is too large");
+        }
+        index++;
+        break;
+      default:
+        return atom;
+    }
+
+    if (index < regex.length()) {
+      char c = regex.charAt(index);
+      if (c == '?') {
+        // Reluctant quantifier matches the same inputs
+        index++;
+      } else if (c == '+') {
+        throw error("Possessive quantifiers are not supported");
+      }
+    }
+
+    return new Repetition(atom, min, max);
+  }
+
+  private Node parseAtom() {
+    int c = regex.codePointAt(index);
+    index += Character.charCount(c);
+
+    switch (c) {
+      case '(':
+        return parseGroup();
+      case '[':
+        return new Chars(parseClass());
+      case '.':
+        return new Chars(DOT);
+      case '^':
+        return new Assertion(BEGIN_INPUT);
+      case '$':
+        return new Assertion(END_INPUT_OR_TERMINATOR);
+      case '\\':
+        return parseEscape();
+      case '*':
+      case '+':
+      case '?':
+        throw error("Dangling meta character '" + (char) c + "'");
+      case '{':
+        throw error("Illegal repetition");
+      default:
+        return new Chars(literal(c));
+    }
+  }
+
+  private Node parseGroup() {
+    if (index < regex.length() && regex.charAt(index) == '?') {
+      index++;
+      if (index < regex.length() && regex.charAt(index) == ':') {
+        index++;
+      } else if (index + 1 < regex.length() && regex.charAt(index) == '<' && Character.isLetter(regex.charAt(index + 1))) {
+        // Named group
+        int end = regex.indexOf('>', index);
+        if (end == -1) {
+          throw error("Named capturing group is missing trailing '>'");
+        }
+        index = end + 1;
+      } else {
+        throw error("Special constructs are not supported");
+      }
+    }
+
+    Node node = parseAlternation();
+    if (index == regex.length() || regex.charAt(index) != ')') {
+      throw error("Unclosed group");
+    }
+    index++;
+
+    return node;
+  }
+
+  private Node parseEscape() {
+    if (index == regex.length()) {
+      throw error("Unexpected internal error");
+    }
+
+    char c = regex.charAt(index);
+    switch (c) {
+      case 'b':
+        index++;
+        return new Assertion(WORD_BOUNDARY);
+      case 'B':
+        index++;
+        return new Assertion(NOT_WORD_BOUNDARY);
+      case 'A':
+        index++;
+        return new Assertion(BEGIN_INPUT);
+      case 'z':
+        index++;
+        return new Assertion(END_INPUT);
+      case 'Z':
+        index++;
+        return new Assertion(END_INPUT_OR_TERMINATOR);
+      case 'Q':
+        index++;
+        return parseQuote();
+      default:
+        return new Chars(parseClassEscape());
+    }
+  }
+
+  private Node parseQuote() {
+    int end = regex.indexOf("\\E", index);
+    String quoted = regex.substring(index, end == -1 ? regex.length() : end);
+    index = (end == -1) ? regex.length() : end + 2;
+
+    List<Node> nodes = new ArrayList<>();
+    quoted.codePoints().forEach(c -> nodes.add(new Chars(literal(c))));
+    return new Concatenation(nodes);
+  }
+
+  /**
+   * Parse an escape sequence valid in and out of character classes.
+   */
+  private IntPredicate parseClassEscape() {
+    char c = regex.charAt(index++);
+
+    switch (c) {
+      case 'd': return DIGIT;
+      case 'D': return DIGIT.negate();
+      case 'w': return WORD;
+      case 'W': return WORD.negate();
+      case 's': return SPACE;
+      case 'S': return SPACE.negate();
+      case 'p': return parseProperty();
+      case 'P': return parseProperty().negate();
+      default: return literal(parseEscapedChar(c));
+    }
+  }
+
+  private int parseEscapedChar(final char c) {
+    switch (c) {
+      case 't': return '\t';
+      case 'n': return '\n';
+      case 'r': return '\r';
+      case 'f': return '\f';
+      case 'a': return 0x07;
+      case 'e': return 0x1B;
+      case '0': return parseOctal();
+      case 'x': return parseHex();
+      case 'u': return parseHexDigits(4);
+      case 'c':
+        if (index == regex.length()) {
+          throw error("Illegal control escape sequence");
+        }
+        return regex.charAt(index++) ^ 64;
+      default:
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '1' && c <= '9')) {
+          throw error("Unsupported escape sequence '\\" + c + "'");
+        }
+        return c;
+    }
+  }
+
+  private int parseOctal() {
+    int value = 0;
+    int digits = 0;
+
+    while (index < regex.length() && digits < 3) {
+      char c = regex.charAt(index);
+      int next = value * 8 + (c - '0');
+      if (c < '0' || c > '7' || next > 0377) {
+        break;
+      }
+      value = next;
+      digits++;
+      index++;
+    }
+
+    if (digits == 0) {
+      throw error("Illegal octal escape sequence");
+    }
+    return value;
+  }
+
+  private int parseHex() {
+    if (index < regex.length() && regex.charAt(index) == '{') {
+      int end = regex.indexOf('}', index);
+      if (end == -1 || end == index + 1) {
+        throw error("Unclosed hexadecimal escape sequence");
+      }
+      index++;
+      int value = parseHexDigits(end - index);
+      index++;
+      if (!Character.isValidCodePoint(value)) {
+        throw error("Hexadecimal codepoint is too big");
+      }
+      return value;
+    }
+
+    return parseHexDigits(2);
+  }
+
+  private int parseHexDigits(final int count) {
+    if (index + count > regex.length()) {
+      throw error("Illegal hexadecimal escape sequence");
+    }
+
+    int value = 0;
+    for (int i = 0; i < count; i++) {
+      int digit = Character.digit(regex.charAt(index++), 16);
+      if (digit == -1) {
+        throw error("Illegal hexadecimal escape sequence");
+      }
+      value = value * 16 + digit;
+    }
+    return value;
+  }
+
+  private IntPredicate parseProperty() {
+    String name;
+
+    if (index < regex.length() && regex.charAt(index) == '{') {
+      int end = regex.indexOf('}', index);
+      if (end == -1) {
+        throw error("Unclosed character family");
+      }
+      name = regex.substring(index + 1, end);
+      index = end + 1;
+    } else if (index < regex.length()) {
+      name = regex.substring(index, index + 1);
+      index++;
+    } else {
+      throw error("Illegal character family");
+    }
+
+    return getProperty(name);
+  }
+
+  private IntPredicate getProperty(final String name) {
+    IntPredicate predicate = PROPERTIES.get(name);
+    if (predicate != null) {
+      return predicate;
+    }
+
+    try {
+      if (name.startsWith("In")) {
+        final Character.UnicodeBlock block = Character.UnicodeBlock.forName(name.substring(2));
+        return c -> Character.UnicodeBlock.of(c) == block;
+      } else if (name.startsWith("Is")) {
+        predicate = CATEGORIES.get(name.substring(2));
+        if (predicate != null) {
+          return predicate;
+        }
+        final Character.UnicodeScript script = Character.UnicodeScript.forName(name.substring(2));
+        return c -> Character.UnicodeScript.of(c) == script;
+      }
+    } catch (IllegalArgumentException ex) {
+      // Fall through unknown property
+    }
+
+    throw error("Unknown character property name {" + name + "}");
+  }
+
+  private IntPredicate parseClass() {
+    boolean negated = false;
+    if (index < regex.length() && regex.charAt(index) == '^') {
+      negated = true;
+      index++;
+    }
+
+    List<IntPredicate> items = new ArrayList<>();
+    // Ranges are kept apart to avoid one predicate per character
+    List<int[]> ranges = new ArrayList<>();
+    boolean first = true;
+
+    while (true) {
+      if (index == regex.length()) {
+        throw error("Unclosed character class");
+      }
+
+      char c = regex.charAt(index);
+      if (c == ']' && !first) {
+        index++;
+        break;
+      } else if (c == '[' || (c == '&' && index + 1 < regex.length() && regex.charAt(index + 1) == '&')) {
+        throw error("Nested character classes are not supported");
+      }
+      first = false;
+
+      // Single character or escaped class
+      int low;
+      if (c == '\\') {
+        index++;
+        if (index == regex.length()) {
+          throw error("Unclosed character class");
+        }
+        char escaped = regex.charAt(index);
+        if (escaped == 'd' || escaped == 'D' || escaped == 'w' || escaped == 'W'
+          || escaped == 's' || escaped == 'S' || escaped == 'p' || escaped == 'P') {
+          items.add(parseClassEscape());
+          continue;
+        } else if (escaped == 'Q' || escaped == 'E') {
+          throw error("Quotes in character classes are not supported");
+        }
+        index++;
+        low = parseEscapedChar(escaped);
+      } else {
+        low = regex.codePointAt(index);
+        index += Character.charCount(low);
+      }
+
+      // Range
+      int high = low;
+      if (index + 1 < regex.length() && regex.charAt(index) == '-' && regex.charAt(index + 1) != ']') {
+        index++;
+        char h = regex.charAt(index);
+        if (h == '[') {
+          throw error("Nested character classes are not supported");
+        } else if (h == '\\') {
+          index++;
+          if (index == regex.length()) {
+            throw error("Illegal character range");
+          }
+          high = parseEscapedChar(regex.charAt(index++));
+        } else {
+          high = regex.codePointAt(index);
+          index += Character.charCount(high);
+        }
+        if (high < low) {
+          throw error("Illegal character range");
+        }
+      }
+      ranges.add(new int[]{low, high});
+    }
+
+    if (!ranges.isEmpty()) {
+      final int[][] rangeArray = ranges.toArray(new int[0][]);
+      items.add(c -> {
+        for (int[] range : rangeArray) {
+          if (c >= range[0] && c <= range[1]) {
+            return true;
+          }
+        }
+        return false;
+      });
+    }
+
+    IntPredicate predicate = items.get(0);
+    for (int i = 1; i < items.size(); i++) {
+      predicate = predicate.or(items.get(i));
+    }
+
+    return negated ? predicate.negate() : predicate;
+  }
+
+  private int parseNumber() {
+    int start = index;
+    long value = 0;
+
+    while (index < regex.length() && regex.charAt(index) >= '0' && regex.charAt(index) <= '9') {
+      value = value * 10 + (regex.charAt(index++) - '0');
+      if (value > Integer.MAX_VALUE) {
+        throw error("Illegal repetition range");
+      }
+    }
+
+    if (index == start) {
+      throw error("Illegal repetition");
+    }
+    return (int) value;
+  }
+
+  private IllegalArgumentException error(final String message) {
+    return new IllegalArgumentException(message + " near index " + index + " in '" + regex + "'.");
+  }
+
+  private static IntPredicate literal(final int expected) {
+    return c -> c == expected;
+  }
+
+  private static void putCategory(final String name, final int... types) {
+    long mask = 0;
+    for (int type : types) {
+      mask |= 1L << type;
+    }
+
+    final long categoryMask = mask;
+    IntPredicate predicate = c -> ((categoryMask >> Character.getType(c)) & 1) != 0;
+    PROPERTIES.put(name, predicate);
+    CATEGORIES.put(name, predicate);
+  }
+
+  ///////////////////////////////////////////////////////////////////////
+  // Syntax tree
+  ///////////////////////////////////////////////////////////////////////
+
+  abstract static class Node {
+  }
+
+  static final class Chars extends Node {
+    final IntPredicate predicate;
+
+    Chars(final IntPredicate predicate) {
+      this.predicate = predicate;
+    }
+  }
+
+  static final class Assertion extends Node {
+    final int kind;
+
+    Assertion(final int kind) {
+      this.kind = kind;
+    }
+  }
+
+  static final class Concatenation extends Node {
+    final List<Node> nodes;
+
+    Concatenation(final List<Node> nodes) {
+      this.nodes = Collections.unmodifiableList(nodes);
+    }
+  }
+
+  static final class Alternation extends Node {
+    final List<Node> alternatives;
+
+    Alternation(final List<Node> alternatives) {
+      this.alternatives = Collections.unmodifiableList(alternatives);
+    }
+  }
+
+  static final class Repetition extends Node {
+    final Node node;
+    final int min;
+    final int max;
+
+    Repetition(final Node node, final int min, final int max) {
+      this.node = node;
+      this.min = min;
+      this.max = max;
+    }
+  }
+}
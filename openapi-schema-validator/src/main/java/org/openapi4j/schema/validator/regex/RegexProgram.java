@@ -0,0 +1,348 @@
+package org.openapi4j.schema.validator.regex;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import static org.openapi4j.schema.validator.regex.RegexParser.*;
+
+/**
+ * Compiled form of a regular expression for {@link LinearRegexEngine}.
+ * <p/>
+ * The syntax tree is compiled to instructions of a non-deterministic automaton.
+ * Matching simulates all the threads of the automaton in lock step (Pike VM without captures),
+ * so the evaluation time is {@code O(input length * program size)} whatever the input.
+ */
+final class RegexProgram {
+  private static final byte CHAR = 0;
+  private static final byte SPLIT = 1;
+  private static final byte JUMP = 2;
+  private static final byte ASSERT = 3;
+  private static final byte MATCH = 4;
+
+  // Bounds the program size when repetition ranges are expanded
+  static final int MAX_SIZE = 100_000;
+
+  private byte[] ops = new byte[16];
+  private int[] args1 = new int[16];
+  private int[] args2 = new int[16];
+  private IntPredicate[] predicates = new IntPredicate[16];
+  private int size;
+
+  private RegexProgram() {
+  }
+
+  /**
+   * Compile the given syntax tree.
+   *
+   * @param node The root node of the expression.
+   * @return The program.
+   * @throws IllegalArgumentException if the program is too large.
+   */
+  static RegexProgram compile(final Node node) {
+    RegexProgram program = new RegexProgram();
+    program.emit(node);
+    program.add(MATCH, 0, 0, null);
+
+    program.ops = Arrays.copyOf(program.ops, program.size);
+    program.args1 = Arrays.copyOf(program.args1, program.size);
+    program.args2 = Arrays.copyOf(program.args2, program.size);
+    program.predicates = Arrays.copyOf(program.predicates, program.size);
+
+    return program;
+  }
+
+  /**
+   * Run the program against the given input.
+   *
+   * @param input     The input.
+   * @param fullMatch {@code true} if the entire input must match, {@code false} to search for a matching subsequence.
+   * @return {@code true} if the input matches.
+   */
+  boolean run(final CharSequence input, final boolean fullMatch) {
+    final Scratch scratch = Scratch.acquire(size);
+    try {
+      return run(input, fullMatch, scratch);
+    } finally {
+      Scratch.release(scratch);
+    }
+  }
+
+  private boolean run(final CharSequence input, final boolean fullMatch, final Scratch scratch) {
+    final int length = input.length();
+    final int[] stack = scratch.stack;
+
+    ThreadList current = scratch.current;
+    ThreadList next = scratch.next;
+    current.clear();
+
+    int position = 0;
+    boolean matched = addThreads(current, stack, 0, input, position);
+
+    while (true) {
+      if (matched && (!fullMatch || position == length)) {
+        return true;
+      }
+      if (position == length || (fullMatch && current.size == 0)) {
+        return false;
+      }
+
+      final int c = Character.codePointAt(input, position);
+      final int nextPosition = position + Character.charCount(c);
+
+      next.clear();
+      matched = false;
+      for (int i = 0; i < current.size; i++) {
+        int pc = current.pcs[i];
+        if (ops[pc] == CHAR && predicates[pc].test(c)) {
+          matched |= addThreads(next, stack, pc + 1, input, nextPosition);
+        }
+      }
+      if (!fullMatch) {
+        // Unanchored search, try to start a match at each position
+        matched |= addThreads(next, stack, 0, input, nextPosition);
+      }
+
+      ThreadList tmp = current;
+      current = next;
+      next = tmp;
+      position = nextPosition;
+    }
+  }
+
+  /**
+   * Add the thread at the given instruction and all threads reachable without consuming input.
+   *
+   * @return {@code true} if the match instruction has been reached.
+   */
+  private boolean addThreads(final ThreadList threads,
+                             final int[] stack,
+                             final int startPc,
+                             final CharSequence input,
+                             final int position) {
+
+    boolean matched = false;
+    int top = 0;
+    stack[top++] = startPc;
+
+    while (top != 0) {
+      int pc = stack[--top];
+      if (!threads.add(pc)) {
+        continue;
+      }
+
+      switch (ops[pc]) {
+        case JUMP:
+          stack[top++] = args1[pc];
+          break;
+        case SPLIT:
+          stack[top++] = args2[pc];
+          stack[top++] = args1[pc];
+          break;
+        case ASSERT:
+          if (check(args1[pc], input, position)) {
+            stack[top++] = pc + 1;
+          }
+          break;
+        case MATCH:
+          matched = true;
+          break;
+        default:
+          break;
+      }
+    }
+
+    return matched;
+  }
+
+  private static boolean check(final int kind, final CharSequence input, final int position) {
+    final int length = input.length();
+
+    switch (kind) {
+      case BEGIN_INPUT:
+        return position == 0;
+      case END_INPUT:
+        return position == length;
+      case END_INPUT_OR_TERMINATOR:
+        // Same as java.util.regex.Pattern without MULTILINE and UNIX_LINES flags
+        if (position == length) {
+          return true;
+        } else if (position == length - 2) {
+          return input.charAt(position) == '\r' && input.charAt(position + 1) == '\n';
+        } else if (position == length - 1) {
+          char c = input.charAt(position);
+          if (c == '\n') {
+            return position == 0 || input.charAt(position - 1) != '\r';
+          }
+          return isLineTerminator(c);
+        }
+        return false;
+      case WORD_BOUNDARY:
+        return isWordBefore(input, position) != isWordAt(input, position);
+      case NOT_WORD_BOUNDARY:
+        return isWordBefore(input, position) == isWordAt(input, position);
+      default:
+        return false;
+    }
+  }
+
+  private static boolean isWordBefore(final CharSequence input, final int position) {
+    return position > 0 && isWord(Character.codePointBefore(input, position));
+  }
+
+  private static boolean isWordAt(final CharSequence input, final int position) {
+    return position < input.length() && isWord(Character.codePointAt(input, position));
+  }
+
+  private static boolean isWord(final int c) {
+    return c == '_' || Character.isLetterOrDigit(c);
+  }
+
+  private void emit(final Node node) {
+    if (node instanceof Chars) {
+      add(CHAR, 0, 0, ((Chars) node).predicate);
+    } else if (node instanceof Assertion) {
+      add(ASSERT, ((Assertion) node).kind, 0, null);
+    } else if (node instanceof Concatenation) {
+      for (Node child : ((Concatenation) node).nodes) {
+        emit(child);
+      }
+    } else if (node instanceof Alternation) {
+      emitAlternation((Alternation) node);
+    } else if (node instanceof Repetition) {
+      emitRepetition((Repetition) node);
+    }
+  }
+
+  private void emitAlternation(final Alternation alternation) {
+    int nbAlternatives = alternation.alternatives.size();
+    int[] jumps = new int[nbAlternatives - 1];
+
+    for (int i = 0; i < nbAlternatives - 1; i++) {
+      int split = add(SPLIT, size + 1, 0, null);
+      emit(alternation.alternatives.get(i));
+      jumps[i] = add(JUMP, 0, 0, null);
+      args2[split] = size;
+    }
+    emit(alternation.alternatives.get(nbAlternatives - 1));
+
+    for (int jump : jumps) {
+      args1[jump] = size;
+    }
+  }
+
+  private void emitRepetition(final Repetition repetition) {
+    for (int i = 0; i < repetition.min; i++) {
+      emit(repetition.node);
+    }
+
+    if (repetition.max == UNBOUNDED) {
+      int split = add(SPLIT, size + 1, 0, null);
+      emit(repetition.node);
+      add(JUMP, split, 0, null);
+      args2[split] = size;
+    } else {
+      int nbOptionals = repetition.max - repetition.min;
+      if (nbOptionals > MAX_SIZE - size) {
+        throw new IllegalArgumentException("Regular expression is too large.");
+      }
+      int[] splits = new int[nbOptionals];
+
+      for (int i = 0; i < nbOptionals; i++) {
+        splits[i] = add(SPLIT, size + 1, 0, null);
+        emit(repetition.node);
+      }
+      for (int split : splits) {
+        args2[split] = size;
+      }
+    }
+  }
+
+  private int add(final byte op, final int arg1, final int arg2, final IntPredicate predicate) {
+    if (size == MAX_SIZE) {
+      throw new IllegalArgumentException("Regular expression is too large.");
+    }
+
+    if (size == ops.length) {
+      int capacity = ops.length * 2;
+      ops = Arrays.copyOf(ops, capacity);
+      args1 = Arrays.copyOf(args1, capacity);
+      args2 = Arrays.copyOf(args2, capacity);
+      predicates = Arrays.copyOf(predicates, capacity);
+    }
+
+    ops[size] = op;
+    args1[size] = arg1;
+    args2[size] = arg2;
+    predicates[size] = predicate;
+
+    return size++;
+  }
+
+  /**
+   * Per-thread evaluation buffers, reused across runs of all programs.
+   * Buffers are sized for the largest program run on the thread.
+   * <p/>
+   * Nested acquisitions on the same thread are safe, they get new buffers.
+   */
+  private static final class Scratch {
+    private static final ThreadLocal<Scratch> POOL = new ThreadLocal<>();
+
+    private final int capacity;
+    private final int[] stack;
+    private final ThreadList current;
+    private final ThreadList next;
+
+    private Scratch(final int capacity) {
+      this.capacity = capacity;
+      stack = new int[2 * capacity + 1];
+      current = new ThreadList(capacity);
+      next = new ThreadList(capacity);
+    }
+
+    static Scratch acquire(final int programSize) {
+      Scratch scratch = POOL.get();
+      if (scratch == null) {
+        return new Scratch(programSize);
+      }
+
+      POOL.set(null);
+      return (scratch.capacity >= programSize) ? scratch : new Scratch(programSize);
+    }
+
+    static void release(final Scratch scratch) {
+      if (POOL.get() == null) {
+        POOL.set(scratch);
+      }
+    }
+  }
+
+  /**
+   * Set of instruction pointers with constant time clear (sparse set).
+   * Previous content of the arrays is never trusted, so they can be reused without zeroing.
+   */
+  private static final class ThreadList {
+    private final int[] pcs;
+    private final int[] indexes;
+    private int size;
+
+    ThreadList(final int capacity) {
+      pcs = new int[capacity];
+      indexes = new int[capacity];
+    }
+
+    boolean add(final int pc) {
+      int index = indexes[pc];
+      if (index < size && pcs[index] == pc) {
+        return false;
+      }
+
+      indexes[pc] = size;
+      pcs[size++] = pc;
+      return true;
+    }
+
+    void clear() {
+      size = 0;
+    }
+  }
+}
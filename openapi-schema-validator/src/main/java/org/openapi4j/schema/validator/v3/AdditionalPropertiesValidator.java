@@ -1,22 +1,25 @@
 package org.openapi4j.schema.validator.v3;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.model.v3.OAI3SchemaKeywords;
+import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.regex.RegexEngine;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.ADDITIONALPROPERTIES;
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
+import static org.openapi4j.schema.validator.v3.PatternValidator.EVALUATION_ERR;
 
 /**
  * additionalProperties keyword validator.
@@ -31,7 +34,7 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(ADDITIONALPROPERTIES, true);
 
   private final Set<String> allowedProperties;
-  private final Set<Pattern> allowedPatternProperties;
+  private final Set<RegexEngine.Regex> allowedPatternProperties;
   private final Boolean additionalPropertiesAllowed;
   private final SchemaValidator additionalPropertiesSchema;
 
@@ -67,7 +70,7 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
       for (Iterator<String> it = valueNode.fieldNames(); it.hasNext(); ) {
         String fieldName = it.next();
 
-        if (!checkAgainstPatternProperties(fieldName) && !checkAgainstProperties(fieldName)) {
+        if (!checkAgainstPatternProperties(fieldName, validation) && !checkAgainstProperties(fieldName)) {
           if (additionalPropertiesSchema != null) {
             additionalPropertiesSchema.validateWithContext(valueNode.get(fieldName), validation);
           } else {
@@ -80,6 +83,31 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
     return false;
   }
 
+  /**
+   * Validate the value of the given field read from the parser.
+   *
+   * @return {@code true} if the value has been read, {@code false} if the field is not additional or not allowed.
+   */
+  boolean validate(final String fieldName, final JsonParser parser, final ValidationData<?> validation) throws IOException {
+    if (Boolean.TRUE.equals(additionalPropertiesAllowed)
+      || checkAgainstPatternProperties(fieldName, validation)
+      || checkAgainstProperties(fieldName)) {
+      return false;
+    }
+
+    if (additionalPropertiesSchema != null) {
+      try {
+        additionalPropertiesSchema.validateWithContext(parser, validation);
+      } catch (ValidationException ignored) {
+        // Results are already populated
+      }
+      return true;
+    }
+
+    validation.add(CRUMB_INFO, ERR, fieldName);
+    return false;
+  }
+
   private Set<String> setupAllowedProperties(JsonNode propertiesNode) {
     Set<String> values;
 
@@ -95,13 +123,13 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
     return values;
   }
 
-  private Set<Pattern> setupAllowedPatternProperties(JsonNode patternPropertiesNode) {
-    Set<Pattern> values;
+  private Set<RegexEngine.Regex> setupAllowedPatternProperties(JsonNode patternPropertiesNode) {
+    Set<RegexEngine.Regex> values;
 
     if (patternPropertiesNode != null) {
       values = new HashSet<>();
       for (Iterator<String> it = patternPropertiesNode.fieldNames(); it.hasNext(); ) {
-        values.add(Pattern.compile(it.next()));
+        values.add(context.getRegexEngine().compile(it.next()));
       }
     } else {
       values = null;
@@ -110,11 +138,16 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
     return values;
   }
 
-  private boolean checkAgainstPatternProperties(final String fieldName) {
+  private boolean checkAgainstPatternProperties(final String fieldName, final ValidationData<?> validation) {
     if (allowedPatternProperties != null) {
-      for (Pattern pattern : allowedPatternProperties) {
-        Matcher m = pattern.matcher(fieldName);
-        if (m.find()) {
+      for (RegexEngine.Regex pattern : allowedPatternProperties) {
+        try {
+          if (pattern.find(fieldName)) {
+            return true;
+          }
+        } catch (IllegalStateException ex) {
+          // Report evaluation failure instead of additional property
+          validation.add(CRUMB_INFO, EVALUATION_ERR, pattern);
           return true;
         }
       }
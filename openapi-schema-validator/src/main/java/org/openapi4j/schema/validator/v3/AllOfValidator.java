@@ -39,6 +39,7 @@ class AllOfValidator extends DiscriminatorValidator {
 
     for (SchemaValidator validator : validators) {
       ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate());
+      schemaValidation.results().setSpeculative(validation.results().isSpeculative());
       validator.validate(valueNode, schemaValidation);
 
       if (schemaValidation.isValid()) {
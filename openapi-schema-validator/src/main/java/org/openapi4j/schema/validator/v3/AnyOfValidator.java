@@ -7,9 +7,6 @@ import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.ANYOF;
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
 
@@ -35,24 +32,32 @@ class AnyOfValidator extends DiscriminatorValidator {
       return;
     }
 
-    List<ValidationResults> resultsOnError = new ArrayList<>();
+    // Speculative pass, errors are not built
+    ValidationData<?> schemaValidation = speculativeValidation(validation);
 
     for (SchemaValidator validator : validators) {
-      ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate());
+      schemaValidation.reset();
       validator.validate(valueNode, schemaValidation);
 
       if (schemaValidation.isValid()) {
         // Append potential results from sub validation (INFO / WARN)
-        validation.add(validation.results().crumbs(), schemaValidation.results());
+        if (schemaValidation.results().size() != 0) {
+          validation.add(validation.results().crumbs(), schemaValidation.results());
+        }
         return;
-      } else {
-        resultsOnError.add(schemaValidation.results());
       }
     }
 
+    if (validation.results().isSpeculative()) {
+      validation.add(CRUMB_INFO, NO_MATCHING_SCHEMA_ERR);
+      return;
+    }
+
     // Report errors only when schema selection failed
-    for (ValidationResults results : resultsOnError) {
-      validation.add(validation.results().crumbs(), results.items(ERROR));
+    for (SchemaValidator validator : validators) {
+      ValidationData<?> errorValidation = new ValidationData<>(validation.delegate());
+      validator.validate(valueNode, errorValidation);
+      validation.add(validation.results().crumbs(), errorValidation.results().items(ERROR));
     }
   }
 }
@@ -12,8 +12,11 @@ import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.function.BiPredicate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.openapi4j.core.model.reference.Reference.ABS_REF_FIELD;
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
@@ -28,10 +31,16 @@ abstract class DiscriminatorValidator extends BaseJsonValidator<OAI3> {
   private static final ValidationResult INVALID_SCHEMA_ERR = new ValidationResult(ERROR, 1003, "Schema selection can't be made for discriminator '%s' with value '%s'.");
   private static final ValidationResult INVALID_PROPERTY_ERR = new ValidationResult(ERROR, 1004, "Property name in schema is not set.");
   private static final ValidationResult INVALID_PROPERTY_CONTENT_ERR = new ValidationResult(ERROR, 1005, "Property name in content '%s' is not set.");
+  // Internal failure marker of speculative validation, only flips validity.
+  // Speculative results don't record items, so it never reaches users and has no public code.
+  static final ValidationResult NO_MATCHING_SCHEMA_ERR = new ValidationResult(ERROR, null, "No schema matches the value.");
 
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(DISCRIMINATOR, true);
 
   private static final String SCHEMAS_PATH = "#/components/schemas/";
+  private static final String SLASH = "/";
+  // Bound the cache of allOf checks, discriminator values come from content
+  private static final int MAX_ALLOF_CHECKS = 1024;
 
   final List<SchemaValidator> validators = new ArrayList<>();
   private final String arrayType;
@@ -39,6 +48,10 @@ abstract class DiscriminatorValidator extends BaseJsonValidator<OAI3> {
   private String discriminatorPropertyName;
   private JsonNode discriminatorMapping;
   private final ValidationResults.CrumbInfo crumbInfo;
+  // oneOf/anyOf: discriminator value to schema validator from mapping & schema names
+  private final Map<String, SchemaValidator> discriminatorValidators = new HashMap<>();
+  // allOf: discriminator value to existence of the Schema Object
+  private final Map<String, Boolean> allOfChecks = new ConcurrentHashMap<>();
 
   DiscriminatorValidator(final ValidationContext<OAI3> context,
                          final JsonNode schemaNode,
@@ -96,6 +109,19 @@ abstract class DiscriminatorValidator extends BaseJsonValidator<OAI3> {
     validate(() -> validator.validateWithContext(valueNode, validation));
   }
 
+  /**
+   * Create the validation data of a schema branch in speculative mode.
+   * Errors are not recorded, only validity, info and warning results.
+   *
+   * @param validation The parent validation data.
+   * @return The branch validation data.
+   */
+  static <V> ValidationData<V> speculativeValidation(final ValidationData<V> validation) {
+    ValidationData<V> schemaValidation = new ValidationData<>(validation.delegate());
+    schemaValidation.results().setSpeculative(true);
+    return schemaValidation;
+  }
+
   /**
    * Validate array keyword with default behaviour.
    *
@@ -124,6 +150,35 @@ abstract class DiscriminatorValidator extends BaseJsonValidator<OAI3> {
 
       discriminatorPropertyName = propertyNameNode.textValue();
       discriminatorMapping = discriminatorNode.get(MAPPING);
+
+      if (!ALLOF.equals(arrayType)) {
+        setupOneAnyOfDispatch();
+      }
+    }
+  }
+
+  /**
+   * Build the dispatch table from discriminator values to schema validators.
+   */
+  private void setupOneAnyOfDispatch() {
+    // Implicit case, the value must match exactly one of the schemas name regardless path
+    for (SchemaValidator validator : validators) {
+      JsonNode refNode = validator.getSchemaNode().get($REF);
+      if (refNode != null) {
+        String ref = refNode.textValue();
+        discriminatorValidators.putIfAbsent(ref.substring(ref.lastIndexOf(SLASH) + 1), validator);
+      }
+    }
+
+    // Explicit case with mapping, prevails over implicit case
+    if (discriminatorMapping != null) {
+      for (Iterator<Map.Entry<String, JsonNode>> it = discriminatorMapping.fields(); it.hasNext(); ) {
+        Map.Entry<String, JsonNode> mappingEntry = it.next();
+        SchemaValidator validator = getValidatorByRef(mappingEntry.getValue().textValue());
+        if (validator != null) {
+          discriminatorValidators.put(mappingEntry.getKey(), validator);
+        }
+      }
     }
   }
 
@@ -221,6 +276,18 @@ abstract class DiscriminatorValidator extends BaseJsonValidator<OAI3> {
   }
 
   private boolean checkAllOfValidator(final String discriminatorValue) {
+    Boolean exists = allOfChecks.get(discriminatorValue);
+    if (exists == null) {
+      exists = hasAllOfSchema(discriminatorValue);
+      if (allOfChecks.size() < MAX_ALLOF_CHECKS) {
+        allOfChecks.put(discriminatorValue, exists);
+      }
+    }
+
+    return exists;
+  }
+
+  private boolean hasAllOfSchema(final String discriminatorValue) {
     String ref = null;
 
     // Explicit case with mapping
@@ -241,28 +308,13 @@ abstract class DiscriminatorValidator extends BaseJsonValidator<OAI3> {
   }
 
   private SchemaValidator getOneAnyOfValidator(final String discriminatorValue) {
-    // Explicit case with mapping
-    if (discriminatorMapping != null) {
-      JsonNode mappingNode = discriminatorMapping.get(discriminatorValue);
-      if (mappingNode != null) {
-        String ref = mappingNode.textValue();
-        SchemaValidator validator = getOneAnyOfValidator(ref, String::equals);
-        if (validator != null) {
-          return validator;
-        }
-      }
-    }
-
-    // Implicit case, the value must match exactly one of the schemas name regardless path
-    return getOneAnyOfValidator(discriminatorValue, String::endsWith);
+    return discriminatorValidators.get(discriminatorValue);
   }
 
-  private SchemaValidator getOneAnyOfValidator(final String value,
-                                               final BiPredicate<String, String> checker) {
-
+  private SchemaValidator getValidatorByRef(final String ref) {
     for (SchemaValidator validator : validators) {
       JsonNode refNode = validator.getSchemaNode().get($REF);
-      if (refNode != null && checker.test(refNode.textValue(), value)) {
+      if (refNode != null && refNode.textValue().equals(ref)) {
         return validator;
       }
     }
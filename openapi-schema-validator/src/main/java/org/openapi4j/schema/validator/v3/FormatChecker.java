@@ -0,0 +1,18 @@
+package org.openapi4j.schema.validator.v3;
+
+/**
+ * Represents a check of a string value against a format.
+ * <p/>
+ * Checkers can be registered for custom formats or to override the core ones
+ * with {@link org.openapi4j.schema.validator.ValidationContext#addFormatChecker(String, FormatChecker)}.
+ */
+@FunctionalInterface
+public interface FormatChecker {
+  /**
+   * Check the given value.
+   *
+   * @param value The string value to check. Never {@code null}.
+   * @return {@code true} if the value matches the format.
+   */
+  boolean check(final String value);
+}
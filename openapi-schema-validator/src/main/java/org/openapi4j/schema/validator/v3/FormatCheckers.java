@@ -0,0 +1,392 @@
+package org.openapi4j.schema.validator.v3;
+
+import java.util.regex.Pattern;
+
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
+
+/**
+ * The core format checkers of string values.
+ * <p/>
+ * Most common formats are checked with hand-written scanners instead of regular expressions.
+ * They accept exactly the same values than the historical expressions, i.e. :
+ * <p/>
+ * byte : {@code ^([A-Za-z0-9+/]{4})*([A-Za-z0-9+/]{4}|[A-Za-z0-9+/]{3}=|[A-Za-z0-9+/]{2}==)$}<br/>
+ * date : {@code ^\d{4}-(?:0[0-9]{1}|1[0-2]{1})-(0?[1-9]|[12][0-9]|3[01])$}<br/>
+ * date-time : {@code ^\d{4}-(?:0[0-9]{1}|1[0-2]{1})-(0?[1-9]|[12][0-9]|3[01])[tT ]\d{2}:\d{2}:\d{2}(\.\d+)?([zZ]|[+-]\d{2}:\d{2})$}<br/>
+ * email : {@code ^\S+@\S+$}<br/>
+ * ipv4 : {@code ^(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)$}<br/>
+ * ipv6 : IPv6 address with optional embedded IPv4, zone index and surrounding white spaces.<br/>
+ * uuid : {@code ^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$}
+ */
+final class FormatCheckers {
+  private static final Pattern HOSTNAME_PATTERN = Pattern.compile("^([a-zA-Z0-9]|[a-zA-Z0-9][a-zA-Z0-9\\-]{0,61}[a-zA-Z0-9])(\\.([a-zA-Z0-9]|[a-zA-Z0-9][a-zA-Z0-9\\-]{0,61}[a-zA-Z0-9]))*$");
+  private static final Pattern URI_PATTERN = Pattern.compile("(^[a-zA-Z][a-zA-Z0-9+-.]*:[^\\s]*$)|(^//[^\\s]*$)");
+
+  private static final FormatChecker HOSTNAME_CHECKER = value -> HOSTNAME_PATTERN.matcher(value).matches();
+  private static final FormatChecker URI_CHECKER = value -> URI_PATTERN.matcher(value).matches();
+
+  private static final int IPV6_MAX_GROUPS = 8;
+
+  private FormatCheckers() {
+  }
+
+  /**
+   * Get the core checker of the given format.
+   *
+   * @param format The format of string value.
+   * @return The checker, {@code null} if the format is not a string format or unknown.
+   */
+  static FormatChecker get(final String format) {
+    switch (format) {
+      case FORMAT_BYTE: return FormatCheckers::isByte;
+      case FORMAT_DATE: return FormatCheckers::isDate;
+      case FORMAT_DATE_TIME: return FormatCheckers::isDateTime;
+      case FORMAT_EMAIL: return FormatCheckers::isEmail;
+      case FORMAT_HOSTNAME: return HOSTNAME_CHECKER;
+      case FORMAT_IPV4: return FormatCheckers::isIpv4;
+      case FORMAT_IPV6: return FormatCheckers::isIpv6;
+      case FORMAT_UUID: return FormatCheckers::isUuid;
+      case FORMAT_URI:
+      case FORMAT_URIREF:
+      case FORMAT_URI_REFERENCE: return URI_CHECKER;
+      default: return null;
+    }
+  }
+
+  static boolean isByte(final String value) {
+    final int length = value.length();
+    if (length == 0 || (length & 3) != 0) {
+      return false;
+    }
+
+    for (int i = 0; i < length - 2; i++) {
+      if (!isBase64(value.charAt(i))) {
+        return false;
+      }
+    }
+
+    // Padding
+    char c1 = value.charAt(length - 2);
+    char c2 = value.charAt(length - 1);
+    if (isBase64(c1)) {
+      return isBase64(c2) || c2 == '=';
+    }
+    return c1 == '=' && c2 == '=';
+  }
+
+  static boolean isDate(final String value) {
+    int index = scanDate(value);
+    return index != -1 && index == value.length();
+  }
+
+  static boolean isDateTime(final String value) {
+    final int length = value.length();
+
+    int index = scanDate(value);
+    if (index == -1 || index == length) {
+      return false;
+    }
+
+    // Separator
+    char c = value.charAt(index++);
+    if (c != 'T' && c != 't' && c != ' ') {
+      return false;
+    }
+
+    // Time
+    if (index + 8 > length
+      || !isDigits(value, index, 2) || value.charAt(index + 2) != ':'
+      || !isDigits(value, index + 3, 2) || value.charAt(index + 5) != ':'
+      || !isDigits(value, index + 6, 2)) {
+      return false;
+    }
+    index += 8;
+
+    // Fraction of second
+    if (index < length && value.charAt(index) == '.') {
+      int start = ++index;
+      while (index < length && isDigit(value.charAt(index))) {
+        index++;
+      }
+      if (index == start) {
+        return false;
+      }
+    }
+
+    // Time zone
+    if (index == length) {
+      return false;
+    }
+    c = value.charAt(index++);
+    if (c == 'Z' || c == 'z') {
+      return index == length;
+    }
+    return (c == '+' || c == '-')
+      && index + 5 == length
+      && isDigits(value, index, 2)
+      && value.charAt(index + 2) == ':'
+      && isDigits(value, index + 3, 2);
+  }
+
+  static boolean isEmail(final String value) {
+    final int length = value.length();
+    boolean hasAt = false;
+
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (isWhitespace(c)) {
+        return false;
+      }
+      if (c == '@' && i != 0 && i != length - 1) {
+        hasAt = true;
+      }
+    }
+
+    return hasAt;
+  }
+
+  static boolean isIpv4(final String value) {
+    final int length = value.length();
+    int index = 0;
+
+    for (int octet = 0; octet < 4; octet++) {
+      if (octet != 0) {
+        if (index == length || value.charAt(index++) != '.') {
+          return false;
+        }
+      }
+
+      int start = index;
+      int number = 0;
+      while (index < length && index - start < 3 && isDigit(value.charAt(index))) {
+        number = number * 10 + (value.charAt(index++) - '0');
+      }
+      // Leading zeros are allowed
+      if (index == start || number > 255) {
+        return false;
+      }
+    }
+
+    return index == length;
+  }
+
+  static boolean isIpv6(final String value) {
+    int start = 0;
+    int end = value.length();
+
+    // Leading white spaces
+    while (start < end && isWhitespace(value.charAt(start))) {
+      start++;
+    }
+
+    // Zone index, at least one character followed by any character except line terminators.
+    // Line terminators are only allowed in trailing white spaces.
+    int zoneIndex = value.indexOf('%', start);
+    if (zoneIndex != -1) {
+      int index = zoneIndex + 1;
+      if (index == end || isLineTerminator(value.charAt(index))) {
+        return false;
+      }
+      while (index < end && !isLineTerminator(value.charAt(index))) {
+        index++;
+      }
+      while (index < end) {
+        if (!isWhitespace(value.charAt(index++))) {
+          return false;
+        }
+      }
+      end = zoneIndex;
+    } else {
+      // Trailing white spaces
+      while (end > start && isWhitespace(value.charAt(end - 1))) {
+        end--;
+      }
+    }
+
+    return scanIpv6Address(value, start, end);
+  }
+
+  static boolean isUuid(final String value) {
+    return value.length() == 36
+      && isHexDigits(value, 0, 8) && value.charAt(8) == '-'
+      && isHexDigits(value, 9, 4) && value.charAt(13) == '-'
+      && isHexDigits(value, 14, 4) && value.charAt(18) == '-'
+      && isHexDigits(value, 19, 4) && value.charAt(23) == '-'
+      && isHexDigits(value, 24, 12);
+  }
+
+  /**
+   * Scan the date part {@code \d{4}-(?:0[0-9]|1[0-2])-(0?[1-9]|[12][0-9]|3[01])}.
+   *
+   * @return The index after the date, {@code -1} if the date is invalid.
+   */
+  private static int scanDate(final String value) {
+    final int length = value.length();
+
+    // Year & month
+    if (length < 9
+      || !isDigits(value, 0, 4) || value.charAt(4) != '-'
+      || !isMonth(value.charAt(5), value.charAt(6)) || value.charAt(7) != '-') {
+      return -1;
+    }
+
+    // Day with 1 or 2 digits
+    char d1 = value.charAt(8);
+    if (!isDigit(d1)) {
+      return -1;
+    }
+    if (length == 9 || !isDigit(value.charAt(9))) {
+      return d1 != '0' ? 9 : -1;
+    }
+
+    char d2 = value.charAt(9);
+    boolean validDay
+      = (d1 == '0' && d2 != '0')
+      || d1 == '1' || d1 == '2'
+      || (d1 == '3' && (d2 == '0' || d2 == '1'));
+
+    return validDay ? 10 : -1;
+  }
+
+  private static boolean isMonth(final char m1, final char m2) {
+    return (m1 == '0' && isDigit(m2)) || (m1 == '1' && m2 >= '0' && m2 <= '2');
+  }
+
+  /**
+   * Scan IPv6 address without zone index and surrounding white spaces.
+   * The address is made of hex groups, with at most one '::' compression and an optional trailing IPv4 address.
+   * <p/>
+   * Without compression, 8 groups or 6 groups and IPv4 are expected.<br/>
+   * With compression, at most 7 groups or 5 groups and IPv4 are allowed.<br/>
+   * IPv4 part does not allow leading zeros.
+   */
+  private static boolean scanIpv6Address(final String value, final int start, final int end) {
+    if (end - start < 2) {
+      return false;
+    }
+
+    int index = start;
+    int groups = 0;
+    boolean compressed = false;
+    boolean ipv4 = false;
+
+    if (value.charAt(index) == ':') {
+      // Leading compression
+      if (value.charAt(index + 1) != ':') {
+        return false;
+      }
+      compressed = true;
+      index += 2;
+    }
+
+    while (index < end) {
+      // Hex group or IPv4
+      int groupStart = index;
+      while (index < end && isHexDigit(value.charAt(index))) {
+        index++;
+      }
+
+      if (index < end && value.charAt(index) == '.') {
+        if (!scanIpv4(value, groupStart, end)) {
+          return false;
+        }
+        ipv4 = true;
+        break;
+      }
+
+      int groupLength = index - groupStart;
+      if (groupLength == 0 || groupLength > 4) {
+        return false;
+      }
+      groups++;
+
+      if (index == end) {
+        break;
+      }
+
+      // Separator
+      if (value.charAt(index++) != ':' || index == end) {
+        return false;
+      }
+      if (value.charAt(index) == ':') {
+        // Compression
+        if (compressed) {
+          return false;
+        }
+        compressed = true;
+        index++;
+      }
+    }
+
+    int size = groups + (ipv4 ? 2 : 0);
+    return compressed ? size < IPV6_MAX_GROUPS : size == IPV6_MAX_GROUPS;
+  }
+
+  /**
+   * Scan IPv4 address without leading zeros, i.e. {@code 25[0-5]|2[0-4]\d|1\d\d|[1-9]?\d} octets.
+   */
+  private static boolean scanIpv4(final String value, final int start, final int end) {
+    int index = start;
+
+    for (int octet = 0; octet < 4; octet++) {
+      if (octet != 0) {
+        if (index == end || value.charAt(index++) != '.') {
+          return false;
+        }
+      }
+
+      int octetStart = index;
+      int number = 0;
+      while (index < end && index - octetStart < 3 && isDigit(value.charAt(index))) {
+        number = number * 10 + (value.charAt(index++) - '0');
+      }
+
+      int octetLength = index - octetStart;
+      if (octetLength == 0 || number > 255 || (octetLength > 1 && value.charAt(octetStart) == '0')) {
+        return false;
+      }
+    }
+
+    return index == end;
+  }
+
+  private static boolean isDigits(final String value, final int start, final int count) {
+    for (int i = start; i < start + count; i++) {
+      if (!isDigit(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isHexDigits(final String value, final int start, final int count) {
+    for (int i = start; i < start + count; i++) {
+      if (!isHexDigit(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isHexDigit(final char c) {
+    return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  private static boolean isBase64(final char c) {
+    return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/';
+  }
+
+  // Same as regex \s
+  private static boolean isWhitespace(final char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  // Characters not matched by regex dot
+  private static boolean isLineTerminator(final char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
@@ -33,17 +33,22 @@ class ItemsValidator extends BaseJsonValidator<OAI3> {
     }
 
     for (int idx = 0; idx < valueNode.size(); ++idx) {
-      JsonNode itemNode = valueNode.get(idx);
-
-      validation.results().withCrumb(
-        new ValidationResults.CrumbInfo(Integer.toString(idx), false),
-        () -> schema.validate(itemNode, validation));
+      validation.results().pushCrumb(idx);
+      try {
+        schema.validate(valueNode.get(idx), validation);
+      } finally {
+        validation.results().popCrumb();
+      }
 
-      if (context.isFastFail() && !validation.isValid()) {
+      if ((context.isFastFail() || validation.results().isSpeculative()) && !validation.isValid()) {
         break;
       }
     }
 
     return false;
   }
+
+  SchemaValidator getSchema() {
+    return schema;
+  }
 }
@@ -2,7 +2,6 @@ package org.openapi4j.schema.validator.v3;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.v3.OAI3;
-import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
@@ -34,11 +33,13 @@ class NotValidator extends BaseJsonValidator<OAI3> {
 
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
-    try {
-      schema.validate(valueNode);
+    // Errors are not needed, only validity
+    ValidationData<?> schemaValidation = new ValidationData<>();
+    schemaValidation.results().setSpeculative(true);
+    schema.validate(valueNode, schemaValidation);
+
+    if (schemaValidation.isValid()) {
       validation.add(CRUMB_INFO, ERR);
-    } catch (ValidationException ex) {
-      // Succeed case
     }
 
     return false;
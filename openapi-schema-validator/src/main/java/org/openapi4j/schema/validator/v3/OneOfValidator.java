@@ -7,9 +7,6 @@ import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.ONEOF;
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
 
@@ -41,11 +38,16 @@ class OneOfValidator extends DiscriminatorValidator {
       return;
     }
 
-    List<ValidationResults> resultsOnError = new ArrayList<>();
+    // Speculative pass, errors are not built
     ValidationResults validResults = null;
+    ValidationData<?> schemaValidation = null;
 
     for (SchemaValidator validator : validators) {
-      ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate());
+      if (schemaValidation == null) {
+        schemaValidation = speculativeValidation(validation);
+      } else {
+        schemaValidation.reset();
+      }
       validator.validate(valueNode, schemaValidation);
 
       if (schemaValidation.isValid()) {
@@ -55,18 +57,24 @@ class OneOfValidator extends DiscriminatorValidator {
         }
 
         validResults = schemaValidation.results();
-      }  else {
-        resultsOnError.add(schemaValidation.results());
+        // Keep results, get a new one for next schema
+        schemaValidation = null;
       }
     }
 
     if (validResults != null) {
       // Append potential results from sub validation (INFO / WARN)
-      validation.add(validation.results().crumbs(), validResults);
+      if (validResults.size() != 0) {
+        validation.add(validation.results().crumbs(), validResults);
+      }
+    } else if (validation.results().isSpeculative()) {
+      validation.add(CRUMB_INFO, NO_MATCHING_SCHEMA_ERR);
     } else {
       // Report errors only when schema selection failed
-      for (ValidationResults results : resultsOnError) {
-        validation.add(validation.results().crumbs(), results.items(ERROR));
+      for (SchemaValidator validator : validators) {
+        ValidationData<?> errorValidation = new ValidationData<>(validation.delegate());
+        validator.validate(valueNode, errorValidation);
+        validation.add(validation.results().crumbs(), errorValidation.results().items(ERROR));
       }
     }
   }
@@ -6,12 +6,14 @@ import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.regex.RegexEngine;
 
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.PATTERNPROPERTIES;
+import static org.openapi4j.schema.validator.v3.PatternValidator.EVALUATION_ERR;
 
 /**
  * patternProperties keyword validator.
@@ -21,7 +23,9 @@ import java.util.regex.Pattern;
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-9" />
  */
 class PatternPropertiesValidator extends BaseJsonValidator<OAI3> {
-  private final Map<Pattern, SchemaValidator> schemas = new IdentityHashMap<>();
+  private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(PATTERNPROPERTIES, true);
+
+  private final Map<RegexEngine.Regex, SchemaValidator> schemas = new IdentityHashMap<>();
 
   PatternPropertiesValidator(final ValidationContext<OAI3> context, final JsonNode schemaNode, final JsonNode schemaParentNode, final SchemaValidator parentSchema) {
     super(context, schemaNode, schemaParentNode, parentSchema);
@@ -29,7 +33,7 @@ class PatternPropertiesValidator extends BaseJsonValidator<OAI3> {
     Iterator<String> names = schemaNode.fieldNames();
     while (names.hasNext()) {
       String name = names.next();
-      schemas.put(Pattern.compile(name), new SchemaValidator(context, new ValidationResults.CrumbInfo(name, false), schemaNode.get(name), schemaParentNode, parentSchema));
+      schemas.put(context.getRegexEngine().compile(name), new SchemaValidator(context, new ValidationResults.CrumbInfo(name, false), schemaNode.get(name), schemaParentNode, parentSchema));
     }
   }
 
@@ -44,9 +48,8 @@ class PatternPropertiesValidator extends BaseJsonValidator<OAI3> {
     validate(() -> {
       while (names.hasNext()) {
         String name = names.next();
-        for (Map.Entry<Pattern, SchemaValidator> entry : schemas.entrySet()) {
-          Matcher m = entry.getKey().matcher(name);
-          if (m.matches()) {
+        for (Map.Entry<RegexEngine.Regex, SchemaValidator> entry : schemas.entrySet()) {
+          if (matches(entry.getKey(), name, validation)) {
             entry.getValue().validateWithContext(valueNode.get(name), validation);
           }
         }
@@ -55,4 +58,13 @@ class PatternPropertiesValidator extends BaseJsonValidator<OAI3> {
 
     return false;
   }
+
+  private boolean matches(final RegexEngine.Regex regex, final String name, final ValidationData<?> validation) {
+    try {
+      return regex.matches(name);
+    } catch (IllegalStateException ex) {
+      validation.add(CRUMB_INFO, EVALUATION_ERR, regex);
+      return false;
+    }
+  }
 }
@@ -2,14 +2,13 @@ package org.openapi4j.schema.validator.v3;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 
 /**
  * properties keyword validator.
@@ -19,31 +18,49 @@ import java.util.Map;
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-9" />
  */
 class PropertiesValidator extends BaseJsonValidator<OAI3> {
-  private final Map<String, SchemaValidator> schemas;
+  private final String[] names;
+  private final SchemaValidator[] schemas;
 
   PropertiesValidator(final ValidationContext<OAI3> context, final JsonNode schemaNode, final JsonNode schemaParentNode, final SchemaValidator parentSchema) {
     super(context, schemaNode, schemaParentNode, parentSchema);
 
-    schemas = new HashMap<>();
-    for (Iterator<String> it = schemaNode.fieldNames(); it.hasNext(); ) {
+    names = new String[schemaNode.size()];
+    schemas = new SchemaValidator[schemaNode.size()];
+    int index = 0;
+    for (Iterator<String> it = schemaNode.fieldNames(); it.hasNext(); index++) {
       String pname = it.next();
-      schemas.put(pname, new SchemaValidator(context, new ValidationResults.CrumbInfo(pname, false), schemaNode.get(pname), schemaParentNode, parentSchema));
+      names[index] = pname;
+      schemas[index] = new SchemaValidator(context, new ValidationResults.CrumbInfo(pname, false), schemaNode.get(pname), schemaParentNode, parentSchema);
     }
   }
 
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
-    validate(() -> {
-      for (Map.Entry<String, SchemaValidator> entry : schemas.entrySet()) {
-        SchemaValidator propertySchema = entry.getValue();
-        JsonNode propertyNode = valueNode.get(entry.getKey());
+    try {
+      for (int i = 0; i < names.length; i++) {
+        JsonNode propertyNode = valueNode.get(names[i]);
 
         if (propertyNode != null) {
-          propertySchema.validateWithContext(propertyNode, validation);
+          schemas[i].validateWithContext(propertyNode, validation);
         }
       }
-    });
+    } catch (ValidationException ignored) {
+      // Results are already populated
+    }
 
     return false;
   }
+
+  /**
+   * @return The validator of the given property, {@code null} if the property is not defined.
+   */
+  SchemaValidator getSchema(final String name) {
+    for (int i = 0; i < names.length; i++) {
+      if (names[i].equals(name)) {
+        return schemas[i];
+      }
+    }
+
+    return null;
+  }
 }
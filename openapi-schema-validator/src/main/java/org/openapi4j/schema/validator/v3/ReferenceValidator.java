@@ -1,14 +1,18 @@
 package org.openapi4j.schema.validator.v3;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.reference.Reference;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
+import org.openapi4j.schema.validator.JsonStreamValidator;
 import org.openapi4j.schema.validator.JsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
+import java.io.IOException;
+
 import static org.openapi4j.core.model.reference.Reference.ABS_REF_FIELD;
 
 /**
@@ -19,7 +23,7 @@ import static org.openapi4j.core.model.reference.Reference.ABS_REF_FIELD;
  * Reaching a validator is guaranteed by the
  * JSON reference registry of the context which is our guard for correct definitions.
  */
-class ReferenceValidator extends BaseJsonValidator<OAI3> {
+class ReferenceValidator extends BaseJsonValidator<OAI3> implements JsonStreamValidator {
   private static final String HASH = "#";
 
   private final String refValue;
@@ -83,4 +87,9 @@ class ReferenceValidator extends BaseJsonValidator<OAI3> {
 
     return false;
   }
+
+  @Override
+  public void validate(final JsonParser parser, final ValidationData<?> validation) throws IOException {
+    SchemaValidator.validate(schemaValidator, parser, validation);
+  }
 }
@@ -1,22 +1,35 @@
 package org.openapi4j.schema.validator.v3;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.openapi4j.core.exception.ResolutionException;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.model.v3.OAI3Context;
+import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
+import org.openapi4j.schema.validator.JsonStreamValidator;
 import org.openapi4j.schema.validator.JsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
@@ -25,12 +38,35 @@ import static org.openapi4j.schema.validator.v3.ValidationOptions.ADDITIONAL_PRO
 /**
  * Schema validation implementation.
  * This is the entry point of all validators.
+ * <p/>
+ * Values can also be validated from the parser tokens. Objects and arrays are then streamed
+ * when their schema only involves structural keywords (type, nullable, required, min/max items and properties,
+ * properties, additionalProperties, items and references), other values are read as trees.
  */
-public class SchemaValidator extends BaseJsonValidator<OAI3> {
+public class SchemaValidator extends BaseJsonValidator<OAI3> implements JsonStreamValidator {
   private static final JsonNode FALSE_NODE = JsonNodeFactory.instance.booleanNode(false);
 
+  // Keywords ordered by validation cost, cheap checks first.
+  // Unknown keywords (i.e. custom validators) are placed after, in schema order.
+  private static final List<String> KEYWORD_ORDER = Arrays.asList(
+    TYPE, NULLABLE, REQUIRED, ENUM,
+    MINIMUM, MAXIMUM, MULTIPLEOF,
+    MINLENGTH, MAXLENGTH,
+    MINITEMS, MAXITEMS,
+    MINPROPERTIES, MAXPROPERTIES,
+    FORMAT, UNIQUEITEMS, DEPENDENCIES, PATTERN,
+    ADDITIONALPROPERTIES, PATTERNPROPERTIES, PROPERTIES, ITEMS,
+    NOT, ALLOF, ANYOF, ONEOF, $REF);
+
   private final ValidationResults.CrumbInfo crumbInfo;
-  private final Map<String, Collection<JsonValidator>> validators;
+  // Validators of all keywords, flattened in cost order.
+  private final JsonValidator[] validators;
+  // Index of the first validator of the next keyword for each validator.
+  // Used to skip the remaining validators of the keyword when chaining is stopped.
+  private final int[] nextKeywordIndexes;
+  // Lazily computed, references may be set after construction.
+  // Volatile to publish the plan to the other threads sharing this validator.
+  private volatile StreamPlan streamPlan;
 
   /**
    * Create a new Schema Object validator.
@@ -81,7 +117,23 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
     super(context, schemaNode, schemaParentNode, parentSchema);
 
     this.crumbInfo = crumbInfo;
-    validators = read(this.context, schemaNode);
+
+    List<Collection<JsonValidator>> keywordValidators = read(this.context, schemaNode);
+    int nbValidators = 0;
+    for (Collection<JsonValidator> validatorGroup : keywordValidators) {
+      nbValidators += validatorGroup.size();
+    }
+
+    validators = new JsonValidator[nbValidators];
+    nextKeywordIndexes = new int[nbValidators];
+    int index = 0;
+    for (Collection<JsonValidator> validatorGroup : keywordValidators) {
+      int nextKeywordIndex = index + validatorGroup.size();
+      for (JsonValidator validator : validatorGroup) {
+        validators[index] = validator;
+        nextKeywordIndexes[index++] = nextKeywordIndex;
+      }
+    }
   }
 
   /**
@@ -98,6 +150,18 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
     return true;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void validate(final JsonParser parser, final ValidationData<?> validation) throws IOException {
+    try {
+      validateWithContext(parser, validation);
+    } catch (ValidationException ignored) {
+      // results are already populated
+    }
+  }
+
   /**
    * Get the context of validation.
    */
@@ -121,22 +185,165 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
     }
   }
 
+  final void validateWithContext(final JsonParser parser, final ValidationData<?> validation) throws IOException, ValidationException {
+    final JsonToken token = parser.currentToken() != null ? parser.currentToken() : parser.nextToken();
+    final StreamPlan plan = getStreamPlan();
+
+    if (!plan.streamable || (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY)) {
+      validateWithContext(readTree(parser), validation);
+      return;
+    }
+
+    validation.results().pushCrumb(crumbInfo);
+
+    try {
+      if (plan.reference != null) {
+        plan.reference.validate(parser, validation);
+      } else {
+        final ContainerNode<?> skeleton = (token == JsonToken.START_OBJECT)
+          ? streamObject(plan, parser, validation)
+          : streamArray(plan, parser, validation);
+
+        // Structural keywords are checked against the skeleton of the value
+        for (JsonValidator validator : plan.structuralValidators) {
+          validator.validate(skeleton, validation);
+          checkStop(validation);
+        }
+      }
+    } finally {
+      validation.results().popCrumb();
+    }
+
+    if (context.isFastFail() && !validation.isValid()) {
+      throw new ValidationException(null, validation.results());
+    }
+  }
+
+  /**
+   * Validate the value read from the given parser with the given validator,
+   * the value is read as tree if the validator doesn't support streaming.
+   */
+  static void validate(final JsonValidator validator,
+                       final JsonParser parser,
+                       final ValidationData<?> validation) throws IOException {
+
+    if (validator instanceof JsonStreamValidator) {
+      ((JsonStreamValidator) validator).validate(parser, validation);
+    } else {
+      validator.validate(readTree(parser), validation);
+    }
+  }
+
+  /**
+   * Stream the object members to the properties validators.
+   *
+   * @return The skeleton of the object, i.e. the field names with null values if needed by structural keywords.
+   */
+  private ObjectNode streamObject(final StreamPlan plan,
+                                  final JsonParser parser,
+                                  final ValidationData<?> validation) throws IOException, ValidationException {
+
+    final ObjectNode skeleton = JsonNodeFactory.instance.objectNode();
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.getCurrentName();
+      parser.nextToken();
+
+      boolean consumed = plan.additionalProperties != null
+        && plan.additionalProperties.validate(fieldName, parser, validation);
+
+      if (!consumed) {
+        final SchemaValidator propertySchema = plan.properties != null ? plan.properties.getSchema(fieldName) : null;
+        if (propertySchema != null) {
+          propertySchema.validateWithContext(parser, validation);
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      if (plan.skeletonMembers) {
+        skeleton.putNull(fieldName);
+      }
+      checkStop(validation);
+    }
+
+    return skeleton;
+  }
+
+  /**
+   * Stream the array elements to the items validator.
+   *
+   * @return The skeleton of the array, i.e. null values if needed by structural keywords.
+   */
+  private ArrayNode streamArray(final StreamPlan plan,
+                                final JsonParser parser,
+                                final ValidationData<?> validation) throws IOException, ValidationException {
+
+    final ArrayNode skeleton = JsonNodeFactory.instance.arrayNode();
+
+    JsonToken token;
+    int index = 0;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+      if (plan.items != null) {
+        validation.results().pushCrumb(index);
+        try {
+          plan.items.getSchema().validateWithContext(parser, validation);
+        } finally {
+          validation.results().popCrumb();
+        }
+      } else {
+        parser.skipChildren();
+      }
+
+      if (plan.skeletonMembers) {
+        skeleton.addNull();
+      }
+      index++;
+      checkStop(validation);
+    }
+
+    return skeleton;
+  }
+
+  private void checkStop(final ValidationData<?> validation) throws ValidationException {
+    if ((context.isFastFail() || validation.results().isSpeculative()) && !validation.isValid()) {
+      throw new ValidationException(null, validation.results());
+    }
+  }
+
+  private static JsonNode readTree(final JsonParser parser) throws IOException {
+    final JsonNode node = TreeUtil.json.readTree(parser);
+    return node != null ? node : MissingNode.getInstance();
+  }
+
+  private StreamPlan getStreamPlan() {
+    StreamPlan plan = streamPlan;
+    if (plan == null) {
+      // Concurrent computations give equivalent plans
+      plan = new StreamPlan(validators);
+      streamPlan = plan;
+    }
+
+    return plan;
+  }
+
   private void fastFailValidate(final JsonNode valueNode, final ValidationData<?> validation) throws ValidationException {
-    validation.results().withCrumb(crumbInfo, () -> {
-      for (Collection<JsonValidator> keywordValidators : validators.values()) {
-        for (JsonValidator validator : keywordValidators) {
-          boolean shouldChain = validator.validate(valueNode, validation);
-
-          if (!validation.isValid()) {
-            return;
-          }
-
-          if (!shouldChain) {
-            break;
-          }
+    validation.results().pushCrumb(crumbInfo);
+
+    try {
+      int i = 0;
+      while (i < validators.length) {
+        boolean shouldChain = validators[i].validate(valueNode, validation);
+
+        if (!validation.isValid()) {
+          break;
         }
+
+        i = shouldChain ? i + 1 : nextKeywordIndexes[i];
       }
-    });
+    } finally {
+      validation.results().popCrumb();
+    }
 
     if (!validation.isValid()) {
       throw new ValidationException(null, validation.results());
@@ -144,22 +351,31 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
   }
 
   private void defaultValidate(final JsonNode valueNode, final ValidationData<?> validation) {
-    validation.results().withCrumb(crumbInfo, () -> {
-      for (Collection<JsonValidator> keywordValidators : validators.values()) {
-        for (JsonValidator validator : keywordValidators) {
-          if (!validator.validate(valueNode, validation)) {
-            break;
-          }
+    validation.results().pushCrumb(crumbInfo);
+
+    try {
+      final boolean speculative = validation.results().isSpeculative();
+      int i = 0;
+      while (i < validators.length) {
+        i = validators[i].validate(valueNode, validation) ? i + 1 : nextKeywordIndexes[i];
+
+        // Errors are not recorded, no need to go further
+        if (speculative && !validation.isValid()) {
+          break;
         }
       }
-    });
+    } finally {
+      validation.results().popCrumb();
+    }
   }
 
   /**
    * Read the schema and create dedicated validators from keywords.
+   *
+   * @return The validators grouped by keyword, in cost order.
    */
-  private Map<String, Collection<JsonValidator>> read(final ValidationContext<OAI3> context, final JsonNode schemaNode) {
-    Map<String, Collection<JsonValidator>> validatorMap = new HashMap<>();
+  private List<Collection<JsonValidator>> read(final ValidationContext<OAI3> context, final JsonNode schemaNode) {
+    Map<String, Collection<JsonValidator>> validatorMap = new LinkedHashMap<>();
 
     Iterator<String> fieldNames = schemaNode.fieldNames();
     while (fieldNames.hasNext()) {
@@ -174,7 +390,20 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
 
     applyAdditionalValidators(validatorMap, schemaNode);
 
-    return validatorMap;
+    List<String> keywords = new ArrayList<>(validatorMap.keySet());
+    keywords.sort(Comparator.comparingInt(SchemaValidator::getKeywordOrder));
+
+    List<Collection<JsonValidator>> keywordValidators = new ArrayList<>(keywords.size());
+    for (String keyword : keywords) {
+      keywordValidators.add(validatorMap.get(keyword));
+    }
+
+    return keywordValidators;
+  }
+
+  private static int getKeywordOrder(final String keyword) {
+    int order = KEYWORD_ORDER.indexOf(keyword);
+    return (order != -1) ? order : KEYWORD_ORDER.size();
   }
 
   private void applyAdditionalValidators(final Map<String, Collection<JsonValidator>> validatorMap,
@@ -212,4 +441,60 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
       return null;
     }
   }
+
+  /**
+   * Dispatch of the keyword validators when streaming containers.
+   */
+  private static final class StreamPlan {
+    // All fields are final, the plan is published to other threads without locking.
+    private final List<JsonValidator> structuralValidators;
+    private final PropertiesValidator properties;
+    private final AdditionalPropertiesValidator additionalProperties;
+    private final ItemsValidator items;
+    private final ReferenceValidator reference;
+    private final boolean skeletonMembers;
+    private final boolean streamable;
+
+    private StreamPlan(final JsonValidator[] validators) {
+      final List<JsonValidator> structural = new ArrayList<>();
+      PropertiesValidator propertiesValidator = null;
+      AdditionalPropertiesValidator additionalPropertiesValidator = null;
+      ItemsValidator itemsValidator = null;
+      ReferenceValidator referenceValidator = null;
+      boolean members = false;
+      boolean supported = true;
+
+      for (JsonValidator validator : validators) {
+        if (validator instanceof TypeValidator || validator instanceof NullableValidator) {
+          structural.add(validator);
+        } else if (validator instanceof RequiredValidator
+          || validator instanceof MinPropertiesValidator
+          || validator instanceof MaxPropertiesValidator
+          || validator instanceof MinItemsValidator
+          || validator instanceof MaxItemsValidator) {
+          structural.add(validator);
+          members = true;
+        } else if (validator instanceof PropertiesValidator) {
+          propertiesValidator = (PropertiesValidator) validator;
+        } else if (validator instanceof AdditionalPropertiesValidator) {
+          additionalPropertiesValidator = (AdditionalPropertiesValidator) validator;
+        } else if (validator instanceof ItemsValidator) {
+          itemsValidator = (ItemsValidator) validator;
+        } else if (validator instanceof ReferenceValidator) {
+          referenceValidator = (ReferenceValidator) validator;
+        } else {
+          supported = false;
+        }
+      }
+
+      structuralValidators = structural;
+      properties = propertiesValidator;
+      additionalProperties = additionalPropertiesValidator;
+      items = itemsValidator;
+      reference = referenceValidator;
+      skeletonMembers = members;
+      // References are followed only when alone
+      streamable = supported && (referenceValidator == null || validators.length == 1);
+    }
+  }
 }
@@ -12,4 +12,14 @@ public final class ValidationOptions {
    * Setting this to {@code true} invert the behaviour.
    */
   public static final byte ADDITIONAL_PROPS_RESTRICT = 1;
+
+  /**
+   * By default, JSON contents are read as trees before validation.
+   * <p/>
+   * Setting this to {@code true} validates JSON contents given as strings or streams
+   * directly from the parser tokens, without building the whole tree.
+   * The same errors are reported but possibly in a different order, in fast fail mode
+   * the first reported error may then differ.
+   */
+  public static final byte STREAM_JSON_CONTENT = 2;
 }
@@ -8,6 +8,8 @@ import org.openapi4j.core.model.v3.OAI3Context;
 import org.openapi4j.core.model.v3.OAI3SchemaKeywords;
 import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.core.validation.ValidationSeverity;
+import org.openapi4j.schema.validator.regex.JdkRegexEngine;
+import org.openapi4j.schema.validator.regex.LinearRegexEngine;
 import org.openapi4j.schema.validator.v3.*;
 
 import java.io.IOException;
@@ -15,7 +17,7 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 import static org.openapi4j.schema.validator.v3.ValidationOptions.ADDITIONAL_PROPS_RESTRICT;
 
 public class ValidationTest {
@@ -194,6 +196,91 @@ public class ValidationTest {
     ValidationUtil.validate("/schema/override/myEntityValidation.json", null, validators, false);
   }
 
+  @Test
+  public void customFormatChecker() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"properties\": { \"code\": { \"format\": \"x-code\" }, \"mail\": { \"format\": \"email\" } } }");
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.addFormatChecker("x-code", value -> value.startsWith("X"));
+    validationContext.addFormatChecker(OAI3SchemaKeywords.FORMAT_EMAIL, value -> value.endsWith("@example.com"));
+
+    SchemaValidator validator = new SchemaValidator(validationContext, null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(TreeUtil.json.readTree("{ \"code\": \"X1\", \"mail\": \"joe@example.com\" }"), validation);
+    assertTrue(validation.isValid());
+    assertEquals(0, validation.results().size());
+
+    validation = new ValidationData<>();
+    validator.validate(TreeUtil.json.readTree("{ \"code\": \"Y1\", \"mail\": \"joe@test.com\" }"), validation);
+    assertEquals(2, validation.results().size());
+    assertEquals("code.<format>", validation.results().items().get(0).schemaCrumbs());
+    assertEquals("mail.<format>", validation.results().items().get(1).schemaCrumbs());
+  }
+
+  @Test
+  public void customFormatCheckerKeepsTypeCheck() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"properties\": { \"count\": { \"format\": \"int32\" } } }");
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.addFormatChecker(OAI3SchemaKeywords.FORMAT_INT32, value -> true);
+
+    SchemaValidator validator = new SchemaValidator(validationContext, null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(TreeUtil.json.readTree("{ \"count\": 3 }"), validation);
+    assertTrue(validation.isValid());
+
+    validation = new ValidationData<>();
+    validator.validate(TreeUtil.json.readTree("{ \"count\": 3.5 }"), validation);
+    assertFalse(validation.isValid());
+    assertEquals("count.<format>", validation.results().items().get(0).schemaCrumbs());
+  }
+
+  @Test
+  public void regexEngine() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree(
+      "{ \"pattern\": \"(.*a){10}x\", \"patternProperties\": { \"(.*a){10}x\": { \"type\": \"integer\" } }, \"additionalProperties\": false }");
+    String evilValue = "aaaaaaaaaaaaaaaaaaaaaaaa!";
+    JsonNode valueNode = JsonNodeFactory.instance.objectNode().put(evilValue, 1);
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+
+    // Linear engine, additional property is reported
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.setRegexEngine(LinearRegexEngine.instance());
+    SchemaValidator validator = new SchemaValidator(validationContext, null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(valueNode, validation);
+    assertEquals(1, validation.results().size());
+    assertEquals(1000, validation.results().items().get(0).code().intValue());
+
+    validation = new ValidationData<>();
+    validator.validate(JsonNodeFactory.instance.objectNode().put("aaaaaaaaaax", "foo"), validation);
+    assertEquals(1, validation.results().size());
+    assertEquals(1027, validation.results().items().get(0).code().intValue());
+
+    // JDK engine with budget, evaluation errors are reported
+    validationContext = new ValidationContext<>(apiContext);
+    validationContext.setRegexEngine(new JdkRegexEngine(100_000));
+    validator = new SchemaValidator(validationContext, null, schemaNode);
+
+    validation = new ValidationData<>();
+    validator.validate(valueNode, validation);
+    assertEquals(2, validation.results().size());
+    assertEquals(1030, validation.results().items().get(0).code().intValue());
+    assertEquals(1030, validation.results().items().get(1).code().intValue());
+
+    validation = new ValidationData<>();
+    validator.validate(JsonNodeFactory.instance.textNode(evilValue), validation);
+    assertEquals(1, validation.results().size());
+    assertEquals("<pattern>", validation.results().items().get(0).schemaCrumbs());
+    assertEquals(1030, validation.results().items().get(0).code().intValue());
+  }
+
   @Test
   public void infoInAnyOfValidation() throws Exception {
     JsonNode schemaNode = TreeUtil.json.readTree("{ \"properties\": { \"foo\": { \"anyOf\": [ { \"type\": \"integer\" }, { \"minimum\": 2 } ] } }}");
@@ -266,6 +353,74 @@ public class ValidationTest {
     assertEquals("/f~0~1oo", validation.results().items().get(0).dataJsonPointer());
   }
 
+  @Test
+  public void fastFailCheapKeywordsFirst() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"pattern\": \"^[a-z]+$\", \"maxLength\": 2, \"type\": \"string\" }");
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.setFastFail(true);
+
+    SchemaValidator validator = new SchemaValidator(validationContext, null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(JsonNodeFactory.instance.textNode("ABCD"), validation);
+    assertEquals(1, validation.results().size());
+    assertEquals("<maxLength>", validation.results().items().get(0).schemaCrumbs());
+
+    validation = new ValidationData<>();
+    validator.validate(JsonNodeFactory.instance.numberNode(1), validation);
+    assertEquals(1, validation.results().size());
+    assertEquals("<type>", validation.results().items().get(0).schemaCrumbs());
+  }
+
+  @Test
+  public void oneOfAnyOfErrorsOnlyWhenNoMatch() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree(
+      "{ \"oneOf\": [ { \"type\": \"integer\" }, { \"type\": \"string\", \"anyOf\": [ { \"maxLength\": 1 }, { \"pattern\": \"^a\" } ] } ] }");
+    SchemaValidator validator = new SchemaValidator(null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(JsonNodeFactory.instance.textNode("abc"), validation);
+    assertTrue(validation.isValid());
+    assertEquals(0, validation.results().size());
+
+    // Errors of all schemas are reported
+    validation = new ValidationData<>();
+    validator.validate(JsonNodeFactory.instance.textNode("bcd"), validation);
+    assertFalse(validation.isValid());
+    assertEquals(3, validation.results().size());
+    assertEquals("<oneOf>.<type>", validation.results().items().get(0).schemaCrumbs());
+    assertEquals("<oneOf>.<anyOf>.<maxLength>", validation.results().items().get(1).schemaCrumbs());
+    assertEquals("<oneOf>.<anyOf>.<pattern>", validation.results().items().get(2).schemaCrumbs());
+  }
+
+  @Test
+  public void validationDataPool() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"type\": \"integer\" }");
+    SchemaValidator validator = new SchemaValidator(null, schemaNode);
+
+    ValidationData<String> validation = ValidationDataPool.acquire("delegate");
+    assertEquals("delegate", validation.delegate());
+    // Nested acquisition gets a new instance
+    ValidationData<Void> nested = ValidationDataPool.acquire(null);
+    assertNotSame(validation, nested);
+
+    validator.validate(JsonNodeFactory.instance.textNode("foo"), validation);
+    assertFalse(validation.isValid());
+    ValidationDataPool.release(validation);
+
+    // Released instance is reused and cleared
+    ValidationData<Void> reused = ValidationDataPool.acquire(null);
+    assertSame(validation, reused);
+    assertTrue(reused.isValid());
+    assertEquals(0, reused.results().size());
+    assertNull(reused.delegate());
+
+    validator.validate(JsonNodeFactory.instance.numberNode(1), reused);
+    assertTrue(reused.isValid());
+  }
+
   @Test(expected = RuntimeException.class)
   public void schemaValidatorResolutionException() throws RuntimeException, IOException {
     new SchemaValidator(
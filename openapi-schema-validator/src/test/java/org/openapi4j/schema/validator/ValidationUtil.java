@@ -1,15 +1,21 @@
 package org.openapi4j.schema.validator;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.junit.Assert;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.model.v3.OAI3Context;
 import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.v3.SchemaValidator;
 import org.openapi4j.schema.validator.v3.ValidatorInstance;
 
+import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 class ValidationUtil {
@@ -76,6 +82,39 @@ class ValidationUtil {
       if (isValidExpected != validation.results().isValid()) {
         Assert.fail();
       }
+
+      checkStreaming(schemaValidator, contentNode, validation, testDescription + " - " + test.get("description"));
+    }
+  }
+
+  /**
+   * Check that validation from parser tokens gives the same results as validation from tree.
+   */
+  private static void checkStreaming(SchemaValidator schemaValidator,
+                                     JsonNode contentNode,
+                                     ValidationData<Void> treeValidation,
+                                     String testDescription) {
+
+    ValidationData<Void> validation = new ValidationData<>();
+    try (JsonParser parser = TreeUtil.json.createParser(TreeUtil.json.writeValueAsString(contentNode))) {
+      schemaValidator.validate(parser, validation);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+
+    Assert.assertEquals(testDescription, treeValidation.isValid(), validation.isValid());
+
+    if (!schemaValidator.getContext().isFastFail()) {
+      Assert.assertEquals(testDescription, toSortedStrings(treeValidation), toSortedStrings(validation));
+    }
+  }
+
+  private static List<String> toSortedStrings(ValidationData<Void> validation) {
+    List<String> items = new ArrayList<>();
+    for (ValidationResults.ValidationItem item : validation.results().items()) {
+      items.add(item.toString());
     }
+    Collections.sort(items);
+    return items;
   }
 }
@@ -0,0 +1,111 @@
+package org.openapi4j.schema.validator.regex;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RegexEngineTest {
+  private static final String[] PATTERNS = {
+    "", "a", "abc", "^abc$", "a|b|", "(ab|a)*c", "^(a+)+$", "(a|aa)+b", "a*?b", "a{2}", "a{2,}", "a{1,3}b",
+    "^[a-z0-9-]+$", "[^a-c]", "[]a]", "[a-]", "[-a]", "[\\d\\s]+", "\\w+@\\w+", "\\D\\W\\S", "^\\d{5}$",
+    "x.y", "^.*$", "\\bab\\b", "\\Bb", "\\Aab\\z", "ab\\Z", "ab$", "(?:ab)+", "(?<name>a)b", "\\Qa.b\\E", "\\Qa.b",
+    "\\t\\n\\x41\\u0042\\x{43}\\0101\\cA", "\\.\\*\\$", "\\p{Lower}+", "\\p{L}\\P{L}", "\\pL", "\\p{IsLu}", "\\p{InBasicLatin}+",
+    "\\p{IsLatin}", "[\\p{Alpha}_]+", "(a*)*b", "((a|b)c)?d", "^$", "$", "^", "[\\-\\]]"
+  };
+
+  private static final String ALPHABET = "abcxy0_- .@\t\n\réAB";
+  private static final int NB_RANDOM_VALUES = 500;
+
+  @Test
+  public void linearEngineMatchesJdk() {
+    Random random = new Random(0);
+
+    for (String regex : PATTERNS) {
+      Pattern pattern = Pattern.compile(regex);
+      RegexEngine.Regex linear = LinearRegexEngine.instance().compile(regex);
+      RegexEngine.Regex jdk = new JdkRegexEngine(1_000_000).compile(regex);
+
+      for (int i = 0; i < NB_RANDOM_VALUES; i++) {
+        String value = randomValue(random);
+
+        String message = "'" + regex + "' with '" + value + "'";
+        assertEquals(message, pattern.matcher(value).find(), linear.find(value));
+        assertEquals(message, pattern.matcher(value).matches(), linear.matches(value));
+        assertEquals(message, pattern.matcher(value).find(), jdk.find(value));
+        assertEquals(message, pattern.matcher(value).matches(), jdk.matches(value));
+      }
+    }
+  }
+
+  @Test
+  public void lineTerminators() {
+    RegexEngine.Regex regex = LinearRegexEngine.instance().compile("ab$");
+
+    assertTrue(regex.find("ab\n"));
+    assertTrue(regex.find("ab\r\n"));
+    assertTrue(regex.find("ab "));
+    assertFalse(regex.find("ab\n\n"));
+    assertFalse(regex.matches("ab\n"));
+  }
+
+  @Test
+  public void linearTime() {
+    StringBuilder value = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      value.append('a');
+    }
+    value.append('!');
+
+    assertFalse(LinearRegexEngine.instance().compile("^(a+)+$").find(value));
+    assertFalse(LinearRegexEngine.instance().compile("(a|aa)+b").matches(value));
+    assertFalse(LinearRegexEngine.instance().compile("(.*a){10}x").find(value));
+    assertTrue(LinearRegexEngine.instance().compile("^a{1,100}").find(value));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void jdkBudget() {
+    new JdkRegexEngine(100_000).compile("(.*a){10}x").find("aaaaaaaaaaaaaaaaaaaaaaaa!");
+  }
+
+  @Test
+  public void unsupportedSyntax() {
+    String[] regexes = {"(a)\\1", "a(?=b)", "(?!a)b", "(?<=a)b", "(?i)a", "a*+", "[a[b]]", "[a&&b]", "\\k<name>", "a{99999}b{99999}", "a{0,2000000000}", "a{2000000000}", "(a{0,60000}){0,60000}"};
+
+    for (String regex : regexes) {
+      try {
+        LinearRegexEngine.instance().compile(regex);
+        throw new AssertionError("'" + regex + "' should not be supported.");
+      } catch (IllegalArgumentException ignored) {
+        // expected
+      }
+    }
+  }
+
+  @Test
+  public void invalidSyntax() {
+    String[] regexes = {"(a", "a)", "[a", "*a", "a{", "a{2,1}", "\\", "[b-a]", "\\p{Unknown}"};
+
+    for (String regex : regexes) {
+      try {
+        LinearRegexEngine.instance().compile(regex);
+        throw new AssertionError("'" + regex + "' should be invalid.");
+      } catch (IllegalArgumentException ignored) {
+        // expected
+      }
+    }
+  }
+
+  private static String randomValue(Random random) {
+    int length = random.nextInt(12);
+    StringBuilder value = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return value.toString();
+  }
+}
@@ -0,0 +1,107 @@
+package org.openapi4j.schema.validator.v3;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that core format scanners accept exactly what the previous regular expressions accepted.
+ */
+public class FormatCheckersTest {
+  private static final Pattern BASE64_PATTERN = Pattern.compile("^([A-Za-z0-9+/]{4})*([A-Za-z0-9+/]{4}|[A-Za-z0-9+/]{3}=|[A-Za-z0-9+/]{2}==)$");
+  private static final Pattern DATE_PATTERN = Pattern.compile("^\\d{4}-(?:0[0-9]{1}|1[0-2]{1})-(0?[1-9]|[12][0-9]|3[01])$");
+  private static final Pattern DATETIME_PATTERN = Pattern.compile("^\\d{4}-(?:0[0-9]{1}|1[0-2]{1})-(0?[1-9]|[12][0-9]|3[01])[tT ]\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?([zZ]|[+-]\\d{2}:\\d{2})$");
+  private static final Pattern EMAIL_PATTERN = Pattern.compile("^\\S+@\\S+$");
+  private static final Pattern IPV4_PATTERN = Pattern.compile("^(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)$");
+  private static final Pattern IPV6_PATTERN = Pattern.compile("^\\s*((([0-9A-Fa-f]{1,4}:){7}([0-9A-Fa-f]{1,4}|:))|(([0-9A-Fa-f]{1,4}:){6}(:[0-9A-Fa-f]{1,4}|((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)(\\.(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)){3})|:))|(([0-9A-Fa-f]{1,4}:){5}(((:[0-9A-Fa-f]{1,4}){1,2})|:((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)(\\.(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)){3})|:))|(([0-9A-Fa-f]{1,4}:){4}(((:[0-9A-Fa-f]{1,4}){1,3})|((:[0-9A-Fa-f]{1,4})?:((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)(\\.(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)){3}))|:))|(([0-9A-Fa-f]{1,4}:){3}(((:[0-9A-Fa-f]{1,4}){1,4})|((:[0-9A-Fa-f]{1,4}){0,2}:((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)(\\.(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)){3}))|:))|(([0-9A-Fa-f]{1,4}:){2}(((:[0-9A-Fa-f]{1,4}){1,5})|((:[0-9A-Fa-f]{1,4}){0,3}:((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)(\\.(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)){3}))|:))|(([0-9A-Fa-f]{1,4}:){1}(((:[0-9A-Fa-f]{1,4}){1,6})|((:[0-9A-Fa-f]{1,4}){0,4}:((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)(\\.(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)){3}))|:))|(:(((:[0-9A-Fa-f]{1,4}){1,7})|((:[0-9A-Fa-f]{1,4}){0,5}:((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)(\\.(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)){3}))|:)))(%.+)?\\s*$");
+  private static final Pattern UUID_PATTERN = Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+  private static final int NB_RANDOM_VALUES = 20000;
+
+  @Test
+  public void byteFormat() {
+    check(BASE64_PATTERN, FormatCheckers::isByte, "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/=",
+      "", "=", "==", "AB==", "ABC=", "ABCD", "A===", "AB=C", "ABCDE", "ABCDAB==", "AB==ABCD", "/+/+", "ab c", "YWJj\n");
+  }
+
+  @Test
+  public void dateFormat() {
+    check(DATE_PATTERN, FormatCheckers::isDate, "0123-",
+      "2020-01-01", "2020-1-01", "2020-00-00", "2020-09-9", "2020-13-01", "2020-12-31", "2020-12-32",
+      "2020-12-0", "2020-12-00", "2020-12-01 ", "20201-12-01", "2020-12-1", "2020-12-301", "2020/12/01", "");
+  }
+
+  @Test
+  public void dateTimeFormat() {
+    check(DATETIME_PATTERN, FormatCheckers::isDateTime, "0129-:.tTzZ +",
+      "2020-12-30T10:15:30Z", "2020-12-30t10:15:30z", "2020-12-30 10:15:30+01:00", "2020-12-3T10:15:30-01:00",
+      "2020-12-30T10:15:30.123456Z", "2020-12-30T10:15:30.Z", "2020-12-30T10:15:30", "2020-12-30T10:15Z",
+      "2020-12-30T10:15:30+0100", "2020-12-30T10:15:30+01:00Z", "2020-12-30", "2020-12-30T", "2020-12-35T10:15:30Z");
+  }
+
+  @Test
+  public void emailFormat() {
+    check(EMAIL_PATTERN, FormatCheckers::isEmail, "ab@. \t\n ",
+      "a@b", "@b", "a@", "@", "a@@b", "a b@c", "ab@c\n", "joe.bloggs@example.com", "a @b", "");
+  }
+
+  @Test
+  public void ipv4Format() {
+    check(IPV4_PATTERN, FormatCheckers::isIpv4, "0125.",
+      "0.0.0.0", "255.255.255.255", "256.0.0.0", "1.2.3", "1.2.3.4.5", "01.02.003.004", "001.2.3.4",
+      "1234.1.1.1", "1..2.3", "1.2.3.", ".1.2.3", "299.1.1.1", "199.1.1.1", "");
+  }
+
+  @Test
+  public void ipv6Format() {
+    check(IPV6_PATTERN, FormatCheckers::isIpv6, "01aF:.%2 \n ",
+      "::", "::1", "1::", "1:2:3:4:5:6:7:8", "1:2:3:4:5:6:7::", "::2:3:4:5:6:7:8", "1:2:3:4:5:6:7:8:9",
+      "1::2::3", "1:::2", ":1:2:3:4:5:6:7", "12345::", "::ffff:192.168.0.1", "1:2:3:4:5:6:1.2.3.4",
+      "1:2:3:4:5::1.2.3.4", "1:2:3:4:5:6::1.2.3.4", "::01.2.3.4", "::0.0.0.0", "::256.1.1.1", "1.2.3.4",
+      " ::1 ", "\t::1\n", "::1%eth0", "::1%", "::1%\n", "::1%a\n \r", "::1%a ", "::1 %a", "fe80::1%a b",
+      "1:2:3:4::1.2.3.4", "::1.2.3.4:1", "::1.2.3", "1:2:3:4:5:6:7:1.2.3.4", "");
+  }
+
+  @Test
+  public void uuidFormat() {
+    check(UUID_PATTERN, FormatCheckers::isUuid, "0aF-g",
+      "123e4567-e89b-12d3-a456-426614174000", "123E4567-E89B-12D3-A456-426614174000",
+      "123e4567e89b12d3a456426614174000", "123e4567-e89b-12d3-a456-42661417400", "g23e4567-e89b-12d3-a456-426614174000", "");
+  }
+
+  private static void check(Pattern pattern, FormatChecker checker, String alphabet, String... values) {
+    for (String value : values) {
+      assertEquals("'" + value + "'", pattern.matcher(value).matches(), checker.check(value));
+    }
+
+    // Random mutations of the given values
+    Random random = new Random(0);
+    for (int i = 0; i < NB_RANDOM_VALUES; i++) {
+      StringBuilder value = new StringBuilder(values[random.nextInt(values.length)]);
+
+      int nbMutations = 1 + random.nextInt(3);
+      for (int j = 0; j < nbMutations; j++) {
+        int index = value.length() == 0 ? 0 : random.nextInt(value.length());
+        char c = alphabet.charAt(random.nextInt(alphabet.length()));
+
+        switch (random.nextInt(3)) {
+          case 0:
+            value.insert(index, c);
+            break;
+          case 1:
+            if (value.length() != 0) value.setCharAt(index, c);
+            break;
+          default:
+            if (value.length() != 0) value.deleteCharAt(index);
+            break;
+        }
+      }
+
+      String mutated = value.toString();
+      assertEquals("'" + mutated + "'", pattern.matcher(mutated).matches(), checker.check(mutated));
+    }
+  }
+}